@@ -1,6 +1,7 @@
 plugins {
     application
     java
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.passwordGenerator"
@@ -48,7 +49,7 @@ dependencies {
 
     testImplementation("org.junit.jupiter:junit-jupiter-api:5.11.3")
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:5.11.3")
-    testRuntimeOnly("org.junit.jupiter:junit-jupiter-params:5.11.3")
+    testImplementation("org.junit.jupiter:junit-jupiter-params:5.11.3")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
@@ -68,6 +69,20 @@ tasks.javadoc {
     options.encoding = "UTF-8"
 }
 
+jmh {
+    jmhVersion.set("1.37")
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(2)
+    benchmarkMode.set(listOf("thrpt", "avgt"))
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+    if (project.hasProperty("jmhIncludes")) {
+        includes.set(listOf(project.property("jmhIncludes").toString()))
+    }
+}
+
 tasks.jar { enabled = false }
 tasks.distZip { enabled = false }
 tasks.distTar { enabled = false }
@@ -0,0 +1,73 @@
+package com.passwordGenerator.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH-бенчмарк выборки индекса алфавита.
+ * Сравнивает {@link SecureRandom#nextInt(int)}, буферизованный {@link BufferedRandomSource#nextInt(int)}
+ * и {@link BoundedIndexSampler#nextIndex()} поверх буферизованного источника.
+ *
+ * @author Akovi
+ * @see BoundedIndexSampler
+ * @see BufferedRandomSource
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IndexSamplerBenchmark {
+
+    @Param({"10", "62", "152"})
+    public int bound;
+
+    private SecureRandom secureRandom;
+    private BufferedRandomSource bufferedSource;
+    private BoundedIndexSampler sampler;
+
+    /**
+     * Создаёт источники случайных чисел для текущей границы.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        secureRandom = new SecureRandom();
+        bufferedSource = new BufferedRandomSource(new SecureRandomSource());
+        sampler = new BoundedIndexSampler(new BufferedRandomSource(new SecureRandomSource()), bound);
+    }
+
+    /**
+     * Один вызов SecureRandom на индекс.
+     *
+     * @return случайный индекс
+     */
+    @Benchmark
+    public int secureRandomNextInt() {
+        return secureRandom.nextInt(bound);
+    }
+
+    /**
+     * Индекс из буфера случайных байт с отбраковкой.
+     *
+     * @return случайный индекс
+     */
+    @Benchmark
+    public int bufferedNextInt() {
+        return bufferedSource.nextInt(bound);
+    }
+
+    /**
+     * Индекс методом умножения со сдвигом поверх буфера.
+     *
+     * @return случайный индекс
+     */
+    @Benchmark
+    public int multiplyShiftNextIndex() {
+        return sampler.nextIndex();
+    }
+}
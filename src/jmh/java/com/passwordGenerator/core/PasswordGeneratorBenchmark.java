@@ -0,0 +1,81 @@
+package com.passwordGenerator.core;
+
+import com.passwordGenerator.exceptions.InvalidPasswordConfigException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH-бенчмарк генерации паролей.
+ * Измеряет {@link PasswordGenerator#generate(PasswordGenerationConfig)} и
+ * {@link PasswordGenerator#generateParallel(PasswordGenerationConfig)} для разных длин,
+ * наборов символов и количества обязательных символов.
+ * Запуск: {@code ./gradlew jmh}, результаты пишутся в {@code build/reports/jmh/results.json}.
+ *
+ * @author Akovi
+ * @see PasswordGenerator
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PasswordGeneratorBenchmark {
+
+    @Param({"16", "10000", "1000000"})
+    public int length;
+
+    @Param({"LATIN", "LATIN_DIGITS", "ALL"})
+    public String characterSets;
+
+    @Param({"0", "8"})
+    public int requiredCount;
+
+    private PasswordGenerator generator;
+    private PasswordGenerationConfig config;
+
+    /**
+     * Создаёт генератор и конфигурацию для текущей комбинации параметров.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        generator = new PasswordGenerator();
+        config = new PasswordGenerationConfig(length);
+        config.setUseLatin(true);
+        if (!characterSets.equals("LATIN")) {
+            config.setUseDigits(true);
+        }
+        if (characterSets.equals("ALL")) {
+            config.setUseCyrillic(true);
+            config.setUseSpecial(true);
+        }
+        for (int i = 0; i < requiredCount; i++) {
+            config.addRequiredCharacter((char) ('一' + i));
+        }
+    }
+
+    /**
+     * Однопоточная генерация пароля.
+     *
+     * @return сгенерированный пароль
+     * @throws InvalidPasswordConfigException если конфигурация некорректна
+     */
+    @Benchmark
+    public String generate() throws InvalidPasswordConfigException {
+        return generator.generate(config);
+    }
+
+    /**
+     * Параллельная генерация пароля.
+     *
+     * @return сгенерированный пароль
+     * @throws InvalidPasswordConfigException если конфигурация некорректна
+     */
+    @Benchmark
+    public String generateParallel() throws InvalidPasswordConfigException {
+        return generator.generateParallel(config);
+    }
+}
@@ -1,7 +1,9 @@
 package com.passwordGenerator;
 
+import com.passwordGenerator.ui.cli.PasswordGeneratorBatchCLI;
 import com.passwordGenerator.ui.console.PasswordGeneratorConsoleUI;
 import com.passwordGenerator.ui.gui.PasswordGeneratorGUI;
+import com.passwordGenerator.ui.server.PasswordGeneratorServer;
 import com.passwordGenerator.utils.ArgumentParser;
 
 import javafx.application.Application;
@@ -19,10 +21,15 @@ import java.util.Arrays;
  * Поддерживаемые аргументы:
  * {@code --ui=console} - запуск консольного интерфейса (по умолчанию)
  * {@code --ui=gui} - запуск графического интерфейса JavaFX
+ * {@code --ui=cli} - неинтерактивная пакетная генерация или тест производительности,
+ * см. {@link PasswordGeneratorBatchCLI}
+ * {@code --ui=server} - локальный HTTP-сервер генерации, см. {@link PasswordGeneratorServer}
  *
  * @author Akovi
+ * @see PasswordGeneratorBatchCLI
  * @see PasswordGeneratorConsoleUI
  * @see PasswordGeneratorGUI
+ * @see PasswordGeneratorServer
  * @see ArgumentParser
  */
 public class PasswordGeneratorApplication {
@@ -45,6 +52,12 @@ public class PasswordGeneratorApplication {
             if ("gui".equalsIgnoreCase(uiMode)) {
                 logger.info("Инициализация GUI приложения...");
                 launchGuiWithFallback();
+            } else if ("cli".equalsIgnoreCase(uiMode)) {
+                logger.info("Запуск пакетного режима командной строки...");
+                launchCli(args);
+            } else if ("server".equalsIgnoreCase(uiMode)) {
+                logger.info("Запуск сервера генерации паролей...");
+                PasswordGeneratorServer.run(args);
             } else {
                 logger.info("Инициализация консольного приложения...");
                 launchConsole();
@@ -90,6 +103,20 @@ public class PasswordGeneratorApplication {
         }
     }
 
+    /**
+     * Запускает неинтерактивный пакетный режим и завершает процесс с его кодом, если он ненулевой.
+     *
+     * @param args аргументы командной строки
+     * @see PasswordGeneratorBatchCLI#run(String[])
+     */
+    private static void launchCli(String[] args) {
+        int exitCode = new PasswordGeneratorBatchCLI().run(args);
+        logger.info("Пакетный режим завершён с кодом {}", exitCode);
+        if (exitCode != PasswordGeneratorBatchCLI.EXIT_OK) {
+            System.exit(exitCode);
+        }
+    }
+
     /**
      * Запускает графический интерфейс с автоматическим переключением на консоль при ошибке.
      *
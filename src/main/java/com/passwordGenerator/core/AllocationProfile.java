@@ -0,0 +1,234 @@
+package com.passwordGenerator.core;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Профиль выделения памяти и работы сборщика мусора за серию генераций.
+ * Выделенная память считается для текущего потока через
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)},
+ * количество и время сборок мусора - суммарно по всем {@link GarbageCollectorMXBean}.
+ *
+ * @author Akovi
+ * @see PasswordCreationTimeEstimator
+ */
+public final class AllocationProfile {
+
+    /** Значение, означающее, что JVM не поддерживает измерение */
+    public static final long UNSUPPORTED = -1;
+
+    private final long allocatedBytes;
+    private final long gcCount;
+    private final long gcTimeMillis;
+    private final int passwordCount;
+    private final long characterCount;
+
+    /**
+     * Конструктор профиля.
+     *
+     * @param allocatedBytes выделено байт за серию или {@link #UNSUPPORTED}
+     * @param gcCount количество сборок мусора за серию или {@link #UNSUPPORTED}
+     * @param gcTimeMillis время сборок мусора за серию в миллисекундах или {@link #UNSUPPORTED}
+     * @param passwordCount количество сгенерированных паролей
+     * @param characterCount суммарное количество сгенерированных символов
+     */
+    public AllocationProfile(long allocatedBytes, long gcCount, long gcTimeMillis,
+                             int passwordCount, long characterCount) {
+        this.allocatedBytes = allocatedBytes;
+        this.gcCount = gcCount;
+        this.gcTimeMillis = gcTimeMillis;
+        this.passwordCount = passwordCount;
+        this.characterCount = characterCount;
+    }
+
+    /**
+     * Снимок счётчиков памяти и GC, от которого считается профиль серии.
+     */
+    public static final class Snapshot {
+
+        private final long allocatedBytes;
+        private final long gcCount;
+        private final long gcTimeMillis;
+
+        /**
+         * Конструктор снимка.
+         *
+         * @param allocatedBytes выделено байт текущим потоком
+         * @param gcCount суммарное количество сборок мусора
+         * @param gcTimeMillis суммарное время сборок мусора
+         */
+        private Snapshot(long allocatedBytes, long gcCount, long gcTimeMillis) {
+            this.allocatedBytes = allocatedBytes;
+            this.gcCount = gcCount;
+            this.gcTimeMillis = gcTimeMillis;
+        }
+
+        /**
+         * Строит профиль по разнице между текущими счётчиками и этим снимком.
+         *
+         * @param passwordCount количество сгенерированных паролей
+         * @param characterCount суммарное количество сгенерированных символов
+         * @return профиль серии
+         */
+        public AllocationProfile finish(int passwordCount, long characterCount) {
+            Snapshot end = snapshot();
+            return new AllocationProfile(
+                    difference(end.allocatedBytes, allocatedBytes),
+                    difference(end.gcCount, gcCount),
+                    difference(end.gcTimeMillis, gcTimeMillis),
+                    passwordCount, characterCount);
+        }
+
+        /**
+         * Вычисляет разницу счётчиков с учётом неподдерживаемых значений.
+         *
+         * @param end значение в конце серии
+         * @param start значение в начале серии
+         * @return разница или {@link #UNSUPPORTED}
+         */
+        private static long difference(long end, long start) {
+            return end == UNSUPPORTED || start == UNSUPPORTED ? UNSUPPORTED : end - start;
+        }
+    }
+
+    /**
+     * Снимает текущие значения счётчиков памяти текущего потока и GC.
+     *
+     * @return снимок счётчиков
+     */
+    public static Snapshot snapshot() {
+        return new Snapshot(currentThreadAllocatedBytes(), totalGcCount(), totalGcTimeMillis());
+    }
+
+    /**
+     * Возвращает количество байт, выделенных текущим потоком.
+     *
+     * @return количество байт или {@link #UNSUPPORTED}
+     */
+    private static long currentThreadAllocatedBytes() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean instanceof com.sun.management.ThreadMXBean sunThreadBean
+                && sunThreadBean.isThreadAllocatedMemorySupported()
+                && sunThreadBean.isThreadAllocatedMemoryEnabled()) {
+            return sunThreadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return UNSUPPORTED;
+    }
+
+    /**
+     * Возвращает суммарное количество сборок мусора по всем сборщикам.
+     *
+     * @return количество сборок или {@link #UNSUPPORTED}
+     */
+    private static long totalGcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            long count = gcBean.getCollectionCount();
+            if (count < 0) {
+                return UNSUPPORTED;
+            }
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Возвращает суммарное время сборок мусора по всем сборщикам.
+     *
+     * @return время в миллисекундах или {@link #UNSUPPORTED}
+     */
+    private static long totalGcTimeMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            long time = gcBean.getCollectionTime();
+            if (time < 0) {
+                return UNSUPPORTED;
+            }
+            total += time;
+        }
+        return total;
+    }
+
+    /**
+     * Возвращает количество байт, выделенных за серию.
+     *
+     * @return количество байт или {@link #UNSUPPORTED}
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Возвращает количество сборок мусора за серию.
+     *
+     * @return количество сборок или {@link #UNSUPPORTED}
+     */
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    /**
+     * Возвращает время сборок мусора за серию.
+     *
+     * @return время в миллисекундах или {@link #UNSUPPORTED}
+     */
+    public long getGcTimeMillis() {
+        return gcTimeMillis;
+    }
+
+    /**
+     * Возвращает среднее количество байт, выделенных на один пароль.
+     *
+     * @return байт на пароль или {@link #UNSUPPORTED}
+     */
+    public double getBytesPerPassword() {
+        if (allocatedBytes == UNSUPPORTED || passwordCount == 0) {
+            return UNSUPPORTED;
+        }
+        return (double) allocatedBytes / passwordCount;
+    }
+
+    /**
+     * Возвращает среднее количество байт, выделенных на один сгенерированный символ.
+     *
+     * @return байт на символ или {@link #UNSUPPORTED}
+     */
+    public double getBytesPerCharacter() {
+        if (allocatedBytes == UNSUPPORTED || characterCount == 0) {
+            return UNSUPPORTED;
+        }
+        return (double) allocatedBytes / characterCount;
+    }
+
+    /**
+     * Форматирует количество байт в удобочитаемый вид (Б, КБ, МБ, ГБ).
+     *
+     * @param bytes количество байт
+     * @return строка с количеством байт или "н/д", если значение не поддерживается
+     */
+    public static String formatBytes(double bytes) {
+        if (bytes < 0) {
+            return "н/д";
+        }
+        if (bytes < 1024) {
+            return String.format("%.1f Б", bytes);
+        } else if (bytes < 1024 * 1024) {
+            return String.format("%.1f КБ", bytes / 1024);
+        } else if (bytes < 1024L * 1024 * 1024) {
+            return String.format("%.1f МБ", bytes / (1024 * 1024));
+        } else {
+            return String.format("%.1f ГБ", bytes / (1024L * 1024 * 1024));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AllocationProfile{allocatedBytes=" + allocatedBytes +
+                ", gcCount=" + gcCount +
+                ", gcTimeMillis=" + gcTimeMillis +
+                ", passwordCount=" + passwordCount +
+                ", characterCount=" + characterCount +
+                '}';
+    }
+}
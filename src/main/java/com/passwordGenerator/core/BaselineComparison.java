@@ -0,0 +1,199 @@
+package com.passwordGenerator.core;
+
+import com.passwordGenerator.core.PasswordCreationTimeEstimator.PerformanceResult;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Сравнение результатов теста производительности с сохранённым базовым отчётом.
+ * Для каждой длины, присутствующей в обоих отчётах, сравнивается медиана времени
+ * (или среднее, если статистики нет). Длина считается регрессией, если время выросло
+ * больше чем на заданный порог в процентах.
+ *
+ * @author Akovi
+ * @see BenchmarkReport
+ * @see PasswordCreationTimeEstimator
+ */
+public final class BaselineComparison {
+
+    /** Порог регрессии по умолчанию в процентах */
+    public static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+    private static final String ROW_FORMAT = "%-10s | %-12s | %-12s | %-10s | %-10s\n";
+    private static final int REPORT_WIDTH = 66;
+
+    /**
+     * Результат сравнения для одной длины пароля.
+     */
+    public static final class Entry {
+
+        private final int passwordLength;
+        private final double baselineNanos;
+        private final double currentNanos;
+        private final boolean regression;
+
+        /**
+         * Конструктор результата сравнения.
+         *
+         * @param passwordLength длина пароля
+         * @param baselineNanos время в базовом отчёте
+         * @param currentNanos время в текущем отчёте
+         * @param regression true если изменение превысило порог
+         */
+        Entry(int passwordLength, double baselineNanos, double currentNanos, boolean regression) {
+            this.passwordLength = passwordLength;
+            this.baselineNanos = baselineNanos;
+            this.currentNanos = currentNanos;
+            this.regression = regression;
+        }
+
+        /**
+         * Возвращает длину пароля.
+         *
+         * @return длина пароля
+         */
+        public int getPasswordLength() {
+            return passwordLength;
+        }
+
+        /**
+         * Возвращает время в базовом отчёте.
+         *
+         * @return время в наносекундах
+         */
+        public double getBaselineNanos() {
+            return baselineNanos;
+        }
+
+        /**
+         * Возвращает время в текущем отчёте.
+         *
+         * @return время в наносекундах
+         */
+        public double getCurrentNanos() {
+            return currentNanos;
+        }
+
+        /**
+         * Возвращает относительное изменение времени.
+         *
+         * @return изменение в процентах (положительное - замедление)
+         */
+        public double getChangePercent() {
+            return baselineNanos == 0 ? 0.0 : (currentNanos - baselineNanos) / baselineNanos * 100;
+        }
+
+        /**
+         * Проверяет, является ли изменение регрессией.
+         *
+         * @return true если замедление превысило порог
+         */
+        public boolean isRegression() {
+            return regression;
+        }
+    }
+
+    private final double thresholdPercent;
+    private final List<Entry> entries;
+
+    /**
+     * Приватный конструктор, используйте {@link #compare(BenchmarkReport, BenchmarkReport, double)}.
+     */
+    private BaselineComparison(double thresholdPercent, List<Entry> entries) {
+        this.thresholdPercent = thresholdPercent;
+        this.entries = List.copyOf(entries);
+    }
+
+    /**
+     * Сравнивает текущий отчёт с базовым.
+     *
+     * @param baseline базовый отчёт
+     * @param current текущий отчёт
+     * @param thresholdPercent допустимое замедление в процентах
+     * @return результат сравнения по длинам, присутствующим в обоих отчётах
+     * @throws IllegalArgumentException если порог отрицателен
+     */
+    public static BaselineComparison compare(BenchmarkReport baseline, BenchmarkReport current,
+                                             double thresholdPercent) {
+        if (thresholdPercent < 0) {
+            throw new IllegalArgumentException("Порог регрессии не может быть отрицательным, получено: "
+                    + thresholdPercent);
+        }
+        Map<Integer, PerformanceResult> baselineByLength = new LinkedHashMap<>();
+        for (PerformanceResult result : baseline.getResults()) {
+            baselineByLength.put(result.getPasswordLength(), result);
+        }
+        List<Entry> entries = new ArrayList<>();
+        for (PerformanceResult result : current.getResults()) {
+            PerformanceResult baselineResult = baselineByLength.get(result.getPasswordLength());
+            if (baselineResult == null) {
+                continue;
+            }
+            double baselineNanos = typicalTime(baselineResult);
+            double currentNanos = typicalTime(result);
+            boolean regression = currentNanos > baselineNanos * (1 + thresholdPercent / 100);
+            entries.add(new Entry(result.getPasswordLength(), baselineNanos, currentNanos, regression));
+        }
+        return new BaselineComparison(thresholdPercent, entries);
+    }
+
+    /**
+     * Возвращает типичное время результата: медиану, если есть статистика, иначе среднее.
+     *
+     * @param result результат измерения
+     * @return время в наносекундах
+     */
+    private static double typicalTime(PerformanceResult result) {
+        TimingStatistics statistics = result.getStatistics();
+        return statistics != null ? statistics.getMedian() : result.getAverageTimeNanos();
+    }
+
+    /**
+     * Возвращает результаты сравнения по длинам.
+     *
+     * @return неизменяемый список результатов
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Проверяет, есть ли хотя бы одна регрессия.
+     *
+     * @return true если хотя бы одна длина замедлилась сильнее порога
+     */
+    public boolean hasRegressions() {
+        return entries.stream().anyMatch(Entry::isRegression);
+    }
+
+    /**
+     * Возвращает отчёт о сравнении в текстовом формате.
+     *
+     * @return отчёт
+     */
+    public String toReport() {
+        StringBuilder report = new StringBuilder();
+        report.append("\nСРАВНЕНИЕ С БАЗОВЫМ ОТЧЁТОМ\n");
+        report.append(String.format("Порог регрессии: %.1f%%\n", thresholdPercent));
+        if (entries.isEmpty()) {
+            report.append("Нет общих длин для сравнения.\n");
+            return report.toString();
+        }
+        report.append(String.format(ROW_FORMAT, "Длина", "База", "Сейчас", "Изменение", "Статус"));
+        report.append("─".repeat(REPORT_WIDTH)).append("\n");
+        for (Entry entry : entries) {
+            report.append(String.format(ROW_FORMAT,
+                    entry.getPasswordLength(),
+                    PerformanceResult.formatTime(entry.getBaselineNanos()),
+                    PerformanceResult.formatTime(entry.getCurrentNanos()),
+                    String.format("%+.1f%%", entry.getChangePercent()),
+                    entry.isRegression() ? "РЕГРЕССИЯ" : "ОК"));
+        }
+        report.append("─".repeat(REPORT_WIDTH)).append("\n");
+        report.append(hasRegressions() ? "Обнаружены регрессии.\n" : "Регрессий не обнаружено.\n");
+        return report.toString();
+    }
+}
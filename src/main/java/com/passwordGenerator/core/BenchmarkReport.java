@@ -0,0 +1,377 @@
+package com.passwordGenerator.core;
+
+import com.passwordGenerator.core.PasswordCreationTimeEstimator.PerformanceResult;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Машиночитаемый отчёт о тесте производительности.
+ * Содержит название теста, метаданные окружения и конфигурации (версия JVM, количество
+ * процессоров, алгоритм источника случайности, параметры замеров) и результаты по длинам.
+ * Сохраняется и загружается в форматах JSON и CSV; формат выбирается по расширению файла.
+ *
+ * @author Akovi
+ * @see PasswordCreationTimeEstimator
+ * @see BaselineComparison
+ */
+public final class BenchmarkReport {
+
+    /** Ключ метаданных с названием теста */
+    public static final String TEST_NAME = "testName";
+    /** Ключ метаданных с моментом создания отчёта */
+    public static final String TIMESTAMP = "timestamp";
+    /** Ключ метаданных с версией JVM */
+    public static final String JAVA_VERSION = "javaVersion";
+    /** Ключ метаданных с производителем JVM */
+    public static final String JAVA_VENDOR = "javaVendor";
+    /** Ключ метаданных с названием виртуальной машины */
+    public static final String VM_NAME = "vmName";
+    /** Ключ метаданных с операционной системой */
+    public static final String OS = "os";
+    /** Ключ метаданных с количеством доступных процессоров */
+    public static final String AVAILABLE_PROCESSORS = "availableProcessors";
+    /** Ключ метаданных с максимальным размером кучи */
+    public static final String MAX_HEAP_BYTES = "maxHeapBytes";
+    /** Ключ метаданных с алгоритмом источника случайности */
+    public static final String RNG_ALGORITHM = "rngAlgorithm";
+    /** Ключ метаданных с количеством прогревочных раундов */
+    public static final String WARMUP_ROUNDS = "warmupRounds";
+    /** Ключ метаданных с количеством замеров на длину */
+    public static final String MEASUREMENT_ROUNDS = "measurementRounds";
+    /** Ключ метаданных с режимом прохода по длинам */
+    public static final String SWEEP_MODE = "sweepMode";
+    /** Ключ метаданных с количеством потоков прохода по длинам */
+    public static final String SWEEP_WORKERS = "sweepWorkers";
+    /** Ключ метаданных с наборами символов тестовой конфигурации */
+    public static final String CHARACTER_SETS = "characterSets";
+
+    private static final String[] CSV_COLUMNS = {
+            "passwordLength", "samples", "meanNanos", "medianNanos", "p90Nanos", "p99Nanos",
+            "minNanos", "maxNanos", "stdDevNanos", "ci95HalfWidthNanos",
+            "allocatedBytes", "gcCount", "gcTimeMillis"
+    };
+
+    private final Map<String, String> metadata;
+    private final List<PerformanceResult> results;
+
+    /**
+     * Конструктор отчёта.
+     *
+     * @param metadata метаданные окружения и конфигурации
+     * @param results результаты по длинам
+     */
+    public BenchmarkReport(Map<String, String> metadata, List<PerformanceResult> results) {
+        this.metadata = Collections.unmodifiableMap(new LinkedHashMap<>(metadata));
+        this.results = List.copyOf(results);
+    }
+
+    /**
+     * Собирает метаданные текущего окружения: момент создания, версию и производителя JVM,
+     * операционную систему, количество процессоров и максимальный размер кучи.
+     *
+     * @return изменяемое упорядоченное отображение метаданных
+     */
+    public static Map<String, String> environmentMetadata() {
+        Map<String, String> metadata = new LinkedHashMap<>();
+        metadata.put(TIMESTAMP, Instant.now().toString());
+        metadata.put(JAVA_VERSION, System.getProperty("java.version"));
+        metadata.put(JAVA_VENDOR, System.getProperty("java.vendor"));
+        metadata.put(VM_NAME, System.getProperty("java.vm.name"));
+        metadata.put(OS, System.getProperty("os.name") + " " + System.getProperty("os.version")
+                + " (" + System.getProperty("os.arch") + ")");
+        metadata.put(AVAILABLE_PROCESSORS, String.valueOf(Runtime.getRuntime().availableProcessors()));
+        metadata.put(MAX_HEAP_BYTES, String.valueOf(Runtime.getRuntime().maxMemory()));
+        return metadata;
+    }
+
+    /**
+     * Возвращает метаданные отчёта.
+     *
+     * @return неизменяемое отображение метаданных
+     */
+    public Map<String, String> getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * Возвращает название теста.
+     *
+     * @return название теста или пустая строка
+     */
+    public String getTestName() {
+        return metadata.getOrDefault(TEST_NAME, "");
+    }
+
+    /**
+     * Возвращает результаты по длинам.
+     *
+     * @return неизменяемый список результатов
+     */
+    public List<PerformanceResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Сохраняет отчёт в файл. Файлы с расширением .csv записываются в CSV, остальные - в JSON.
+     *
+     * @param file путь к файлу
+     * @throws IOException если запись не удалась
+     */
+    public void save(Path file) throws IOException {
+        String content = isCsv(file) ? toCsv() : toJson();
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Загружает отчёт из файла. Файлы с расширением .csv читаются как CSV, остальные - как JSON.
+     *
+     * @param file путь к файлу
+     * @return загруженный отчёт
+     * @throws IOException если чтение не удалось
+     * @throws IllegalArgumentException если содержимое файла некорректно
+     */
+    public static BenchmarkReport load(Path file) throws IOException {
+        String content = Files.readString(file, StandardCharsets.UTF_8);
+        return isCsv(file) ? fromCsv(content) : fromJson(content);
+    }
+
+    /**
+     * Проверяет, нужно ли использовать CSV для файла.
+     *
+     * @param file путь к файлу
+     * @return true если расширение файла .csv
+     */
+    private static boolean isCsv(Path file) {
+        return file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv");
+    }
+
+    /**
+     * Представляет отчёт в формате JSON.
+     *
+     * @return JSON-текст
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{\n  \"metadata\": {");
+        String separator = "\n";
+        for (Map.Entry<String, String> entry : metadata.entrySet()) {
+            json.append(separator).append("    ").append(quote(entry.getKey()))
+                    .append(": ").append(quote(entry.getValue()));
+            separator = ",\n";
+        }
+        json.append("\n  },\n  \"results\": [");
+        separator = "\n";
+        for (PerformanceResult result : results) {
+            String[] values = rowValues(result);
+            json.append(separator).append("    {");
+            for (int i = 0; i < CSV_COLUMNS.length; i++) {
+                json.append(i == 0 ? "" : ", ").append(quote(CSV_COLUMNS[i])).append(": ")
+                        .append(values[i].isEmpty() ? "null" : values[i]);
+            }
+            json.append('}');
+            separator = ",\n";
+        }
+        json.append("\n  ]\n}\n");
+        return json.toString();
+    }
+
+    /**
+     * Представляет отчёт в формате CSV. Метаданные записываются строками-комментариями
+     * вида "# ключ=значение" перед заголовком таблицы.
+     *
+     * @return CSV-текст
+     */
+    public String toCsv() {
+        StringBuilder csv = new StringBuilder();
+        for (Map.Entry<String, String> entry : metadata.entrySet()) {
+            csv.append("# ").append(entry.getKey()).append('=')
+                    .append(entry.getValue().replace('\n', ' ')).append('\n');
+        }
+        csv.append(String.join(",", CSV_COLUMNS)).append('\n');
+        for (PerformanceResult result : results) {
+            csv.append(String.join(",", rowValues(result))).append('\n');
+        }
+        return csv.toString();
+    }
+
+    /**
+     * Разбирает отчёт из JSON, записанного {@link #toJson()}.
+     *
+     * @param json JSON-текст
+     * @return отчёт
+     * @throws IllegalArgumentException если JSON некорректен или не является отчётом
+     */
+    @SuppressWarnings("unchecked")
+    public static BenchmarkReport fromJson(String json) {
+        Object root = JsonReader.parse(json);
+        if (!(root instanceof Map<?, ?> rootObject)
+                || !(rootObject.get("metadata") instanceof Map<?, ?> metadataObject)
+                || !(rootObject.get("results") instanceof List<?> resultArray)) {
+            throw new IllegalArgumentException("JSON не содержит полей metadata и results");
+        }
+        Map<String, String> metadata = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> entry : metadataObject.entrySet()) {
+            metadata.put(String.valueOf(entry.getKey()), String.valueOf(entry.getValue()));
+        }
+        List<PerformanceResult> results = new ArrayList<>();
+        for (Object item : resultArray) {
+            if (!(item instanceof Map<?, ?>)) {
+                throw new IllegalArgumentException("Элемент results должен быть объектом");
+            }
+            Map<String, Object> row = (Map<String, Object>) item;
+            String[] values = new String[CSV_COLUMNS.length];
+            for (int i = 0; i < CSV_COLUMNS.length; i++) {
+                Object value = row.get(CSV_COLUMNS[i]);
+                values[i] = value == null ? "" : String.valueOf(value);
+            }
+            results.add(parseRow(values));
+        }
+        return new BenchmarkReport(metadata, results);
+    }
+
+    /**
+     * Разбирает отчёт из CSV, записанного {@link #toCsv()}.
+     *
+     * @param csv CSV-текст
+     * @return отчёт
+     * @throws IllegalArgumentException если CSV некорректен
+     */
+    public static BenchmarkReport fromCsv(String csv) {
+        Map<String, String> metadata = new LinkedHashMap<>();
+        List<PerformanceResult> results = new ArrayList<>();
+        boolean headerSeen = false;
+        for (String line : csv.split("\r?\n")) {
+            if (line.isBlank()) {
+                continue;
+            }
+            if (line.startsWith("#")) {
+                int separator = line.indexOf('=');
+                if (separator > 0) {
+                    metadata.put(line.substring(1, separator).trim(), line.substring(separator + 1));
+                }
+            } else if (!headerSeen) {
+                if (!line.equals(String.join(",", CSV_COLUMNS))) {
+                    throw new IllegalArgumentException("Неожиданный заголовок CSV: " + line);
+                }
+                headerSeen = true;
+            } else {
+                results.add(parseRow(line.split(",", -1)));
+            }
+        }
+        if (!headerSeen) {
+            throw new IllegalArgumentException("CSV не содержит заголовка таблицы");
+        }
+        return new BenchmarkReport(metadata, results);
+    }
+
+    /**
+     * Возвращает значения столбцов для одного результата; отсутствующие значения - пустые строки.
+     *
+     * @param result результат измерения
+     * @return значения в порядке {@link #CSV_COLUMNS}
+     */
+    private static String[] rowValues(PerformanceResult result) {
+        TimingStatistics statistics = result.getStatistics();
+        AllocationProfile allocation = result.getAllocationProfile();
+        return new String[]{
+                String.valueOf(result.getPasswordLength()),
+                String.valueOf(result.getNumberOfPasswordsGenerated()),
+                formatNanos(result.getAverageTimeNanos()),
+                statistics == null ? "" : formatNanos(statistics.getMedian()),
+                statistics == null ? "" : formatNanos(statistics.getP90()),
+                statistics == null ? "" : formatNanos(statistics.getP99()),
+                statistics == null ? "" : formatNanos(statistics.getMin()),
+                statistics == null ? "" : formatNanos(statistics.getMax()),
+                statistics == null ? "" : formatNanos(statistics.getStandardDeviation()),
+                statistics == null ? "" : formatNanos(statistics.getConfidenceHalfWidth()),
+                allocation == null ? "" : String.valueOf(allocation.getAllocatedBytes()),
+                allocation == null ? "" : String.valueOf(allocation.getGcCount()),
+                allocation == null ? "" : String.valueOf(allocation.getGcTimeMillis())
+        };
+    }
+
+    /**
+     * Восстанавливает результат измерения из значений столбцов.
+     *
+     * @param values значения в порядке {@link #CSV_COLUMNS}
+     * @return результат измерения
+     * @throws IllegalArgumentException если значения некорректны
+     */
+    private static PerformanceResult parseRow(String[] values) {
+        if (values.length != CSV_COLUMNS.length) {
+            throw new IllegalArgumentException("Ожидалось " + CSV_COLUMNS.length
+                    + " значений в строке результата, получено: " + values.length);
+        }
+        try {
+            int length = (int) Double.parseDouble(values[0]);
+            int samples = (int) Double.parseDouble(values[1]);
+            double mean = Double.parseDouble(values[2]);
+            if (values[3].isEmpty()) {
+                return new PerformanceResult(length, mean, samples);
+            }
+            TimingStatistics statistics = new TimingStatistics(samples,
+                    Double.parseDouble(values[6]), Double.parseDouble(values[3]),
+                    Double.parseDouble(values[4]), Double.parseDouble(values[5]),
+                    Double.parseDouble(values[7]), mean,
+                    Double.parseDouble(values[8]), Double.parseDouble(values[9]));
+            AllocationProfile allocation = values[10].isEmpty() ? null : new AllocationProfile(
+                    (long) Double.parseDouble(values[10]),
+                    (long) Double.parseDouble(values[11]),
+                    (long) Double.parseDouble(values[12]),
+                    samples, (long) samples * length);
+            return new PerformanceResult(length, statistics, allocation);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Некорректное число в строке результата: "
+                    + String.join(",", values), e);
+        }
+    }
+
+    /**
+     * Форматирует время в наносекундах с точностью до десятых.
+     *
+     * @param nanos время в наносекундах
+     * @return строка с числом
+     */
+    private static String formatNanos(double nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos);
+    }
+
+    /**
+     * Заключает строку в кавычки JSON с экранированием специальных символов.
+     *
+     * @param value исходная строка, может быть null
+     * @return JSON-строка или null
+     */
+    private static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                case '\n' -> quoted.append("\\n");
+                case '\r' -> quoted.append("\\r");
+                case '\t' -> quoted.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
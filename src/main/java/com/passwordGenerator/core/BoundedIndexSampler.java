@@ -0,0 +1,120 @@
+package com.passwordGenerator.core;
+
+import java.util.Objects;
+
+/**
+ * Выборка равномерно распределённых индексов в диапазоне [0, bound) для горячего цикла генерации.
+ * Использует метод умножения со сдвигом (Lemire, "Fast Random Integer Generation in an Interval"):
+ * случайное число из L бит умножается на границу, старшие биты произведения дают индекс,
+ * а по младшим L битам отбраковываются значения, которые внесли бы смещение. Деление нужно
+ * только в редком случае, когда младшие биты меньше границы.
+ * <p>
+ * Одно 64-битное значение источника делится на полосы по L бит, где L равно 8, 16 или 32.
+ * Ширина полосы выбирается так, чтобы ожидаемый расход случайных байт на индекс с учётом
+ * отбраковки был минимальным: для алфавитов паролей это обычно 8 бит, то есть до восьми
+ * индексов на одно обращение к источнику.
+ * <p>
+ * Экземпляр не потокобезопасен.
+ *
+ * @author Akovi
+ * @see RandomSource
+ * @see PasswordGenerator
+ */
+final class BoundedIndexSampler {
+
+    /** Допустимые ширины полос в битах */
+    private static final int[] LANE_WIDTHS = {8, 16, 32};
+
+    private final RandomSource source;
+    private final long bound;
+    private final int laneBits;
+    private final long laneMask;
+    private final long threshold;
+
+    private long bits;
+    private int lanesLeft;
+
+    /**
+     * Создаёт выборку индексов для заданной границы.
+     *
+     * @param source источник случайных чисел
+     * @param bound верхняя граница индекса (исключительно)
+     * @throws IllegalArgumentException если bound не положителен
+     */
+    BoundedIndexSampler(RandomSource source, int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Граница должна быть положительной, получено: " + bound);
+        }
+        this.source = Objects.requireNonNull(source, "Источник случайных чисел не может быть null");
+        this.bound = bound;
+        this.laneBits = chooseLaneBits(bound);
+        this.laneMask = (1L << laneBits) - 1;
+        this.threshold = (1L << laneBits) % bound;
+    }
+
+    /**
+     * Возвращает следующий равномерно распределённый индекс.
+     *
+     * @return индекс в диапазоне [0, bound)
+     */
+    int nextIndex() {
+        long product = nextLane() * bound;
+        long low = product & laneMask;
+        if (low < bound) {
+            while (low < threshold) {
+                product = nextLane() * bound;
+                low = product & laneMask;
+            }
+        }
+        return (int) (product >>> laneBits);
+    }
+
+    /**
+     * Возвращает верхнюю границу индексов.
+     *
+     * @return граница (исключительно)
+     */
+    int getBound() {
+        return (int) bound;
+    }
+
+    /**
+     * Выбирает ширину полосы с минимальным ожидаемым расходом случайных байт на один индекс.
+     *
+     * @param bound верхняя граница индекса
+     * @return ширина полосы в битах
+     */
+    private static int chooseLaneBits(int bound) {
+        int bestBits = Integer.SIZE;
+        double bestCost = Double.MAX_VALUE;
+        for (int bits : LANE_WIDTHS) {
+            long range = 1L << bits;
+            if (bound > range) {
+                continue;
+            }
+            double acceptance = 1.0 - (double) (range % bound) / range;
+            double cost = bits / acceptance;
+            if (cost < bestCost) {
+                bestCost = cost;
+                bestBits = bits;
+            }
+        }
+        return bestBits;
+    }
+
+    /**
+     * Возвращает следующую полосу случайных бит, начиная с младших бит 64-битного значения источника.
+     *
+     * @return число из laneBits случайных бит
+     */
+    private long nextLane() {
+        if (lanesLeft == 0) {
+            bits = source.nextLong();
+            lanesLeft = Long.SIZE / laneBits;
+        }
+        long lane = bits & laneMask;
+        bits >>>= laneBits;
+        lanesLeft--;
+        return lane;
+    }
+}
@@ -0,0 +1,178 @@
+package com.passwordGenerator.core;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * Буферизующая обёртка над источником случайных чисел.
+ * Забирает случайные байты у исходного источника крупными блоками через
+ * {@link RandomSource#nextBytes(byte[])} в переиспользуемый буфер и строит из них
+ * числа в заданном диапазоне без смещения (отбраковкой значений выше порога).
+ * Буфер пополняется лениво, когда байты в нём заканчиваются.
+ * <p>
+ * Экземпляр не потокобезопасен: каждый поток должен использовать собственную обёртку.
+ *
+ * @author Akovi
+ * @see RandomSource
+ * @see PasswordGenerator
+ */
+final class BufferedRandomSource implements RandomSource {
+
+    /** Размер буфера по умолчанию в байтах */
+    static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private static final VarHandle LONG_VIEW =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_VIEW =
+            MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    private final RandomSource delegate;
+    private final byte[] buffer;
+    private int position;
+
+    /**
+     * Создаёт обёртку с буфером размера по умолчанию.
+     *
+     * @param delegate исходный источник случайных чисел
+     */
+    BufferedRandomSource(RandomSource delegate) {
+        this(delegate, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Создаёт обёртку с буфером заданного размера.
+     *
+     * @param delegate исходный источник случайных чисел
+     * @param bufferSize размер буфера в байтах, не меньше 8
+     * @throws IllegalArgumentException если размер буфера меньше 8
+     */
+    BufferedRandomSource(RandomSource delegate, int bufferSize) {
+        if (bufferSize < Long.BYTES) {
+            throw new IllegalArgumentException("Размер буфера должен быть не меньше " + Long.BYTES
+                    + ", получено: " + bufferSize);
+        }
+        this.delegate = Objects.requireNonNull(delegate, "Источник случайных чисел не может быть null");
+        this.buffer = new byte[bufferSize];
+        this.position = bufferSize;
+    }
+
+    /**
+     * Возвращает равномерно распределённое число в диапазоне [0, bound).
+     * Берёт из буфера 1, 2 или 4 байта в зависимости от границы и отбрасывает значения
+     * из неполного последнего интервала, поэтому результат не смещён.
+     *
+     * @param bound верхняя граница (исключительно)
+     * @return случайное число
+     * @throws IllegalArgumentException если bound не положителен
+     */
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Граница должна быть положительной, получено: " + bound);
+        }
+        if (bound <= 1 << 8) {
+            int limit = (1 << 8) - (1 << 8) % bound;
+            int value;
+            do {
+                value = nextUnsignedByte();
+            } while (value >= limit);
+            return value % bound;
+        }
+        if (bound <= 1 << 16) {
+            int limit = (1 << 16) - (1 << 16) % bound;
+            int value;
+            do {
+                value = (nextUnsignedByte() << 8) | nextUnsignedByte();
+            } while (value >= limit);
+            return value % bound;
+        }
+        int value;
+        int result;
+        do {
+            value = nextInt31();
+            result = value % bound;
+        } while (value - result + (bound - 1) < 0);
+        return result;
+    }
+
+    @Override
+    public long nextLong() {
+        ensureAvailable(Long.BYTES);
+        long value = (long) LONG_VIEW.get(buffer, position);
+        position += Long.BYTES;
+        return value;
+    }
+
+    /**
+     * Заполняет массив случайными байтами. Запросы больше буфера передаются
+     * исходному источнику напрямую.
+     *
+     * @param bytes массив для заполнения
+     */
+    @Override
+    public void nextBytes(byte[] bytes) {
+        if (bytes.length > buffer.length) {
+            delegate.nextBytes(bytes);
+            return;
+        }
+        ensureAvailable(bytes.length);
+        System.arraycopy(buffer, position, bytes, 0, bytes.length);
+        position += bytes.length;
+    }
+
+    @Override
+    public RandomSource split() {
+        return new BufferedRandomSource(delegate.split(), buffer.length);
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return delegate.getAlgorithm();
+    }
+
+    /**
+     * Возвращает неотрицательное 31-битное число из буфера.
+     *
+     * @return случайное число в диапазоне [0, 2^31)
+     */
+    private int nextInt31() {
+        ensureAvailable(Integer.BYTES);
+        int value = (int) INT_VIEW.get(buffer, position);
+        position += Integer.BYTES;
+        return value >>> 1;
+    }
+
+    /**
+     * Возвращает следующий байт буфера как беззнаковое число.
+     *
+     * @return случайное число в диапазоне [0, 256)
+     */
+    private int nextUnsignedByte() {
+        if (position == buffer.length) {
+            refill();
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    /**
+     * Гарантирует, что в буфере осталось не меньше заданного количества байт.
+     * Неиспользованный остаток при пополнении отбрасывается.
+     *
+     * @param count необходимое количество байт
+     */
+    private void ensureAvailable(int count) {
+        if (buffer.length - position < count) {
+            refill();
+        }
+    }
+
+    /**
+     * Заполняет буфер новым блоком случайных байт.
+     */
+    private void refill() {
+        delegate.nextBytes(buffer);
+        position = 0;
+    }
+}
@@ -0,0 +1,72 @@
+package com.passwordGenerator.core;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Признак отмены длительной операции.
+ * Один поток вызывает {@link #cancel()}, а выполняющая операция периодически вызывает
+ * {@link #throwIfCancelled()} и прерывается при первой проверке после отмены.
+ * Отменённый признак нельзя сбросить, для нового запуска нужен новый экземпляр.
+ * Дочерний признак из {@link #child()} отменяется вместе с родительским, но его собственная
+ * отмена родителя не затрагивает.
+ *
+ * @author Akovi
+ * @see PasswordCreationTimeEstimator
+ */
+public final class CancellationToken {
+
+    private final CancellationToken parent;
+    private volatile boolean cancelled;
+
+    /**
+     * Создаёт независимый признак отмены.
+     */
+    public CancellationToken() {
+        this(null);
+    }
+
+    /**
+     * Создаёт признак, связанный с родительским.
+     *
+     * @param parent родительский признак или null
+     */
+    private CancellationToken(CancellationToken parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Создаёт дочерний признак: он считается отменённым, если отменён он сам или этот признак.
+     *
+     * @return дочерний признак отмены
+     */
+    public CancellationToken child() {
+        return new CancellationToken(this);
+    }
+
+    /**
+     * Запрашивает отмену операции.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Проверяет, запрошена ли отмена.
+     *
+     * @return true если операция отменена
+     */
+    public boolean isCancelled() {
+        return cancelled || (parent != null && parent.isCancelled());
+    }
+
+    /**
+     * Прерывает операцию, если запрошена отмена.
+     *
+     * @throws CancellationException если операция отменена
+     */
+    public void throwIfCancelled() {
+        if (isCancelled()) {
+            throw new CancellationException("Операция отменена");
+        }
+    }
+}
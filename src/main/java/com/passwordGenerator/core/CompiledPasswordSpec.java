@@ -0,0 +1,187 @@
+package com.passwordGenerator.core;
+
+/**
+ * Скомпилированный алфавит для генерации пароля.
+ * Набор символов определяется только четырьмя флагами {@link PasswordGenerationConfig},
+ * поэтому всего существует 16 вариантов алфавита. Все они строятся один раз
+ * при загрузке класса и далее переиспользуются по битовой маске.
+ *
+ * @author Akovi
+ * @see PasswordGenerator
+ * @see PasswordGenerationConfig
+ */
+final class CompiledPasswordSpec {
+
+    /** Бит маски для латинских букв */
+    static final int LATIN = 1;
+    /** Бит маски для кириллических букв */
+    static final int CYRILLIC = 1 << 1;
+    /** Бит маски для цифр */
+    static final int DIGITS = 1 << 2;
+    /** Бит маски для специальных символов */
+    static final int SPECIAL = 1 << 3;
+
+    private static final CompiledPasswordSpec[] CACHE = new CompiledPasswordSpec[16];
+
+    static {
+        for (int mask = 0; mask < CACHE.length; mask++) {
+            CACHE[mask] = new CompiledPasswordSpec(mask);
+        }
+    }
+
+    /**
+     * Перечисление наборов символов для генерации пароля.
+     * Каждый набор содержит строку уникальных символов определённого типа.
+     * Используется для построения алфавита при генерации паролей.
+     */
+    private enum CharacterSet {
+        /** Строчные латинские буквы a-z */
+        LATIN_LOWER("abcdefghijklmnopqrstuvwxyz"),
+        /** Заглавные латинские буквы A-Z */
+        LATIN_UPPER("ABCDEFGHIJKLMNOPQRSTUVWXYZ"),
+        /** Строчные кириллические буквы (русский алфавит в нижнем регистре) */
+        CYRILLIC_LOWER("абвгдежзийклмнопрстуфхцчшщъыьэюя"),
+        /** Заглавные кириллические буквы (русский алфавит в верхнем регистре) */
+        CYRILLIC_UPPER("АБВГДЕЖЗИЙКЛМНОПРСТУФХЦЧШЩЪЫЬЭЮЯ"),
+        /** Цифровые символы 0-9 */
+        DIGITS("0123456789"),
+        /** Специальные символы для повышения сложности пароля */
+        SPECIAL("!@#$%^&*()_+-=[]{}|;:,.<>?");
+
+        /** Строка с символами этого набора */
+        private final String characters;
+
+        /**
+         * Конструктор для инициализации набора символов.
+         *
+         * @param characters строка уникальных символов для этого набора
+         */
+        CharacterSet(String characters) {
+            this.characters = characters;
+        }
+
+        /**
+         * Возвращает строку с символами этого набора.
+         *
+         * @return строка символов, не может быть null
+         */
+        public String getCharacters() {
+            return characters;
+        }
+    }
+
+    private final int mask;
+    private final char[] alphabet;
+
+    /**
+     * Строит алфавит для заданной битовой маски наборов символов.
+     *
+     * @param mask битовая маска из констант {@link #LATIN}, {@link #CYRILLIC},
+     *             {@link #DIGITS} и {@link #SPECIAL}
+     */
+    private CompiledPasswordSpec(int mask) {
+        this.mask = mask;
+        this.alphabet = buildAlphabet(mask);
+    }
+
+    /**
+     * Возвращает скомпилированный алфавит для конфигурации.
+     *
+     * @param config конфигурация генерации
+     * @return закешированный алфавит, соответствующий флагам конфигурации
+     */
+    static CompiledPasswordSpec forConfig(PasswordGenerationConfig config) {
+        return forMask(maskOf(config));
+    }
+
+    /**
+     * Возвращает скомпилированный алфавит для битовой маски.
+     *
+     * @param mask битовая маска наборов символов (0-15)
+     * @return закешированный алфавит
+     * @throws IllegalArgumentException если маска вне допустимого диапазона
+     */
+    static CompiledPasswordSpec forMask(int mask) {
+        if (mask < 0 || mask >= CACHE.length) {
+            throw new IllegalArgumentException("Некорректная маска наборов символов: " + mask);
+        }
+        return CACHE[mask];
+    }
+
+    /**
+     * Вычисляет битовую маску наборов символов по флагам конфигурации.
+     *
+     * @param config конфигурация генерации
+     * @return битовая маска наборов символов
+     */
+    static int maskOf(PasswordGenerationConfig config) {
+        int mask = 0;
+        if (config.isUseLatin()) mask |= LATIN;
+        if (config.isUseCyrillic()) mask |= CYRILLIC;
+        if (config.isUseDigits()) mask |= DIGITS;
+        if (config.isUseSpecial()) mask |= SPECIAL;
+        return mask;
+    }
+
+    /**
+     * Создает алфавит из выбранных типов символов.
+     *
+     * @param mask битовая маска наборов символов
+     * @return массив всех доступных символов для пароля
+     */
+    private static char[] buildAlphabet(int mask) {
+        StringBuilder alphabet = new StringBuilder();
+        if ((mask & LATIN) != 0) {
+            alphabet.append(CharacterSet.LATIN_LOWER.getCharacters())
+                    .append(CharacterSet.LATIN_UPPER.getCharacters());
+        }
+        if ((mask & CYRILLIC) != 0) {
+            alphabet.append(CharacterSet.CYRILLIC_LOWER.getCharacters())
+                    .append(CharacterSet.CYRILLIC_UPPER.getCharacters());
+        }
+        if ((mask & DIGITS) != 0) {
+            alphabet.append(CharacterSet.DIGITS.getCharacters());
+        }
+        if ((mask & SPECIAL) != 0) {
+            alphabet.append(CharacterSet.SPECIAL.getCharacters());
+        }
+        return alphabet.toString().toCharArray();
+    }
+
+    /**
+     * Возвращает битовую маску наборов символов.
+     *
+     * @return битовая маска
+     */
+    int getMask() {
+        return mask;
+    }
+
+    /**
+     * Проверяет, выбран ли хотя бы один набор символов.
+     *
+     * @return true если алфавит не пуст
+     */
+    boolean hasCharacters() {
+        return alphabet.length > 0;
+    }
+
+    /**
+     * Возвращает размер алфавита.
+     *
+     * @return количество символов в алфавите
+     */
+    int size() {
+        return alphabet.length;
+    }
+
+    /**
+     * Возвращает символ алфавита по индексу.
+     *
+     * @param index индекс символа в диапазоне [0, size())
+     * @return символ алфавита
+     */
+    char charAt(int index) {
+        return alphabet[index];
+    }
+}
@@ -0,0 +1,53 @@
+package com.passwordGenerator.core;
+
+import com.passwordGenerator.core.PasswordCreationTimeEstimator.PerformanceResult;
+
+/**
+ * Слушатель хода выполнения теста производительности.
+ * Получает уведомления о начале замера каждой длины, о замеренных паролях и о готовых
+ * результатах по мере их появления. Все методы имеют пустую реализацию по умолчанию.
+ * <p>
+ * В параллельном режиме прохода {@link #onLengthStarted} и {@link #onPasswordMeasured}
+ * вызываются из рабочих потоков, поэтому реализация должна быть потокобезопасной
+ * (например, передавать обновления в поток интерфейса).
+ *
+ * @author Akovi
+ * @see PasswordCreationTimeEstimator
+ * @see CancellationToken
+ */
+public interface EstimatorProgressListener {
+
+    /** Слушатель, который игнорирует все уведомления */
+    EstimatorProgressListener NONE = new EstimatorProgressListener() {
+    };
+
+    /**
+     * Вызывается перед замером очередной длины.
+     *
+     * @param passwordLength длина пароля
+     * @param lengthIndex порядковый номер длины, начиная с 0
+     * @param totalLengths общее количество длин
+     */
+    default void onLengthStarted(int passwordLength, int lengthIndex, int totalLengths) {
+    }
+
+    /**
+     * Вызывается после каждого замеренного пароля.
+     *
+     * @param passwordLength длина пароля
+     * @param measured количество уже замеренных паролей этой длины
+     * @param total общее количество замеров на длину
+     */
+    default void onPasswordMeasured(int passwordLength, int measured, int total) {
+    }
+
+    /**
+     * Вызывается, когда результат для длины готов. Результаты приходят в порядке длин.
+     *
+     * @param result результат замера
+     * @param completedLengths количество готовых длин, включая эту
+     * @param totalLengths общее количество длин
+     */
+    default void onResult(PerformanceResult result, int completedLengths, int totalLengths) {
+    }
+}
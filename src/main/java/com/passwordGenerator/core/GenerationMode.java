@@ -0,0 +1,39 @@
+package com.passwordGenerator.core;
+
+/**
+ * Режим вывода пароля, от которого зависит допустимая длина.
+ * В режиме {@link #IN_MEMORY} пароль целиком собирается в памяти и возвращается строкой,
+ * поэтому длина ограничена. В режиме {@link #STREAMING} пароль записывается фрагментами
+ * фиксированного размера и расход памяти не зависит от длины.
+ *
+ * @author Akovi
+ * @see PasswordGenerationConfig
+ * @see PasswordGenerator
+ */
+public enum GenerationMode {
+
+    /** Пароль возвращается строкой: generate, generateBatch, generateParallel */
+    IN_MEMORY(1_000_000),
+    /** Пароль записывается потоком: generateTo */
+    STREAMING(1L << 40);
+
+    private final long maxLength;
+
+    /**
+     * Конструктор режима.
+     *
+     * @param maxLength максимальная длина пароля в этом режиме
+     */
+    GenerationMode(long maxLength) {
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Возвращает максимальную длину пароля в этом режиме.
+     *
+     * @return максимальная длина
+     */
+    public long getMaxLength() {
+        return maxLength;
+    }
+}
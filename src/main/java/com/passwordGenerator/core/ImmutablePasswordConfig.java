@@ -0,0 +1,351 @@
+package com.passwordGenerator.core;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Неизменяемая конфигурация генерации пароля для использования в качестве ключа кешей и пулов.
+ * Наборы символов хранятся битовой маской, обязательные символы - отсортированным массивом
+ * без повторов, а хеш-код вычисляется один раз при создании. Поэтому сравнение и хеширование
+ * не создают объектов и не обходят множеств, а экземпляр безопасно передавать между потоками.
+ * <p>
+ * Создаётся через {@link #builder(long)} или из изменяемой конфигурации через
+ * {@link #from(PasswordGenerationConfig)}. {@link PasswordGenerator} принимает её напрямую.
+ *
+ * @author Akovi
+ * @see PasswordGenerationConfig
+ * @see PasswordGenerator
+ */
+public final class ImmutablePasswordConfig {
+
+    private final long length;
+    private final int charsetMask;
+    private final char[] requiredCharacters;
+    private final int hash;
+
+    /**
+     * Приватный конструктор, используйте {@link Builder}.
+     *
+     * @param length длина пароля
+     * @param charsetMask битовая маска наборов символов
+     * @param requiredCharacters отсортированные обязательные символы без повторов
+     */
+    private ImmutablePasswordConfig(long length, int charsetMask, char[] requiredCharacters) {
+        this.length = length;
+        this.charsetMask = charsetMask;
+        this.requiredCharacters = requiredCharacters;
+        this.hash = 31 * (31 * Long.hashCode(length) + charsetMask) + Arrays.hashCode(requiredCharacters);
+    }
+
+    /**
+     * Построитель неизменяемой конфигурации.
+     */
+    public static final class Builder {
+
+        private final long length;
+        private int charsetMask;
+        private final StringBuilder requiredCharacters = new StringBuilder();
+
+        /**
+         * Конструктор построителя.
+         *
+         * @param length длина пароля
+         */
+        private Builder(long length) {
+            this.length = length;
+        }
+
+        /**
+         * Включает или выключает латиницу.
+         *
+         * @param useLatin true для использования латиницы
+         * @return этот построитель
+         */
+        public Builder useLatin(boolean useLatin) {
+            return flag(CompiledPasswordSpec.LATIN, useLatin);
+        }
+
+        /**
+         * Включает или выключает кириллицу.
+         *
+         * @param useCyrillic true для использования кириллицы
+         * @return этот построитель
+         */
+        public Builder useCyrillic(boolean useCyrillic) {
+            return flag(CompiledPasswordSpec.CYRILLIC, useCyrillic);
+        }
+
+        /**
+         * Включает или выключает цифры.
+         *
+         * @param useDigits true для использования цифр
+         * @return этот построитель
+         */
+        public Builder useDigits(boolean useDigits) {
+            return flag(CompiledPasswordSpec.DIGITS, useDigits);
+        }
+
+        /**
+         * Включает или выключает специальные символы.
+         *
+         * @param useSpecial true для использования спецсимволов
+         * @return этот построитель
+         */
+        public Builder useSpecial(boolean useSpecial) {
+            return flag(CompiledPasswordSpec.SPECIAL, useSpecial);
+        }
+
+        /**
+         * Добавляет обязательный символ. Повторы допускаются и учитываются один раз.
+         *
+         * @param character обязательный символ
+         * @return этот построитель
+         */
+        public Builder require(char character) {
+            requiredCharacters.append(character);
+            return this;
+        }
+
+        /**
+         * Добавляет все символы строки как обязательные.
+         *
+         * @param characters обязательные символы
+         * @return этот построитель
+         * @throws NullPointerException если characters равен null
+         */
+        public Builder require(CharSequence characters) {
+            requiredCharacters.append(Objects.requireNonNull(characters, "Символы не могут быть null"));
+            return this;
+        }
+
+        /**
+         * Устанавливает или сбрасывает бит маски.
+         *
+         * @param bit бит набора символов
+         * @param enabled true для установки
+         * @return этот построитель
+         */
+        private Builder flag(int bit, boolean enabled) {
+            charsetMask = enabled ? charsetMask | bit : charsetMask & ~bit;
+            return this;
+        }
+
+        /**
+         * Создаёт конфигурацию.
+         *
+         * @return неизменяемая конфигурация
+         * @throws IllegalArgumentException если длина не положительна или обязательных символов
+         *                                  больше длины пароля
+         */
+        public ImmutablePasswordConfig build() {
+            if (length <= 0) {
+                throw new IllegalArgumentException("Длина должна быть положительной, получено: " + length);
+            }
+            char[] required = sortedUnique(requiredCharacters);
+            if (required.length > length) {
+                throw new IllegalArgumentException(String.format(
+                        "Обязательных символов (%d) больше чем длина пароля (%d)", required.length, length));
+            }
+            return new ImmutablePasswordConfig(length, charsetMask, required);
+        }
+
+        /**
+         * Сортирует символы и удаляет повторы.
+         *
+         * @param characters символы
+         * @return отсортированный массив без повторов
+         */
+        private static char[] sortedUnique(CharSequence characters) {
+            char[] sorted = characters.toString().toCharArray();
+            Arrays.sort(sorted);
+            int unique = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[unique++] = sorted[i];
+                }
+            }
+            return unique == sorted.length ? sorted : Arrays.copyOf(sorted, unique);
+        }
+    }
+
+    /**
+     * Создаёт построитель конфигурации с заданной длиной и без наборов символов.
+     *
+     * @param length длина пароля
+     * @return построитель
+     */
+    public static Builder builder(long length) {
+        return new Builder(length);
+    }
+
+    /**
+     * Создаёт неизменяемый снимок изменяемой конфигурации.
+     *
+     * @param config изменяемая конфигурация
+     * @return неизменяемая конфигурация с теми же параметрами
+     * @throws NullPointerException если config равен null
+     */
+    public static ImmutablePasswordConfig from(PasswordGenerationConfig config) {
+        Objects.requireNonNull(config, "Конфигурация не может быть null");
+        Builder builder = builder(config.getLongLength())
+                .useLatin(config.isUseLatin())
+                .useCyrillic(config.isUseCyrillic())
+                .useDigits(config.isUseDigits())
+                .useSpecial(config.isUseSpecial());
+        for (Character character : config.getRequiredCharacters()) {
+            builder.require(character);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Создаёт изменяемую конфигурацию с теми же параметрами.
+     *
+     * @return новая изменяемая конфигурация
+     */
+    public PasswordGenerationConfig toMutableConfig() {
+        PasswordGenerationConfig config = new PasswordGenerationConfig(length);
+        config.setUseLatin(isUseLatin());
+        config.setUseCyrillic(isUseCyrillic());
+        config.setUseDigits(isUseDigits());
+        config.setUseSpecial(isUseSpecial());
+        for (char character : requiredCharacters) {
+            config.addRequiredCharacter(character);
+        }
+        return config;
+    }
+
+    /**
+     * Возвращает длину пароля.
+     *
+     * @return длина пароля
+     * @throws IllegalStateException если длина не помещается в int, используйте {@link #getLongLength()}
+     */
+    public int getLength() {
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Длина пароля " + length
+                    + " не помещается в int, используйте getLongLength()");
+        }
+        return (int) length;
+    }
+
+    /**
+     * Возвращает длину пароля как long.
+     *
+     * @return длина пароля
+     */
+    public long getLongLength() {
+        return length;
+    }
+
+    /**
+     * Проверяет, используется ли латиница.
+     *
+     * @return true если латиница включена
+     */
+    public boolean isUseLatin() {
+        return (charsetMask & CompiledPasswordSpec.LATIN) != 0;
+    }
+
+    /**
+     * Проверяет, используется ли кириллица.
+     *
+     * @return true если кириллица включена
+     */
+    public boolean isUseCyrillic() {
+        return (charsetMask & CompiledPasswordSpec.CYRILLIC) != 0;
+    }
+
+    /**
+     * Проверяет, используются ли цифры.
+     *
+     * @return true если цифры включены
+     */
+    public boolean isUseDigits() {
+        return (charsetMask & CompiledPasswordSpec.DIGITS) != 0;
+    }
+
+    /**
+     * Проверяет, используются ли специальные символы.
+     *
+     * @return true если спецсимволы включены
+     */
+    public boolean isUseSpecial() {
+        return (charsetMask & CompiledPasswordSpec.SPECIAL) != 0;
+    }
+
+    /**
+     * Возвращает битовую маску наборов символов.
+     *
+     * @return битовая маска
+     */
+    int getCharsetMask() {
+        return charsetMask;
+    }
+
+    /**
+     * Возвращает копию отсортированных обязательных символов.
+     *
+     * @return обязательные символы по возрастанию
+     */
+    public char[] getRequiredCharacters() {
+        return requiredCharacters.clone();
+    }
+
+    /**
+     * Возвращает внутренний массив обязательных символов без копирования.
+     * Вызывающий код не должен его изменять.
+     *
+     * @return обязательные символы по возрастанию
+     */
+    char[] requiredCharacters() {
+        return requiredCharacters;
+    }
+
+    /**
+     * Возвращает количество обязательных символов.
+     *
+     * @return количество обязательных символов
+     */
+    public int getRequiredCharacterCount() {
+        return requiredCharacters.length;
+    }
+
+    @Override
+    public String toString() {
+        return "ImmutablePasswordConfig{" +
+                "length=" + length +
+                ", useLatin=" + isUseLatin() +
+                ", useCyrillic=" + isUseCyrillic() +
+                ", useDigits=" + isUseDigits() +
+                ", useSpecial=" + isUseSpecial() +
+                ", requiredCharacters=" + Arrays.toString(requiredCharacters) +
+                '}';
+    }
+
+    /**
+     * Сравнивает две конфигурации: сначала хеш-коды, затем поля.
+     *
+     * @param o объект для сравнения
+     * @return true если конфигурации полностью идентичны, false иначе
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ImmutablePasswordConfig that)) return false;
+        return hash == that.hash &&
+                length == that.length &&
+                charsetMask == that.charsetMask &&
+                Arrays.equals(requiredCharacters, that.requiredCharacters);
+    }
+
+    /**
+     * Возвращает хеш-код, вычисленный при создании.
+     *
+     * @return хеш-код объекта
+     */
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -0,0 +1,258 @@
+package com.passwordGenerator.core;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Минимальный разборщик JSON для чтения сохранённых отчётов о производительности.
+ * Объекты превращаются в {@link Map}, массивы - в {@link List}, числа - в {@link Double},
+ * строки - в {@link String}, true/false - в {@link Boolean}, null - в null.
+ * Экземпляр одноразовый и не потокобезопасен.
+ *
+ * @author Akovi
+ * @see BenchmarkReport
+ */
+final class JsonReader {
+
+    private final String text;
+    private int position;
+
+    /**
+     * Конструктор разборщика.
+     *
+     * @param text JSON-текст
+     */
+    private JsonReader(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Разбирает JSON-текст целиком.
+     *
+     * @param text JSON-текст
+     * @return разобранное значение
+     * @throws IllegalArgumentException если текст не является корректным JSON
+     */
+    static Object parse(String text) {
+        JsonReader reader = new JsonReader(text);
+        Object value = reader.readValue();
+        reader.skipWhitespace();
+        if (reader.position != text.length()) {
+            throw reader.error("Лишние символы после JSON-значения");
+        }
+        return value;
+    }
+
+    /**
+     * Читает значение любого типа с текущей позиции.
+     *
+     * @return разобранное значение
+     */
+    private Object readValue() {
+        skipWhitespace();
+        if (position >= text.length()) {
+            throw error("Неожиданный конец JSON");
+        }
+        char c = text.charAt(position);
+        switch (c) {
+            case '{' -> {
+                return readObject();
+            }
+            case '[' -> {
+                return readArray();
+            }
+            case '"' -> {
+                return readString();
+            }
+            case 't' -> {
+                expectLiteral("true");
+                return Boolean.TRUE;
+            }
+            case 'f' -> {
+                expectLiteral("false");
+                return Boolean.FALSE;
+            }
+            case 'n' -> {
+                expectLiteral("null");
+                return null;
+            }
+            default -> {
+                return readNumber();
+            }
+        }
+    }
+
+    /**
+     * Читает объект.
+     *
+     * @return отображение ключей на значения в порядке следования
+     */
+    private Map<String, Object> readObject() {
+        Map<String, Object> object = new LinkedHashMap<>();
+        position++;
+        skipWhitespace();
+        if (peek() == '}') {
+            position++;
+            return object;
+        }
+        while (true) {
+            skipWhitespace();
+            if (peek() != '"') {
+                throw error("Ожидался ключ объекта");
+            }
+            String key = readString();
+            skipWhitespace();
+            expect(':');
+            object.put(key, readValue());
+            skipWhitespace();
+            if (peek() == ',') {
+                position++;
+            } else {
+                expect('}');
+                return object;
+            }
+        }
+    }
+
+    /**
+     * Читает массив.
+     *
+     * @return список элементов
+     */
+    private List<Object> readArray() {
+        List<Object> array = new ArrayList<>();
+        position++;
+        skipWhitespace();
+        if (peek() == ']') {
+            position++;
+            return array;
+        }
+        while (true) {
+            array.add(readValue());
+            skipWhitespace();
+            if (peek() == ',') {
+                position++;
+            } else {
+                expect(']');
+                return array;
+            }
+        }
+    }
+
+    /**
+     * Читает строку с обработкой escape-последовательностей.
+     *
+     * @return строка без кавычек
+     */
+    private String readString() {
+        expect('"');
+        StringBuilder builder = new StringBuilder();
+        while (true) {
+            if (position >= text.length()) {
+                throw error("Незакрытая строка");
+            }
+            char c = text.charAt(position++);
+            if (c == '"') {
+                return builder.toString();
+            }
+            if (c != '\\') {
+                builder.append(c);
+                continue;
+            }
+            if (position >= text.length()) {
+                throw error("Незавершённая escape-последовательность");
+            }
+            char escaped = text.charAt(position++);
+            switch (escaped) {
+                case '"', '\\', '/' -> builder.append(escaped);
+                case 'b' -> builder.append('\b');
+                case 'f' -> builder.append('\f');
+                case 'n' -> builder.append('\n');
+                case 'r' -> builder.append('\r');
+                case 't' -> builder.append('\t');
+                case 'u' -> {
+                    if (position + 4 > text.length()) {
+                        throw error("Незавершённая escape-последовательность \\u");
+                    }
+                    builder.append((char) Integer.parseInt(text.substring(position, position + 4), 16));
+                    position += 4;
+                }
+                default -> throw error("Неизвестная escape-последовательность \\" + escaped);
+            }
+        }
+    }
+
+    /**
+     * Читает число.
+     *
+     * @return число как Double
+     */
+    private Double readNumber() {
+        int start = position;
+        while (position < text.length() && "+-0123456789.eE".indexOf(text.charAt(position)) >= 0) {
+            position++;
+        }
+        if (start == position) {
+            throw error("Ожидалось JSON-значение");
+        }
+        try {
+            return Double.parseDouble(text.substring(start, position));
+        } catch (NumberFormatException e) {
+            throw error("Некорректное число");
+        }
+    }
+
+    /**
+     * Проверяет, что с текущей позиции записан заданный литерал, и пропускает его.
+     *
+     * @param literal ожидаемый литерал
+     */
+    private void expectLiteral(String literal) {
+        if (!text.startsWith(literal, position)) {
+            throw error("Ожидалось " + literal);
+        }
+        position += literal.length();
+    }
+
+    /**
+     * Проверяет, что текущий символ равен ожидаемому, и пропускает его.
+     *
+     * @param expected ожидаемый символ
+     */
+    private void expect(char expected) {
+        if (peek() != expected) {
+            throw error("Ожидался символ '" + expected + "'");
+        }
+        position++;
+    }
+
+    /**
+     * Возвращает текущий символ без сдвига позиции.
+     *
+     * @return текущий символ или 0 в конце текста
+     */
+    private char peek() {
+        return position < text.length() ? text.charAt(position) : 0;
+    }
+
+    /**
+     * Пропускает пробельные символы.
+     */
+    private void skipWhitespace() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+    }
+
+    /**
+     * Создаёт исключение с указанием позиции ошибки.
+     *
+     * @param message описание ошибки
+     * @return исключение для выброса
+     */
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " (позиция " + position + ")");
+    }
+}
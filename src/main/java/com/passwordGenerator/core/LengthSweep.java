@@ -0,0 +1,141 @@
+package com.passwordGenerator.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Набор длин паролей для прохода оценщика производительности.
+ * Поддерживает арифметическую прогрессию с шагом, геометрическую (логарифмическую)
+ * шкалу с заданным количеством точек и явный список длин. Длины вычисляются напрямую,
+ * без перебора всех чисел диапазона.
+ *
+ * @author Akovi
+ * @see PasswordCreationTimeEstimator
+ */
+public final class LengthSweep {
+
+    private final List<Integer> lengths;
+    private final String description;
+
+    /**
+     * Приватный конструктор, используйте фабричные методы.
+     *
+     * @param lengths длины в порядке прохода
+     * @param description описание для отчёта
+     */
+    private LengthSweep(List<Integer> lengths, String description) {
+        this.lengths = List.copyOf(lengths);
+        this.description = description;
+    }
+
+    /**
+     * Создаёт арифметическую прогрессию длин min, min + step, ... не больше max.
+     *
+     * @param minLength минимальная длина
+     * @param maxLength максимальная длина
+     * @param step шаг между длинами
+     * @return набор длин
+     * @throws IllegalArgumentException если длины или шаг не положительны либо min больше max
+     */
+    public static LengthSweep arithmetic(int minLength, int maxLength, int step) {
+        validateRange(minLength, maxLength);
+        if (step < 1) {
+            throw new IllegalArgumentException("Шаг должен быть положительным, получено: " + step);
+        }
+        int count = (int) (((long) maxLength - minLength) / step + 1);
+        List<Integer> lengths = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lengths.add((int) (minLength + (long) i * step));
+        }
+        return new LengthSweep(lengths, String.format("%d-%d, шаг %d", minLength, maxLength, step));
+    }
+
+    /**
+     * Создаёт геометрическую (логарифмическую) шкалу из points длин от min до max включительно.
+     * Соседние длины отличаются примерно в одно и то же число раз; совпавшие после округления
+     * длины отбрасываются, поэтому на узких диапазонах точек может оказаться меньше.
+     *
+     * @param minLength минимальная длина
+     * @param maxLength максимальная длина
+     * @param points количество точек, не меньше 2
+     * @return набор длин
+     * @throws IllegalArgumentException если длины не положительны, min больше max или points меньше 2
+     */
+    public static LengthSweep geometric(int minLength, int maxLength, int points) {
+        validateRange(minLength, maxLength);
+        if (points < 2) {
+            throw new IllegalArgumentException("Количество точек должно быть не меньше 2, получено: " + points);
+        }
+        double ratio = Math.pow((double) maxLength / minLength, 1.0 / (points - 1));
+        List<Integer> lengths = new ArrayList<>(points);
+        for (int i = 0; i < points; i++) {
+            int length = i == points - 1 ? maxLength : (int) Math.round(minLength * Math.pow(ratio, i));
+            if (lengths.isEmpty() || lengths.get(lengths.size() - 1) < length) {
+                lengths.add(length);
+            }
+        }
+        return new LengthSweep(lengths, String.format("%d-%d, %d точек по логарифмической шкале",
+                minLength, maxLength, points));
+    }
+
+    /**
+     * Создаёт набор из явно заданных длин в указанном порядке.
+     *
+     * @param lengths длины паролей
+     * @return набор длин
+     * @throws IllegalArgumentException если список пуст или содержит неположительную длину
+     */
+    public static LengthSweep of(int... lengths) {
+        if (lengths == null || lengths.length == 0) {
+            throw new IllegalArgumentException("Список длин не может быть пустым");
+        }
+        List<Integer> list = new ArrayList<>(lengths.length);
+        for (int length : lengths) {
+            if (length < 1) {
+                throw new IllegalArgumentException("Длина должна быть положительной, получено: " + length);
+            }
+            list.add(length);
+        }
+        return new LengthSweep(list, "точки " + list);
+    }
+
+    /**
+     * Проверяет границы диапазона длин.
+     *
+     * @param minLength минимальная длина
+     * @param maxLength максимальная длина
+     * @throws IllegalArgumentException если длины не положительны или min больше max
+     */
+    private static void validateRange(int minLength, int maxLength) {
+        if (minLength < 1) {
+            throw new IllegalArgumentException("Минимальная длина должна быть положительной, получено: " + minLength);
+        }
+        if (minLength > maxLength) {
+            throw new IllegalArgumentException(String.format(
+                    "Минимальная длина не должна быть больше максимальной: %d > %d", minLength, maxLength));
+        }
+    }
+
+    /**
+     * Возвращает длины в порядке прохода.
+     *
+     * @return неизменяемый список длин
+     */
+    public List<Integer> getLengths() {
+        return lengths;
+    }
+
+    /**
+     * Возвращает описание набора для отчёта.
+     *
+     * @return описание
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public String toString() {
+        return "LengthSweep{" + description + ", lengths=" + lengths.size() + "}";
+    }
+}
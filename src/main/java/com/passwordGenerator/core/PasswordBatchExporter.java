@@ -0,0 +1,553 @@
+package com.passwordGenerator.core;
+
+import com.passwordGenerator.exceptions.InvalidPasswordConfigException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.MalformedInputException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Пакетная выгрузка паролей в файл, по одному паролю на строку.
+ * Пароли генерируются в переиспользуемый буфер символов без создания строк, кодируются
+ * в UTF-8 вручную (кириллица занимает 2 байта, суррогатные пары - 4) и копируются в прямой
+ * {@link ByteBuffer}, который целиком записывается в {@link FileChannel}. Поэтому скорость
+ * выгрузки ограничена диском, а не созданием строк и PrintStream.
+ * Поведение при сбросе на диск задаётся {@link FsyncPolicy}.
+ * <p>
+ * При нескольких потоках пароли генерируются и кодируются блоками в пуле потоков, а блоки
+ * записываются одним потоком в порядке отправки; количество блоков в работе ограничено,
+ * поэтому расход памяти не зависит от количества паролей.
+ *
+ * @author Akovi
+ * @see PasswordGenerator
+ * @see PasswordGenerationConfig
+ */
+public final class PasswordBatchExporter {
+
+    private static final Logger logger = LogManager.getLogger(PasswordBatchExporter.class);
+
+    /** Размер прямого буфера записи по умолчанию */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+    private static final byte LINE_SEPARATOR = '\n';
+
+    /** Количество блоков в работе на один поток при параллельной выгрузке */
+    private static final int BLOCKS_IN_FLIGHT_PER_THREAD = 2;
+
+    /**
+     * Политика принудительного сброса данных на диск через {@link FileChannel#force(boolean)}.
+     */
+    public enum FsyncPolicy {
+        /** Сброс оставляется операционной системе */
+        NONE("без fsync"),
+        /** Один сброс после записи всех паролей */
+        ON_FINISH("в конце"),
+        /** Сброс после записи каждого заполненного буфера */
+        EVERY_BUFFER("после каждого буфера");
+
+        private final String displayName;
+
+        FsyncPolicy(String displayName) {
+            this.displayName = displayName;
+        }
+
+        /**
+         * Возвращает название политики для отчёта.
+         *
+         * @return название политики
+         */
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    /**
+     * Итог выгрузки паролей.
+     */
+    public static final class ExportResult {
+
+        private final long passwordCount;
+        private final long bytesWritten;
+        private final long elapsedNanos;
+        private final int fsyncCount;
+
+        /**
+         * Конструктор итога выгрузки.
+         *
+         * @param passwordCount количество записанных паролей
+         * @param bytesWritten количество записанных байтов
+         * @param elapsedNanos время выгрузки в наносекундах
+         * @param fsyncCount количество выполненных сбросов на диск
+         */
+        ExportResult(long passwordCount, long bytesWritten, long elapsedNanos, int fsyncCount) {
+            this.passwordCount = passwordCount;
+            this.bytesWritten = bytesWritten;
+            this.elapsedNanos = elapsedNanos;
+            this.fsyncCount = fsyncCount;
+        }
+
+        /**
+         * Возвращает количество записанных паролей.
+         *
+         * @return количество паролей
+         */
+        public long getPasswordCount() {
+            return passwordCount;
+        }
+
+        /**
+         * Возвращает количество записанных байтов.
+         *
+         * @return количество байтов
+         */
+        public long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        /**
+         * Возвращает время выгрузки.
+         *
+         * @return время в наносекундах
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Возвращает количество выполненных сбросов на диск.
+         *
+         * @return количество вызовов force
+         */
+        public int getFsyncCount() {
+            return fsyncCount;
+        }
+
+        /**
+         * Возвращает скорость выгрузки в паролях в секунду.
+         *
+         * @return паролей в секунду
+         */
+        public double getPasswordsPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : passwordCount * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        /**
+         * Возвращает скорость выгрузки в байтах в секунду.
+         *
+         * @return байтов в секунду
+         */
+        public double getBytesPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : bytesWritten * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Записано паролей: %d, %s за %d мс (%.0f паролей/сек, %s/сек), fsync: %d",
+                    passwordCount, AllocationProfile.formatBytes(bytesWritten), elapsedNanos / 1_000_000,
+                    getPasswordsPerSecond(), AllocationProfile.formatBytes(getBytesPerSecond()), fsyncCount);
+        }
+    }
+
+    private final PasswordGenerator generator;
+    private final int bufferSize;
+    private final FsyncPolicy fsyncPolicy;
+    private final int threads;
+
+    /**
+     * Конструктор с буфером по умолчанию и без принудительного сброса на диск.
+     *
+     * @param generator генератор паролей
+     */
+    public PasswordBatchExporter(PasswordGenerator generator) {
+        this(generator, DEFAULT_BUFFER_SIZE, FsyncPolicy.NONE);
+    }
+
+    /**
+     * Конструктор с настройкой буфера и политики сброса.
+     *
+     * @param generator генератор паролей
+     * @param bufferSize размер прямого буфера записи в байтах
+     * @param fsyncPolicy политика сброса на диск
+     * @throws IllegalArgumentException если размер буфера не положителен
+     */
+    public PasswordBatchExporter(PasswordGenerator generator, int bufferSize, FsyncPolicy fsyncPolicy) {
+        this(generator, bufferSize, fsyncPolicy, 1);
+    }
+
+    /**
+     * Конструктор с настройкой буфера, политики сброса и количества потоков генерации.
+     * При нескольких потоках генератор вызывается из них одновременно, поэтому он должен
+     * быть потокобезопасным, например {@link PasswordGenerator#forConcurrentUse()}.
+     *
+     * @param generator генератор паролей
+     * @param bufferSize размер прямого буфера записи в байтах
+     * @param fsyncPolicy политика сброса на диск
+     * @param threads количество потоков генерации
+     * @throws IllegalArgumentException если размер буфера или количество потоков не положительны
+     */
+    public PasswordBatchExporter(PasswordGenerator generator, int bufferSize, FsyncPolicy fsyncPolicy,
+                                 int threads) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Размер буфера должен быть положительным, получено: " + bufferSize);
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("Количество потоков должно быть положительным, получено: " + threads);
+        }
+        this.generator = Objects.requireNonNull(generator, "Генератор не может быть null");
+        this.bufferSize = bufferSize;
+        this.fsyncPolicy = Objects.requireNonNull(fsyncPolicy, "Политика fsync не может быть null");
+        this.threads = threads;
+    }
+
+    /**
+     * Выгружает пароли в файл, создавая его или перезаписывая существующий.
+     * Конфигурация проверяется до открытия файла, поэтому при ошибке файл не изменяется.
+     *
+     * @param config конфигурация паролей
+     * @param count количество паролей
+     * @param path путь к файлу
+     * @return итог выгрузки
+     * @throws InvalidPasswordConfigException если конфигурация некорректна
+     * @throws IOException если запись не удалась
+     * @throws IllegalArgumentException если count отрицательный
+     */
+    public ExportResult export(PasswordGenerationConfig config, long count, Path path)
+            throws InvalidPasswordConfigException, IOException {
+        Objects.requireNonNull(path, "Путь не может быть null");
+        validateCount(count);
+        generator.validateConfig(config, GenerationMode.IN_MEMORY);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ExportResult result = export(config, count, channel);
+            logger.info("Пароли выгружены в файл {}. {}", path, result);
+            return result;
+        }
+    }
+
+    /**
+     * Выгружает пароли в открытый канал с его текущей позиции. Канал не закрывается.
+     * Политика сброса на диск применяется, только если канал является {@link FileChannel};
+     * в остальные каналы, например стандартный вывод, данные просто записываются.
+     *
+     * @param config конфигурация паролей
+     * @param count количество паролей
+     * @param channel канал для записи
+     * @return итог выгрузки
+     * @throws InvalidPasswordConfigException если конфигурация некорректна
+     * @throws IOException если запись не удалась или пароль содержит непарный суррогат
+     * @throws IllegalArgumentException если count отрицательный
+     */
+    public ExportResult export(PasswordGenerationConfig config, long count, WritableByteChannel channel)
+            throws InvalidPasswordConfigException, IOException {
+        Objects.requireNonNull(channel, "Канал не может быть null");
+        validateCount(count);
+        generator.validateConfig(config, GenerationMode.IN_MEMORY);
+
+        long startTime = System.nanoTime();
+        ChannelWriter writer = new ChannelWriter(channel);
+        try {
+            if (threads == 1 || count < 2) {
+                byte[] line = lineBuffer(config.getLength());
+                try {
+                    generator.generateEach(config, count, password -> writer.write(line, encodeLine(password, line)));
+                } finally {
+                    Arrays.fill(line, (byte) 0);
+                }
+            } else {
+                exportParallel(config, count, writer);
+            }
+            writer.finish();
+        } finally {
+            writer.clear();
+        }
+        ExportResult result = new ExportResult(count, writer.bytesWritten,
+                System.nanoTime() - startTime, writer.fsyncCount);
+        logger.debug("Выгрузка паролей завершена: длина={}, fsync={}, {}",
+                config.getLength(), fsyncPolicy, result);
+        return result;
+    }
+
+    /**
+     * Генерирует пароли блоками в пуле потоков и записывает блоки в порядке отправки.
+     * Одновременно в работе не больше {@value #BLOCKS_IN_FLIGHT_PER_THREAD} блоков на поток.
+     *
+     * @param config проверенная конфигурация паролей
+     * @param count количество паролей
+     * @param writer запись в канал
+     * @throws InvalidPasswordConfigException если конфигурация некорректна
+     * @throws IOException если запись или генерация блока не удалась
+     */
+    private void exportParallel(PasswordGenerationConfig config, long count, ChannelWriter writer)
+            throws InvalidPasswordConfigException, IOException {
+        int lineCapacity = config.getLength() * 3 + 1;
+        int blockPasswords = (int) Math.max(1, Math.min(count, bufferSize / lineCapacity));
+        ExecutorService executor = TaskExecutors.newExecutor("password-export", threads,
+                TaskExecutors.ThreadKind.PLATFORM);
+        Deque<Future<Block>> inFlight = new ArrayDeque<>();
+        try {
+            long submitted = 0;
+            while (submitted < count || !inFlight.isEmpty()) {
+                while (submitted < count && inFlight.size() < threads * BLOCKS_IN_FLIGHT_PER_THREAD) {
+                    int passwords = (int) Math.min(blockPasswords, count - submitted);
+                    inFlight.addLast(executor.submit(() -> generateBlock(config, passwords)));
+                    submitted += passwords;
+                }
+                Block block = awaitBlock(inFlight.removeFirst());
+                try {
+                    writer.write(block.bytes, block.length);
+                } finally {
+                    Arrays.fill(block.bytes, (byte) 0);
+                }
+            }
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Генерирует блок паролей, закодированных в UTF-8 с переводами строк.
+     *
+     * @param config конфигурация паролей
+     * @param passwords количество паролей в блоке
+     * @return закодированный блок
+     * @throws InvalidPasswordConfigException если конфигурация некорректна
+     * @throws IOException если пароль содержит непарный суррогат
+     */
+    private Block generateBlock(PasswordGenerationConfig config, int passwords)
+            throws InvalidPasswordConfigException, IOException {
+        byte[] line = lineBuffer(config.getLength());
+        Block block = new Block(new byte[line.length * passwords]);
+        try {
+            generator.generateEach(config, passwords, password -> {
+                int length = encodeLine(password, line);
+                System.arraycopy(line, 0, block.bytes, block.length, length);
+                block.length += length;
+            });
+        } finally {
+            Arrays.fill(line, (byte) 0);
+        }
+        return block;
+    }
+
+    /**
+     * Дожидается блока, разворачивая исключение задачи.
+     *
+     * @param future задача генерации блока
+     * @return закодированный блок
+     * @throws InvalidPasswordConfigException если конфигурация некорректна
+     * @throws IOException если генерация блока не удалась
+     */
+    private static Block awaitBlock(Future<Block> future) throws InvalidPasswordConfigException, IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Выгрузка паролей прервана", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof InvalidPasswordConfigException configException) {
+                throw configException;
+            }
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException("Ошибка при генерации блока паролей", cause);
+        }
+    }
+
+    /**
+     * Блок закодированных паролей с фактической длиной.
+     */
+    private static final class Block {
+
+        private final byte[] bytes;
+        private int length;
+
+        Block(byte[] bytes) {
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * Создаёт буфер строки, в который помещается пароль в UTF-8 и перевод строки.
+     *
+     * @param passwordLength длина пароля в символах
+     * @return буфер строки
+     */
+    private static byte[] lineBuffer(int passwordLength) {
+        return new byte[passwordLength * 3 + 1];
+    }
+
+    /**
+     * Кодирует пароль в UTF-8 и добавляет перевод строки.
+     *
+     * @param password символы пароля
+     * @param line буфер строки из {@link #lineBuffer(int)}
+     * @return длина строки в байтах
+     * @throws MalformedInputException если пароль содержит непарный суррогат
+     */
+    private static int encodeLine(char[] password, byte[] line) throws MalformedInputException {
+        int length = encodeUtf8(password, line);
+        line[length++] = LINE_SEPARATOR;
+        return length;
+    }
+
+    /**
+     * Проверяет количество паролей.
+     *
+     * @param count количество паролей
+     * @throws IllegalArgumentException если count отрицательный
+     */
+    private static void validateCount(long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException(
+                    "Количество паролей не может быть отрицательным, получено: " + count);
+        }
+    }
+
+    /**
+     * Кодирует символы в UTF-8. Суррогатные пары кодируются четырьмя байтами.
+     *
+     * @param chars символы
+     * @param out буфер размером не меньше 3 байт на символ
+     * @return количество записанных байтов
+     * @throws MalformedInputException если встретился непарный суррогат
+     */
+    static int encodeUtf8(char[] chars, byte[] out) throws MalformedInputException {
+        int position = 0;
+        for (int i = 0; i < chars.length; i++) {
+            char c = chars[i];
+            if (c < 0x80) {
+                out[position++] = (byte) c;
+            } else if (c < 0x800) {
+                out[position++] = (byte) (0xC0 | (c >> 6));
+                out[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (!Character.isHighSurrogate(c) || i + 1 == chars.length
+                        || !Character.isLowSurrogate(chars[i + 1])) {
+                    throw new MalformedInputException(1);
+                }
+                int codePoint = Character.toCodePoint(c, chars[++i]);
+                out[position++] = (byte) (0xF0 | (codePoint >> 18));
+                out[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                out[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                out[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                out[position++] = (byte) (0xE0 | (c >> 12));
+                out[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                out[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Запись закодированных строк паролей в канал через прямой буфер.
+     */
+    private final class ChannelWriter {
+
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer;
+        private long bytesWritten;
+        private int fsyncCount;
+
+        /**
+         * Конструктор записи.
+         *
+         * @param channel канал для записи
+         */
+        ChannelWriter(WritableByteChannel channel) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        }
+
+        /**
+         * Добавляет байты в буфер. Данные, не помещающиеся в буфер, записываются частями.
+         *
+         * @param bytes закодированные строки паролей
+         * @param length количество байтов
+         * @throws IOException если запись не удалась
+         */
+        void write(byte[] bytes, int length) throws IOException {
+            int offset = 0;
+            while (offset < length) {
+                if (!buffer.hasRemaining()) {
+                    flushBuffer();
+                }
+                int portion = Math.min(buffer.remaining(), length - offset);
+                buffer.put(bytes, offset, portion);
+                offset += portion;
+            }
+        }
+
+        /**
+         * Записывает остаток буфера и выполняет завершающий сброс по политике.
+         *
+         * @throws IOException если запись не удалась
+         */
+        void finish() throws IOException {
+            if (buffer.position() > 0) {
+                flushBuffer();
+            }
+            if (fsyncPolicy == FsyncPolicy.ON_FINISH) {
+                force();
+            }
+        }
+
+        /**
+         * Записывает буфер в канал целиком.
+         *
+         * @throws IOException если запись не удалась
+         */
+        private void flushBuffer() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                bytesWritten += channel.write(buffer);
+            }
+            buffer.clear();
+            if (fsyncPolicy == FsyncPolicy.EVERY_BUFFER) {
+                force();
+            }
+        }
+
+        /**
+         * Сбрасывает данные файла на диск, если канал является файлом.
+         *
+         * @throws IOException если сброс не удался
+         */
+        private void force() throws IOException {
+            if (channel instanceof FileChannel fileChannel) {
+                fileChannel.force(false);
+                fsyncCount++;
+            }
+        }
+
+        /**
+         * Затирает буфер с байтами паролей.
+         */
+        void clear() {
+            buffer.clear();
+            byte[] zeros = new byte[Math.min(buffer.capacity(), PasswordGenerator.STREAM_CHUNK_SIZE)];
+            while (buffer.hasRemaining()) {
+                buffer.put(zeros, 0, Math.min(zeros.length, buffer.remaining()));
+            }
+        }
+    }
+}
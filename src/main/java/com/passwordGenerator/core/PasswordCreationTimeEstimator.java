@@ -3,9 +3,15 @@ package com.passwordGenerator.core;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * Класс для оценки времени создания паролей разной длины и сложности.
@@ -19,20 +25,216 @@ public class PasswordCreationTimeEstimator {
 
     private static final Logger logger = LogManager.getLogger(PasswordCreationTimeEstimator.class);
     private final PasswordGenerator generator;
+    private final int warmupRounds;
+    private final int measurementRounds;
+    private final SweepMode sweepMode;
+    private final int sweepWorkers;
 
     private static final int DEFAULT_MIN_LENGTH = 10_000;
     private static final int DEFAULT_MAX_LENGTH = 1_000_000;
     private static final int PASSWORDS_PER_LENGTH = 10;
+    private static final int DEFAULT_WARMUP_ROUNDS = 3;
+    private static final int DEFAULT_SCALABILITY_LENGTH = 10_000;
+    private static final int DEFAULT_PASSWORDS_PER_THREAD = 200;
+
+    private static final String REPORT_ROW_FORMAT =
+            "%-10s | %-12s | %-12s | %-12s | %-12s | %-12s | %-12s | %-12s | %-12s | %-6s"
+                    + " | %-12s | %-12s | %-10s\n";
+    private static final int REPORT_WIDTH = 180;
+    private static final String SCALABILITY_ROW_FORMAT = "%-10s | %-8s | %-10s | %-14s | %-16s | %-12s\n";
+    private static final int SCALABILITY_REPORT_WIDTH = 85;
+
+    /**
+     * Режим прохода по длинам паролей.
+     */
+    public enum SweepMode {
+        /** Длины замеряются строго по очереди в вызывающем потоке - самые чистые цифры */
+        ACCURATE("последовательный"),
+        /**
+         * Длины распределяются по ограниченному пулу потоков, каждая длина замеряется
+         * целиком в одном потоке с собственным генератором. Быстрее, но потоки конкурируют
+         * за ядра, кеш и память, а счётчики GC общие для всех потоков.
+         */
+        PARALLEL("параллельный");
+
+        private final String displayName;
+
+        /**
+         * Конструктор режима.
+         *
+         * @param displayName название для отчёта
+         */
+        SweepMode(String displayName) {
+            this.displayName = displayName;
+        }
+
+        /**
+         * Возвращает название для отчёта.
+         *
+         * @return название режима
+         */
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    /**
+     * Способ использования генератора потоками в тесте масштабируемости.
+     */
+    public enum GeneratorSharing {
+        /** Все потоки используют один общий генератор */
+        SHARED("общий"),
+        /** Каждый поток использует собственный генератор */
+        PER_THREAD("на поток");
+
+        private final String displayName;
+
+        /**
+         * Конструктор способа использования генератора.
+         *
+         * @param displayName название для отчёта
+         */
+        GeneratorSharing(String displayName) {
+            this.displayName = displayName;
+        }
+
+        /**
+         * Возвращает название для отчёта.
+         *
+         * @return название способа
+         */
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    /**
+     * Внутренний класс для хранения результата одного прогона теста масштабируемости.
+     * Содержит суммарную пропускную способность всех потоков и эффективность
+     * масштабирования относительно однопоточного прогона того же режима.
+     */
+    public static class ScalabilityResult {
+
+        private final GeneratorSharing sharing;
+        private final int threadCount;
+        private final int passwordLength;
+        private final long passwordsGenerated;
+        private final long elapsedNanos;
+        private final double scalingEfficiency;
+
+        /**
+         * Конструктор результата прогона.
+         *
+         * @param sharing способ использования генератора
+         * @param threadCount количество потоков
+         * @param passwordLength длина генерируемых паролей
+         * @param passwordsGenerated суммарное количество паролей всех потоков
+         * @param elapsedNanos время прогона в наносекундах
+         * @param scalingEfficiency эффективность масштабирования (1.0 - линейный рост)
+         */
+        public ScalabilityResult(GeneratorSharing sharing, int threadCount, int passwordLength,
+                                 long passwordsGenerated, long elapsedNanos, double scalingEfficiency) {
+            this.sharing = sharing;
+            this.threadCount = threadCount;
+            this.passwordLength = passwordLength;
+            this.passwordsGenerated = passwordsGenerated;
+            this.elapsedNanos = elapsedNanos;
+            this.scalingEfficiency = scalingEfficiency;
+        }
+
+        /**
+         * Возвращает способ использования генератора.
+         *
+         * @return способ использования генератора
+         */
+        public GeneratorSharing getSharing() {
+            return sharing;
+        }
+
+        /**
+         * Возвращает количество потоков.
+         *
+         * @return количество потоков
+         */
+        public int getThreadCount() {
+            return threadCount;
+        }
+
+        /**
+         * Возвращает длину генерируемых паролей.
+         *
+         * @return длина паролей
+         */
+        public int getPasswordLength() {
+            return passwordLength;
+        }
+
+        /**
+         * Возвращает суммарное количество паролей всех потоков.
+         *
+         * @return количество паролей
+         */
+        public long getPasswordsGenerated() {
+            return passwordsGenerated;
+        }
+
+        /**
+         * Возвращает время прогона.
+         *
+         * @return время в наносекундах
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Возвращает суммарное количество паролей в секунду.
+         *
+         * @return паролей в секунду
+         */
+        public double getPasswordsPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : passwordsGenerated * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        /**
+         * Возвращает суммарное количество символов в секунду.
+         *
+         * @return символов в секунду
+         */
+        public double getCharactersPerSecond() {
+            return getPasswordsPerSecond() * passwordLength;
+        }
+
+        /**
+         * Возвращает эффективность масштабирования: пропускная способность, делённая
+         * на пропускную способность одного потока, умноженную на количество потоков.
+         *
+         * @return эффективность (1.0 - линейный рост)
+         */
+        public double getScalingEfficiency() {
+            return scalingEfficiency;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("ScalabilityResult{sharing=%s, threads=%d, passwords/s=%.1f, chars/s=%.0f, "
+                            + "efficiency=%.2f}",
+                    sharing, threadCount, getPasswordsPerSecond(), getCharactersPerSecond(), scalingEfficiency);
+        }
+    }
 
     /**
      * Внутренний класс для хранения результатов одного теста.
-     * Содержит информацию о времени генерации пароля определённой длины.
+     * Содержит информацию о времени генерации пароля определённой длины
+     * и, если доступна, статистику распределения времени по замерам.
      */
     public static class PerformanceResult {
 
         private final int passwordLength;
         private final double averageTimeNanos;
         private final int numberOfPasswordsGenerated;
+        private final TimingStatistics statistics;
+        private final AllocationProfile allocationProfile;
 
         /**
          * Конструктор результата теста.
@@ -46,6 +248,34 @@ public class PasswordCreationTimeEstimator {
             this.passwordLength = passwordLength;
             this.averageTimeNanos = averageTimeNanos;
             this.numberOfPasswordsGenerated = numberOfPasswordsGenerated;
+            this.statistics = null;
+            this.allocationProfile = null;
+        }
+
+        /**
+         * Конструктор результата теста со статистикой по замерам.
+         *
+         * @param passwordLength длина тестируемого пароля
+         * @param statistics статистика времени генерации по замерам
+         */
+        public PerformanceResult(int passwordLength, TimingStatistics statistics) {
+            this(passwordLength, statistics, null);
+        }
+
+        /**
+         * Конструктор результата теста со статистикой по замерам и профилем памяти.
+         *
+         * @param passwordLength длина тестируемого пароля
+         * @param statistics статистика времени генерации по замерам
+         * @param allocationProfile профиль выделения памяти и GC за замеры, может быть null
+         */
+        public PerformanceResult(int passwordLength, TimingStatistics statistics,
+                                 AllocationProfile allocationProfile) {
+            this.passwordLength = passwordLength;
+            this.averageTimeNanos = statistics.getMean();
+            this.numberOfPasswordsGenerated = statistics.getSampleCount();
+            this.statistics = statistics;
+            this.allocationProfile = allocationProfile;
         }
 
         /**
@@ -66,19 +296,57 @@ public class PasswordCreationTimeEstimator {
             return numberOfPasswordsGenerated;
         }
 
+        /**
+         * Возвращает среднее время генерации одного пароля.
+         *
+         * @return среднее время в наносекундах
+         */
+        public double getAverageTimeNanos() {
+            return averageTimeNanos;
+        }
+
+        /**
+         * Возвращает статистику распределения времени по замерам.
+         *
+         * @return статистика или null, если результат содержит только среднее время
+         */
+        public TimingStatistics getStatistics() {
+            return statistics;
+        }
+
+        /**
+         * Возвращает профиль выделения памяти и работы GC за замеры.
+         *
+         * @return профиль или null, если он не снимался
+         */
+        public AllocationProfile getAllocationProfile() {
+            return allocationProfile;
+        }
+
         /**
          * Форматирует среднее время в удобочитаемый вид.
+         *
+         * @return строка с временем в наиболее подходящей единице
+         * @see #formatTime(double)
+         */
+        public String getFormattedAverageTime() {
+            return formatTime(averageTimeNanos);
+        }
+
+        /**
+         * Форматирует время в удобочитаемый вид.
          * Преобразует наносекунды в наиболее подходящую единицу:
          * - Наносекунды (нс) - если менее 1 миллисекунды
          * - Миллисекунды (мс) - если менее 1 секунды
          * - Секунды (с) - если более 1 секунды
          *
+         * @param nanos время в наносекундах
          * @return строка с временем в наиболее подходящей единице
          */
-        public String getFormattedAverageTime() {
-            double timeMs = averageTimeNanos / 1_000_000.0;
+        public static String formatTime(double nanos) {
+            double timeMs = nanos / 1_000_000.0;
             if (timeMs < 1.0) {
-                return String.format("%.2f нс", averageTimeNanos);
+                return String.format("%.2f нс", nanos);
             } else if (timeMs < 1000.0) {
                 return String.format("%.2f мс", timeMs);
             } else {
@@ -106,8 +374,7 @@ public class PasswordCreationTimeEstimator {
      * @param generator экземпляр генератора паролей для тестирования
      */
     public PasswordCreationTimeEstimator(PasswordGenerator generator) {
-        this.generator = generator;
-        logger.info("Инициализирован PasswordCreationTimeEstimator");
+        this(generator, DEFAULT_WARMUP_ROUNDS, PASSWORDS_PER_LENGTH);
     }
 
     /**
@@ -115,40 +382,112 @@ public class PasswordCreationTimeEstimator {
      * Создаёт новый экземпляр PasswordGenerator автоматически.
      */
     public PasswordCreationTimeEstimator() {
-        this.generator = new PasswordGenerator();
-        logger.info("Инициализирован PasswordCreationTimeEstimator с генератором по умолчанию");
+        this(new PasswordGenerator());
+    }
+
+    /**
+     * Конструктор оценщика с настройкой числа раундов.
+     * Прогревочные раунды выполняются перед замерами и не учитываются в статистике,
+     * чтобы JIT-компиляция и первичная инициализация SecureRandom не искажали результат.
+     *
+     * @param generator экземпляр генератора паролей для тестирования
+     * @param warmupRounds количество прогревочных генераций на каждую длину
+     * @param measurementRounds количество замеряемых генераций на каждую длину
+     * @throws IllegalArgumentException если warmupRounds отрицательно или measurementRounds меньше 1
+     */
+    public PasswordCreationTimeEstimator(PasswordGenerator generator, int warmupRounds, int measurementRounds) {
+        this(generator, warmupRounds, measurementRounds, SweepMode.ACCURATE, 1);
+    }
+
+    /**
+     * Конструктор оценщика с настройкой числа раундов и режима прохода по длинам.
+     * В режиме {@link SweepMode#PARALLEL} длины распределяются по пулу из sweepWorkers потоков;
+     * каждый поток замеряет длину целиком со своим генератором, созданным через
+     * {@link RandomSource#split()}. Привязать потоки к ядрам средствами Java нельзя,
+     * поэтому изоляция ограничена отдельным потоком и генератором на длину.
+     *
+     * @param generator экземпляр генератора паролей для тестирования
+     * @param warmupRounds количество прогревочных генераций на каждую длину
+     * @param measurementRounds количество замеряемых генераций на каждую длину
+     * @param sweepMode режим прохода по длинам
+     * @param sweepWorkers количество потоков для параллельного режима
+     * @throws IllegalArgumentException если warmupRounds отрицательно, measurementRounds
+     *                                  или sweepWorkers меньше 1
+     */
+    public PasswordCreationTimeEstimator(PasswordGenerator generator, int warmupRounds, int measurementRounds,
+                                         SweepMode sweepMode, int sweepWorkers) {
+        if (warmupRounds < 0) {
+            throw new IllegalArgumentException(
+                    "Количество прогревочных раундов не может быть отрицательным, получено: " + warmupRounds);
+        }
+        if (measurementRounds < 1) {
+            throw new IllegalArgumentException(
+                    "Количество замеров должно быть положительным, получено: " + measurementRounds);
+        }
+        if (sweepWorkers < 1) {
+            throw new IllegalArgumentException(
+                    "Количество потоков должно быть положительным, получено: " + sweepWorkers);
+        }
+        this.generator = generator;
+        this.warmupRounds = warmupRounds;
+        this.measurementRounds = measurementRounds;
+        this.sweepMode = sweepMode;
+        this.sweepWorkers = sweepMode == SweepMode.ACCURATE ? 1 : sweepWorkers;
+        logger.info("Инициализирован PasswordCreationTimeEstimator: прогрев={}, замеров={}, режим={}, потоков={}",
+                warmupRounds, measurementRounds, sweepMode, this.sweepWorkers);
     }
 
     /**
-     * Измеряет среднее время генерации одного пароля определённой длины.
+     * Измеряет время генерации паролей определённой длины.
+     * Сначала выполняет прогревочные генерации, затем замеряет каждую генерацию отдельно.
+     *
+     * Отмена проверяется перед каждой генерацией.
      *
+     * @param lengthGenerator генератор, которым выполняются замеры
      * @param passwordLength длина генерируемых паролей
-     * @param numberOfPasswords количество паролей для генерации
-     * @return результат измерения с временем
+     * @param numberOfPasswords количество замеряемых паролей
+     * @param listener слушатель хода выполнения
+     * @param cancellation признак отмены
+     * @return результат измерения со статистикой времени
+     * @throws CancellationException если тест отменён
      * @throws RuntimeException если возникла ошибка при генерации
      */
-    private PerformanceResult measureTime(int passwordLength, int numberOfPasswords) {
-        logger.info("Начало измерения времени для длины: {}, паролей: {}",
-                passwordLength, numberOfPasswords);
+    private PerformanceResult measureTime(PasswordGenerator lengthGenerator, int passwordLength,
+                                          int numberOfPasswords, EstimatorProgressListener listener,
+                                          CancellationToken cancellation) {
+        logger.info("Начало измерения времени для длины: {}, прогрев: {}, паролей: {}",
+                passwordLength, warmupRounds, numberOfPasswords);
         PasswordGenerationConfig config = createDefaultConfig(passwordLength);
-        long startTime = System.nanoTime();
+        long[] samples = new long[numberOfPasswords];
+        AllocationProfile allocationProfile;
 
         try {
-            IntStream.range(0, numberOfPasswords)
-                    .peek(i -> logProgress(i, numberOfPasswords, passwordLength))
-                    .forEach(i -> generatePasswordSafely(config));
+            for (int i = 0; i < warmupRounds; i++) {
+                cancellation.throwIfCancelled();
+                generatePasswordSafely(lengthGenerator, config);
+            }
+            AllocationProfile.Snapshot snapshot = AllocationProfile.snapshot();
+            for (int i = 0; i < numberOfPasswords; i++) {
+                cancellation.throwIfCancelled();
+                logProgress(i, numberOfPasswords, passwordLength);
+                long startTime = System.nanoTime();
+                generatePasswordSafely(lengthGenerator, config);
+                samples[i] = System.nanoTime() - startTime;
+                listener.onPasswordMeasured(passwordLength, i + 1, numberOfPasswords);
+            }
+            allocationProfile = snapshot.finish(numberOfPasswords, (long) numberOfPasswords * passwordLength);
+        } catch (CancellationException e) {
+            logger.info("Измерение для длины {} отменено", passwordLength);
+            throw e;
         } catch (Exception e) {
             logger.error("Ошибка при генерации паролей для длины {}: {}",
                     passwordLength, e.getMessage(), e);
             throw new RuntimeException("Ошибка измерения для длины " + passwordLength, e);
         }
 
-        long endTime = System.nanoTime();
-        long totalTimeNanos = endTime - startTime;
-        double averageTimeNanos = (double) totalTimeNanos / numberOfPasswords;
-
-        logger.info("Завершено для длины: {}. Среднее: {} нс", passwordLength, averageTimeNanos);
-        return new PerformanceResult(passwordLength, averageTimeNanos, numberOfPasswords);
+        TimingStatistics statistics = TimingStatistics.of(samples);
+        logger.info("Завершено для длины: {}. {}, {}", passwordLength, statistics, allocationProfile);
+        return new PerformanceResult(passwordLength, statistics, allocationProfile);
     }
 
     /**
@@ -167,11 +506,12 @@ public class PasswordCreationTimeEstimator {
     /**
      * Генерирует пароль с обработкой исключений.
      *
+     * @param lengthGenerator генератор паролей
      * @param config конфигурация генерации
      */
-    private void generatePasswordSafely(PasswordGenerationConfig config) {
+    private void generatePasswordSafely(PasswordGenerator lengthGenerator, PasswordGenerationConfig config) {
         try {
-            generator.generate(config);
+            lengthGenerator.generate(config);
         } catch (Exception e) {
             logger.error("Ошибка при генерации пароля в тесте", e);
             throw new RuntimeException("Ошибка генерации пароля", e);
@@ -193,41 +533,285 @@ public class PasswordCreationTimeEstimator {
     }
 
     /**
-     * Выполняет тесты для списка длин пароля.
+     * Возвращает последовательность количества потоков для теста масштабируемости:
+     * степени двойки до maxThreads и само maxThreads, если оно не степень двойки.
+     *
+     * @param maxThreads максимальное количество потоков
+     * @return возрастающий список количества потоков
+     */
+    static List<Integer> threadCounts(int maxThreads) {
+        List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < maxThreads; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(maxThreads);
+        return counts;
+    }
+
+    /**
+     * Выполняет прогоны масштабируемости для одного способа использования генератора.
+     *
+     * @param sharing способ использования генератора
+     * @param passwordLength длина генерируемых паролей
+     * @param maxThreads максимальное количество потоков
+     * @param passwordsPerThread количество замеряемых паролей на поток
+     * @return результаты для каждого количества потоков
+     */
+    private List<ScalabilityResult> runScalabilitySweep(GeneratorSharing sharing, int passwordLength,
+                                                        int maxThreads, int passwordsPerThread) {
+        List<ScalabilityResult> results = new ArrayList<>();
+        double singleThreadThroughput = 0;
+        for (int threads : threadCounts(maxThreads)) {
+            long elapsedNanos = measureConcurrentThroughput(sharing, passwordLength, threads, passwordsPerThread);
+            long passwords = (long) threads * passwordsPerThread;
+            double throughput = passwords * 1_000_000_000.0 / Math.max(1, elapsedNanos);
+            if (threads == 1) {
+                singleThreadThroughput = throughput;
+            }
+            double efficiency = singleThreadThroughput == 0 ? 0.0 : throughput / (singleThreadThroughput * threads);
+            ScalabilityResult result = new ScalabilityResult(sharing, threads, passwordLength,
+                    passwords, elapsedNanos, efficiency);
+            logger.info("Результат: {}", result);
+            results.add(result);
+        }
+        return results;
+    }
+
+    /**
+     * Замеряет время, за которое заданное количество потоков сгенерирует по
+     * passwordsPerThread паролей. Каждый поток сначала выполняет прогрев, затем все
+     * потоки одновременно стартуют по общему сигналу; время отсчитывается от сигнала
+     * до завершения последнего потока. Поток, прогрев которого завершился ошибкой,
+     * всё равно снимает свою отметку готовности, чтобы ожидание старта не зависло.
+     *
+     * @param sharing способ использования генератора
+     * @param passwordLength длина генерируемых паролей
+     * @param threads количество потоков
+     * @param passwordsPerThread количество замеряемых паролей на поток
+     * @return время прогона в наносекундах
+     * @throws RuntimeException если генерация в одном из потоков завершилась ошибкой
+     */
+    private long measureConcurrentThroughput(GeneratorSharing sharing, int passwordLength,
+                                             int threads, int passwordsPerThread) {
+        logger.info("Начало прогона масштабируемости: генератор {}, потоков: {}, длина: {}",
+                sharing.getDisplayName(), threads, passwordLength);
+        PasswordGenerationConfig config = createDefaultConfig(passwordLength);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = TaskExecutors.newExecutor("estimator-scalability", threads,
+                TaskExecutors.ThreadKind.PLATFORM);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                PasswordGenerator threadGenerator = sharing == GeneratorSharing.SHARED
+                        ? generator
+                        : new PasswordGenerator(generator.getRandomSource().split());
+                futures.add(executor.submit(() -> {
+                    try {
+                        for (int i = 0; i < warmupRounds; i++) {
+                            threadGenerator.generate(config);
+                        }
+                    } finally {
+                        ready.countDown();
+                    }
+                    start.await();
+                    for (int i = 0; i < passwordsPerThread; i++) {
+                        threadGenerator.generate(config);
+                    }
+                    return null;
+                }));
+            }
+            ready.await();
+            long startTime = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return System.nanoTime() - startTime;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Тест масштабируемости прерван", e);
+        } catch (ExecutionException e) {
+            logger.error("Ошибка при генерации паролей в {} потоках: {}", threads, e.getCause().getMessage(), e);
+            throw new RuntimeException("Ошибка измерения для " + threads + " потоков", e.getCause());
+        } finally {
+            start.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Генерирует отчёт о тесте масштабируемости.
+     *
+     * @param results результаты прогонов для всех режимов
+     * @param testName название теста
+     * @return отчёт в текстовом формате
+     */
+    private String generateScalabilityReport(List<ScalabilityResult> results, String testName) {
+        StringBuilder report = new StringBuilder();
+        report.append("\nОТЧЕТ О ТЕСТЕ МАСШТАБИРУЕМОСТИ ГЕНЕРАЦИИ ПАРОЛЕЙ\n");
+        report.append(String.format("%-53s\n", testName));
+        report.append("Источник случайности: ").append(generator.getRandomSource().getAlgorithm()).append("\n");
+        report.append("Доступно процессоров: ").append(Runtime.getRuntime().availableProcessors()).append("\n");
+        report.append(String.format(SCALABILITY_ROW_FORMAT, "Генератор", "Потоков", "Паролей",
+                "Паролей/с", "Символов/с", "Эффективность"));
+        report.append("─".repeat(SCALABILITY_REPORT_WIDTH)).append("\n");
+
+        for (ScalabilityResult result : results) {
+            report.append(String.format(SCALABILITY_ROW_FORMAT,
+                    result.getSharing().getDisplayName(),
+                    result.getThreadCount(),
+                    result.getPasswordsGenerated(),
+                    String.format("%.1f", result.getPasswordsPerSecond()),
+                    String.format("%.0f", result.getCharactersPerSecond()),
+                    String.format("%.0f%%", result.getScalingEfficiency() * 100)));
+        }
+
+        report.append("─".repeat(SCALABILITY_REPORT_WIDTH)).append("\n");
+        return report.toString();
+    }
+
+    /**
+     * Выполняет тесты для списка длин пароля в текущем режиме прохода.
+     * Результаты передаются слушателю по мере готовности, в порядке длин.
      *
      * @param lengthsToTest список длин для тестирования
      * @param passwordsPerLength количество паролей на каждую длину
-     * @return список результатов измерений
-     */
-    private List<PerformanceResult> runPerformanceTest(List<Integer> lengthsToTest,
-                                                       int passwordsPerLength) {
-        logger.info("Начало тестирования для {} длин", lengthsToTest.size());
-        List<PerformanceResult> results = lengthsToTest.stream()
-                .map(length -> measureTime(length, passwordsPerLength))
-                .peek(result -> logger.info("Результат: {}", result))
-                .collect(Collectors.toList());
+     * @param listener слушатель хода выполнения
+     * @param cancellation признак отмены
+     * @return список результатов измерений в порядке длин
+     * @throws CancellationException если тест отменён
+     */
+    private List<PerformanceResult> runPerformanceTest(List<Integer> lengthsToTest, int passwordsPerLength,
+                                                       EstimatorProgressListener listener,
+                                                       CancellationToken cancellation) {
+        logger.info("Начало тестирования для {} длин, режим: {}", lengthsToTest.size(), sweepMode);
+        List<PerformanceResult> results;
+        if (sweepMode == SweepMode.PARALLEL && lengthsToTest.size() > 1) {
+            results = runParallelSweep(lengthsToTest, passwordsPerLength, listener, cancellation);
+        } else {
+            results = new ArrayList<>(lengthsToTest.size());
+            for (int i = 0; i < lengthsToTest.size(); i++) {
+                int length = lengthsToTest.get(i);
+                listener.onLengthStarted(length, i, lengthsToTest.size());
+                PerformanceResult result = measureTime(generator, length, passwordsPerLength, listener, cancellation);
+                logger.info("Результат: {}", result);
+                results.add(result);
+                listener.onResult(result, results.size(), lengthsToTest.size());
+            }
+        }
         logger.info("Завершено {} тестов", results.size());
         return results;
     }
 
     /**
-     * Выполняет тесты для диапазона длин пароля с заданным шагом.
+     * Распределяет длины по подзадачам {@link TaskScope} на ограниченном пуле потоков:
+     * ошибка или отмена одной длины останавливает остальные. Каждая длина замеряется целиком
+     * в одном потоке собственным генератором, чтобы потоки не конкурировали за общий
+     * источник случайности.
      *
-     * @param minLength минимальная длина пароля
-     * @param maxLength максимальная длина пароля
-     * @param step шаг между измерениями
+     * @param lengthsToTest список длин для тестирования
      * @param passwordsPerLength количество паролей на каждую длину
-     * @return список результатов для всех длин в диапазоне
+     * @param listener слушатель хода выполнения
+     * @param cancellation признак отмены
+     * @return список результатов измерений в порядке длин
+     * @throws CancellationException если тест отменён
+     * @throws RuntimeException если замер одной из длин завершился ошибкой
      */
-    private List<PerformanceResult> runPerformanceTestRange(int minLength, int maxLength,
-                                                            int step, int passwordsPerLength) {
-        logger.info("Начало теста диапазона: {} - {}, шаг: {}", minLength, maxLength, step);
-        List<Integer> lengthsToTest = IntStream.rangeClosed(minLength, maxLength)
-                .filter(length -> (length - minLength) % step == 0)
-                .boxed()
-                .collect(Collectors.toList());
-        logger.info("Будет протестировано {} длин", lengthsToTest.size());
-        return runPerformanceTest(lengthsToTest, passwordsPerLength);
+    private List<PerformanceResult> runParallelSweep(List<Integer> lengthsToTest, int passwordsPerLength,
+                                                     EstimatorProgressListener listener,
+                                                     CancellationToken cancellation) {
+        int workers = Math.min(sweepWorkers, lengthsToTest.size());
+        ExecutorService executor = TaskExecutors.newExecutor("estimator-sweep", workers,
+                TaskExecutors.ThreadKind.PLATFORM);
+        try (TaskScope<PerformanceResult> scope = new TaskScope<>(executor, workers, cancellation)) {
+            for (int i = 0; i < lengthsToTest.size(); i++) {
+                int length = lengthsToTest.get(i);
+                int index = i;
+                scope.fork(() -> {
+                    listener.onLengthStarted(length, index, lengthsToTest.size());
+                    return measureTime(new PasswordGenerator(generator.getRandomSource().split()),
+                            length, passwordsPerLength, listener, scope.getCancellation());
+                });
+            }
+            List<PerformanceResult> results = new ArrayList<>();
+            scope.join(result -> {
+                logger.info("Результат: {}", result);
+                results.add(result);
+                listener.onResult(result, results.size(), lengthsToTest.size());
+            });
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Параллельный тест прерван", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Ошибка параллельного теста: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Выполняет тесты для набора длин пароля.
+     *
+     * @param sweep набор длин
+     * @param passwordsPerLength количество паролей на каждую длину
+     * @param listener слушатель хода выполнения
+     * @param cancellation признак отмены
+     * @return список результатов для всех длин набора
+     * @throws CancellationException если тест отменён
+     */
+    private List<PerformanceResult> runPerformanceTestRange(LengthSweep sweep, int passwordsPerLength,
+                                                            EstimatorProgressListener listener,
+                                                            CancellationToken cancellation) {
+        logger.info("Начало теста диапазона: {}", sweep.getDescription());
+        logger.info("Будет протестировано {} длин", sweep.getLengths().size());
+        return runPerformanceTest(sweep.getLengths(), passwordsPerLength, listener, cancellation);
+    }
+
+    /**
+     * Создаёт машиночитаемый отчёт с метаданными окружения и конфигурации теста.
+     *
+     * @param results список результатов измерений
+     * @param testName название типа теста
+     * @return отчёт о результатах
+     */
+    private BenchmarkReport createBenchmarkReport(List<PerformanceResult> results, String testName) {
+        Map<String, String> metadata = new LinkedHashMap<>();
+        metadata.put(BenchmarkReport.TEST_NAME, testName);
+        metadata.putAll(BenchmarkReport.environmentMetadata());
+        metadata.put(BenchmarkReport.RNG_ALGORITHM, generator.getRandomSource().getAlgorithm());
+        metadata.put(BenchmarkReport.WARMUP_ROUNDS, String.valueOf(warmupRounds));
+        metadata.put(BenchmarkReport.MEASUREMENT_ROUNDS, String.valueOf(measurementRounds));
+        metadata.put(BenchmarkReport.SWEEP_MODE, sweepMode.name());
+        metadata.put(BenchmarkReport.SWEEP_WORKERS, String.valueOf(sweepWorkers));
+        metadata.put(BenchmarkReport.CHARACTER_SETS, describeCharacterSets(createDefaultConfig(1)));
+        return new BenchmarkReport(metadata, results);
+    }
+
+    /**
+     * Описывает наборы символов конфигурации для метаданных отчёта.
+     *
+     * @param config конфигурация генерации
+     * @return перечисление выбранных наборов через запятую
+     */
+    private String describeCharacterSets(PasswordGenerationConfig config) {
+        List<String> sets = new ArrayList<>();
+        if (config.isUseLatin()) sets.add("LATIN");
+        if (config.isUseCyrillic()) sets.add("CYRILLIC");
+        if (config.isUseDigits()) sets.add("DIGITS");
+        if (config.isUseSpecial()) sets.add("SPECIAL");
+        return String.join(",", sets);
+    }
+
+    /**
+     * Форматирует машиночитаемый отчёт в текстовую таблицу.
+     *
+     * @param benchmarkReport отчёт о результатах
+     * @return отчёт в текстовом формате
+     */
+    public String formatReport(BenchmarkReport benchmarkReport) {
+        return generateReport(benchmarkReport.getResults(), benchmarkReport.getTestName());
     }
 
     /**
@@ -242,36 +826,119 @@ public class PasswordCreationTimeEstimator {
         StringBuilder report = new StringBuilder();
         report.append("\nОТЧЕТ О ТЕСТЕ ПРОИЗВОДИТЕЛЬНОСТИ ГЕНЕРАЦИИ ПАРОЛЕЙ\n");
         report.append(String.format("%-53s\n", testName));
+        report.append("Источник случайности: ").append(generator.getRandomSource().getAlgorithm()).append("\n");
 
         if (results == null || results.isEmpty()) {
             report.append("Нет данных для отчета.\n");
             return report.toString();
         }
 
-        report.append(String.format("%-15s | %-20s | %-15s\n", "Длина", "Ср. время/пароль", "Кол-во"));
-        report.append("─".repeat(55)).append("\n");
+        report.append(String.format("Прогрев: %d, замеров на длину: %d, режим: %s (потоков: %d)\n",
+                warmupRounds, measurementRounds, sweepMode.getDisplayName(), sweepWorkers));
+        report.append(String.format(REPORT_ROW_FORMAT, "Длина", "Среднее", "Медиана", "p90", "p99",
+                "Мин", "Макс", "Ст. откл.", "95% ДИ (±)", "Кол-во", "Байт/пароль", "Байт/символ", "GC шт/мс"));
+        report.append("─".repeat(REPORT_WIDTH)).append("\n");
 
         for (PerformanceResult result : results) {
-            report.append(String.format("%-15d | %-20s | %-15d\n",
+            TimingStatistics statistics = result.getStatistics();
+            if (statistics == null) {
+                report.append(String.format(REPORT_ROW_FORMAT, result.getPasswordLength(),
+                        result.getFormattedAverageTime(), "-", "-", "-", "-", "-", "-", "-",
+                        result.getNumberOfPasswordsGenerated(), "-", "-", "-"));
+                continue;
+            }
+            report.append(String.format(REPORT_ROW_FORMAT,
                     result.getPasswordLength(),
                     result.getFormattedAverageTime(),
-                    result.getNumberOfPasswordsGenerated()));
+                    PerformanceResult.formatTime(statistics.getMedian()),
+                    PerformanceResult.formatTime(statistics.getP90()),
+                    PerformanceResult.formatTime(statistics.getP99()),
+                    PerformanceResult.formatTime(statistics.getMin()),
+                    PerformanceResult.formatTime(statistics.getMax()),
+                    PerformanceResult.formatTime(statistics.getStandardDeviation()),
+                    PerformanceResult.formatTime(statistics.getConfidenceHalfWidth()),
+                    result.getNumberOfPasswordsGenerated(),
+                    formatAllocatedPerPassword(result.getAllocationProfile()),
+                    formatAllocatedPerCharacter(result.getAllocationProfile()),
+                    formatGc(result.getAllocationProfile())));
         }
 
-        report.append("─".repeat(55)).append("\n");
+        report.append("─".repeat(REPORT_WIDTH)).append("\n");
         return report.toString();
     }
 
+    /**
+     * Форматирует среднее количество байт на пароль для отчёта.
+     *
+     * @param profile профиль памяти, может быть null
+     * @return строка для ячейки таблицы
+     */
+    private String formatAllocatedPerPassword(AllocationProfile profile) {
+        return profile == null ? "-" : AllocationProfile.formatBytes(profile.getBytesPerPassword());
+    }
+
+    /**
+     * Форматирует среднее количество байт на символ для отчёта.
+     *
+     * @param profile профиль памяти, может быть null
+     * @return строка для ячейки таблицы
+     */
+    private String formatAllocatedPerCharacter(AllocationProfile profile) {
+        if (profile == null) {
+            return "-";
+        }
+        double bytesPerCharacter = profile.getBytesPerCharacter();
+        return bytesPerCharacter < 0 ? "н/д" : String.format("%.2f Б", bytesPerCharacter);
+    }
+
+    /**
+     * Форматирует количество и время сборок мусора для отчёта.
+     *
+     * @param profile профиль памяти, может быть null
+     * @return строка для ячейки таблицы
+     */
+    private String formatGc(AllocationProfile profile) {
+        if (profile == null) {
+            return "-";
+        }
+        if (profile.getGcCount() == AllocationProfile.UNSUPPORTED) {
+            return "н/д";
+        }
+        return profile.getGcCount() + " / " + profile.getGcTimeMillis();
+    }
+
     /**
      * Тестирует 3 контрольные точки: 10k, 100k, 1M символов.
      *
      * @return отчёт о результатах в текстовом формате
      */
     public String runQuickTest() {
+        return formatReport(runQuickBenchmark());
+    }
+
+    /**
+     * Тестирует 3 контрольные точки: 10k, 100k, 1M символов.
+     *
+     * @return машиночитаемый отчёт о результатах
+     */
+    public BenchmarkReport runQuickBenchmark() {
+        return runQuickBenchmark(EstimatorProgressListener.NONE, new CancellationToken());
+    }
+
+    /**
+     * Тестирует 3 контрольные точки: 10k, 100k, 1M символов с уведомлением о ходе выполнения.
+     *
+     * @param listener слушатель хода выполнения
+     * @param cancellation признак отмены
+     * @return машиночитаемый отчёт о результатах
+     * @throws CancellationException если тест отменён
+     */
+    public BenchmarkReport runQuickBenchmark(EstimatorProgressListener listener, CancellationToken cancellation) {
         logger.info("Запуск быстрого теста");
         List<Integer> lengthsToTest = List.of(10_000, 100_000, 1_000_000);
-        List<PerformanceResult> results = runPerformanceTest(lengthsToTest, PASSWORDS_PER_LENGTH);
-        return generateReport(results, "БЫСТРЫЙ ТЕСТ (3 контрольные точки)");
+        List<PerformanceResult> results = runPerformanceTest(lengthsToTest, measurementRounds,
+                listener, cancellation);
+        return createBenchmarkReport(results, "БЫСТРЫЙ ТЕСТ (3 контрольные точки)");
     }
 
     /**
@@ -280,14 +947,35 @@ public class PasswordCreationTimeEstimator {
      * @return отчёт о результатах в текстовом формате
      */
     public String runDetailedTest() {
+        return formatReport(runDetailedBenchmark());
+    }
+
+    /**
+     * Тестирует полный диапазон от 10k до 1M с шагом 100k.
+     *
+     * @return машиночитаемый отчёт о результатах
+     */
+    public BenchmarkReport runDetailedBenchmark() {
+        return runDetailedBenchmark(EstimatorProgressListener.NONE, new CancellationToken());
+    }
+
+    /**
+     * Тестирует полный диапазон от 10k до 1M с шагом 100k с уведомлением о ходе выполнения.
+     *
+     * @param listener слушатель хода выполнения
+     * @param cancellation признак отмены
+     * @return машиночитаемый отчёт о результатах
+     * @throws CancellationException если тест отменён
+     */
+    public BenchmarkReport runDetailedBenchmark(EstimatorProgressListener listener, CancellationToken cancellation) {
         logger.info("Запуск детального теста");
         List<PerformanceResult> results = runPerformanceTestRange(
-                DEFAULT_MIN_LENGTH,
-                DEFAULT_MAX_LENGTH,
-                100_000,
-                PASSWORDS_PER_LENGTH
+                LengthSweep.arithmetic(DEFAULT_MIN_LENGTH, DEFAULT_MAX_LENGTH, 100_000),
+                measurementRounds,
+                listener,
+                cancellation
         );
-        return generateReport(results, "ДЕТАЛЬНЫЙ ТЕСТ (10k-1M, шаг 100k)");
+        return createBenchmarkReport(results, "ДЕТАЛЬНЫЙ ТЕСТ (10k-1M, шаг 100k)");
     }
 
     /**
@@ -299,14 +987,127 @@ public class PasswordCreationTimeEstimator {
      * @return отчёт о результатах в текстовом формате
      */
     public String runCustomTest(int minLength, int maxLength, int step) {
+        return formatReport(runCustomBenchmark(minLength, maxLength, step));
+    }
+
+    /**
+     * Тестирует пользовательский диапазон с пользовательским шагом.
+     *
+     * @param minLength минимальная длина
+     * @param maxLength максимальная длина
+     * @param step шаг теста
+     * @return машиночитаемый отчёт о результатах
+     * @throws IllegalArgumentException если диапазон или шаг некорректны
+     */
+    public BenchmarkReport runCustomBenchmark(int minLength, int maxLength, int step) {
+        return runCustomBenchmark(minLength, maxLength, step, EstimatorProgressListener.NONE, new CancellationToken());
+    }
+
+    /**
+     * Тестирует пользовательский диапазон с пользовательским шагом с уведомлением о ходе выполнения.
+     *
+     * @param minLength минимальная длина
+     * @param maxLength максимальная длина
+     * @param step шаг теста
+     * @param listener слушатель хода выполнения
+     * @param cancellation признак отмены
+     * @return машиночитаемый отчёт о результатах
+     * @throws IllegalArgumentException если диапазон или шаг некорректны
+     * @throws CancellationException если тест отменён
+     */
+    public BenchmarkReport runCustomBenchmark(int minLength, int maxLength, int step,
+                                              EstimatorProgressListener listener, CancellationToken cancellation) {
         logger.info("Запуск пользовательского теста: {} - {}, шаг {}", minLength, maxLength, step);
         List<PerformanceResult> results = runPerformanceTestRange(
-                minLength,
-                maxLength,
-                step,
-                PASSWORDS_PER_LENGTH
+                LengthSweep.arithmetic(minLength, maxLength, step),
+                measurementRounds,
+                listener,
+                cancellation
         );
-        return generateReport(results, String.format("ПОЛЬЗОВАТЕЛЬСКИЙ ТЕСТ (%d-%d, шаг %d)",
+        return createBenchmarkReport(results, String.format("ПОЛЬЗОВАТЕЛЬСКИЙ ТЕСТ (%d-%d, шаг %d)",
                 minLength, maxLength, step));
     }
+
+    /**
+     * Тестирует произвольный набор длин: арифметическую прогрессию, логарифмическую шкалу
+     * или явный список точек.
+     *
+     * @param sweep набор длин
+     * @return отчёт о результатах в текстовом формате
+     */
+    public String runSweepTest(LengthSweep sweep) {
+        return formatReport(runSweepBenchmark(sweep));
+    }
+
+    /**
+     * Тестирует произвольный набор длин: арифметическую прогрессию, логарифмическую шкалу
+     * или явный список точек.
+     *
+     * @param sweep набор длин
+     * @return машиночитаемый отчёт о результатах
+     */
+    public BenchmarkReport runSweepBenchmark(LengthSweep sweep) {
+        return runSweepBenchmark(sweep, EstimatorProgressListener.NONE, new CancellationToken());
+    }
+
+    /**
+     * Тестирует произвольный набор длин с уведомлением о ходе выполнения.
+     *
+     * @param sweep набор длин
+     * @param listener слушатель хода выполнения
+     * @param cancellation признак отмены
+     * @return машиночитаемый отчёт о результатах
+     * @throws CancellationException если тест отменён
+     */
+    public BenchmarkReport runSweepBenchmark(LengthSweep sweep, EstimatorProgressListener listener,
+                                             CancellationToken cancellation) {
+        logger.info("Запуск теста по набору длин: {}", sweep);
+        List<PerformanceResult> results = runPerformanceTestRange(sweep, measurementRounds, listener, cancellation);
+        return createBenchmarkReport(results, "ТЕСТ ПО НАБОРУ ДЛИН (" + sweep.getDescription() + ")");
+    }
+
+    /**
+     * Тестирует масштабируемость генерации паролей длины 10k от одного потока
+     * до количества доступных процессоров.
+     *
+     * @return отчёт о результатах в текстовом формате
+     */
+    public String runScalabilityTest() {
+        return runScalabilityTest(DEFAULT_SCALABILITY_LENGTH,
+                Runtime.getRuntime().availableProcessors(), DEFAULT_PASSWORDS_PER_THREAD);
+    }
+
+    /**
+     * Тестирует масштабируемость генерации паролей: запускает генерацию из 1, 2, 4, ... maxThreads
+     * потоков сначала с общим генератором, затем с отдельным генератором в каждом потоке.
+     * Отдельные генераторы получают независимые источники через {@link RandomSource#split()}.
+     *
+     * @param passwordLength длина генерируемых паролей
+     * @param maxThreads максимальное количество потоков
+     * @param passwordsPerThread количество замеряемых паролей на поток
+     * @return отчёт о результатах в текстовом формате
+     * @throws IllegalArgumentException если один из параметров не положителен или длина
+     *         превышает максимум режима {@link GenerationMode#IN_MEMORY}
+     */
+    public String runScalabilityTest(int passwordLength, int maxThreads, int passwordsPerThread) {
+        if (passwordLength < 1 || maxThreads < 1 || passwordsPerThread < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "Параметры теста масштабируемости должны быть положительными: длина=%d, потоков=%d, паролей=%d",
+                    passwordLength, maxThreads, passwordsPerThread));
+        }
+        if (passwordLength > GenerationMode.IN_MEMORY.getMaxLength()) {
+            throw new IllegalArgumentException(String.format(
+                    "Длина пароля для теста масштабируемости не может превышать %d, получено: %d",
+                    GenerationMode.IN_MEMORY.getMaxLength(), passwordLength));
+        }
+        logger.info("Запуск теста масштабируемости: длина {}, до {} потоков, {} паролей на поток",
+                passwordLength, maxThreads, passwordsPerThread);
+        List<ScalabilityResult> results = new ArrayList<>();
+        for (GeneratorSharing sharing : GeneratorSharing.values()) {
+            results.addAll(runScalabilitySweep(sharing, passwordLength, maxThreads, passwordsPerThread));
+        }
+        return generateScalabilityReport(results, String.format(
+                "ТЕСТ МАСШТАБИРУЕМОСТИ (длина %d, 1-%d потоков, %d паролей на поток)",
+                passwordLength, maxThreads, passwordsPerThread));
+    }
 }
@@ -2,18 +2,21 @@ package com.passwordGenerator.core;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
 
 /**
  * Конфигурация для генерации пароля.
  * Хранит все параметры пароля: длину, типы символов и обязательные символы.
+ * Длина хранится как long: пароли длиннее {@link #getMaxPasswordLength()} допустимы только
+ * в потоковом режиме {@link GenerationMode#STREAMING}, проверка выполняется при генерации.
  *
  * @author Akovi
  */
 public class PasswordGenerationConfig {
 
-    private int length;
+    private long length;
 
     private boolean useLatin;
 
@@ -25,7 +28,7 @@ public class PasswordGenerationConfig {
 
     private final Set<Character> requiredCharacters;
 
-    private static final int MAX_PASSWORD_LENGTH = 1_000_000;
+    private static final int MAX_PASSWORD_LENGTH = (int) GenerationMode.IN_MEMORY.getMaxLength();
 
     /**
      * Конструктор конфигурации с заданной длиной.
@@ -34,6 +37,17 @@ public class PasswordGenerationConfig {
      * @throws IllegalArgumentException если длина меньше или равна 0
      */
     public PasswordGenerationConfig(int length) {
+        this((long) length);
+    }
+
+    /**
+     * Конструктор конфигурации с длиной, которая может превышать диапазон int.
+     * Такие пароли генерируются только потоково.
+     *
+     * @param length длина генерируемого пароля
+     * @throws IllegalArgumentException если длина меньше или равна 0
+     */
+    public PasswordGenerationConfig(long length) {
         setLength(length);
         this.useLatin = false;
         this.useCyrillic = false;
@@ -42,12 +56,42 @@ public class PasswordGenerationConfig {
         this.requiredCharacters = new HashSet<>();
     }
 
+    /**
+     * Конструктор копирования. Изменения копии не затрагивают оригинал и наоборот.
+     *
+     * @param other копируемая конфигурация
+     * @throws NullPointerException если other равен null
+     */
+    public PasswordGenerationConfig(PasswordGenerationConfig other) {
+        Objects.requireNonNull(other, "Конфигурация не может быть null");
+        this.length = other.length;
+        this.useLatin = other.useLatin;
+        this.useCyrillic = other.useCyrillic;
+        this.useDigits = other.useDigits;
+        this.useSpecial = other.useSpecial;
+        this.requiredCharacters = new HashSet<>(other.requiredCharacters);
+    }
+
     /**
      * Возвращает длину пароля.
      *
      * @return длина пароля
+     * @throws IllegalStateException если длина не помещается в int, используйте {@link #getLongLength()}
      */
     public int getLength() {
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Длина пароля " + length
+                    + " не помещается в int, используйте getLongLength()");
+        }
+        return (int) length;
+    }
+
+    /**
+     * Возвращает длину пароля как long.
+     *
+     * @return длина пароля
+     */
+    public long getLongLength() {
         return length;
     }
 
@@ -58,6 +102,16 @@ public class PasswordGenerationConfig {
      * @throws IllegalArgumentException если length меньше или равна 0
      */
     public void setLength(int length) {
+        setLength((long) length);
+    }
+
+    /**
+     * Устанавливает длину пароля с валидацией.
+     *
+     * @param length новая длина
+     * @throws IllegalArgumentException если length меньше или равна 0
+     */
+    public void setLength(long length) {
         if (length <= 0) {
             throw new IllegalArgumentException(
                     "Длина пароля должна быть положительной, получено: " + length);
@@ -137,6 +191,41 @@ public class PasswordGenerationConfig {
         this.useSpecial = useSpecial;
     }
 
+    /**
+     * Устанавливает наборы символов по списку имён через запятую:
+     * {@code latin}, {@code cyrillic}, {@code digits}, {@code special}.
+     * Регистр имён не учитывается, пустые элементы пропускаются, не перечисленные наборы отключаются.
+     * Единый разбор для режимов командной строки и HTTP-сервера.
+     *
+     * @param names имена наборов через запятую
+     * @throws IllegalArgumentException если имя набора неизвестно или не указан ни один набор
+     * @throws NullPointerException если names равен null
+     */
+    public void setCharacterSets(String names) {
+        Objects.requireNonNull(names, "Список наборов символов не может быть null");
+        boolean latin = false;
+        boolean cyrillic = false;
+        boolean digits = false;
+        boolean special = false;
+        for (String name : names.split(",")) {
+            switch (name.trim().toLowerCase(Locale.ROOT)) {
+                case "latin" -> latin = true;
+                case "cyrillic" -> cyrillic = true;
+                case "digits" -> digits = true;
+                case "special" -> special = true;
+                case "" -> { }
+                default -> throw new IllegalArgumentException("Неизвестный набор символов: " + name.trim());
+            }
+        }
+        if (!latin && !cyrillic && !digits && !special) {
+            throw new IllegalArgumentException("Не указан ни один набор символов: " + names);
+        }
+        this.useLatin = latin;
+        this.useCyrillic = cyrillic;
+        this.useDigits = digits;
+        this.useSpecial = special;
+    }
+
     /**
      * Добавляет символ в набор требуемых символов.
      * Использует Set для предотвращения дубликатов.
@@ -173,7 +262,7 @@ public class PasswordGenerationConfig {
     }
 
     /**
-     * Возвращает максимально допустимую длину пароля.
+     * Возвращает максимально допустимую длину пароля, который генерируется в памяти.
      *
      * @return максимальная длина пароля
      */
@@ -181,6 +270,16 @@ public class PasswordGenerationConfig {
         return MAX_PASSWORD_LENGTH;
     }
 
+    /**
+     * Возвращает максимально допустимую длину пароля для режима вывода.
+     *
+     * @param mode режим вывода
+     * @return максимальная длина пароля
+     */
+    public static long getMaxPasswordLength(GenerationMode mode) {
+        return mode.getMaxLength();
+    }
+
     /**
      * Возвращает строковое представление конфигурации.
      *
@@ -4,163 +4,794 @@ import com.passwordGenerator.exceptions.InvalidPasswordConfigException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.security.SecureRandom;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Генератор случайных паролей с заданными условиями.
- * Использует SecureRandom для криптографически надёжной генерации.
+ * Использует SecureRandom для криптографически надёжной генерации; источник случайных чисел
+ * можно заменить через конструктор {@link #PasswordGenerator(RandomSource)}.
+ * Алфавиты берутся из кеша {@link CompiledPasswordSpec} и не строятся заново при каждом вызове.
+ * <p>
+ * Экземпляр, созданный конструктором по умолчанию, использует один общий SecureRandom:
+ * он потокобезопасен, но при использовании из многих потоков они конкурируют за блокировку
+ * генератора. Для общего экземпляра, который вызывается из многих потоков одновременно,
+ * следует использовать {@link #forConcurrentUse()}: в этом режиме у каждого потока свой SecureRandom.
  *
  * @author Akovi
  * @see PasswordGenerationConfig
+ * @see RandomSource
  * @see InvalidPasswordConfigException
  */
 public class PasswordGenerator {
 
     private static final Logger logger = LogManager.getLogger(PasswordGenerator.class);
-    private final SecureRandom random = new SecureRandom();
-
-    /**
-     * Перечисление наборов символов для генерации пароля.
-     * Каждый набор содержит строку уникальных символов определённого типа.
-     * Используется для построения алфавита при генерации паролей.
-     */
-    private enum CharacterSet {
-        /** Строчные латинские буквы a-z */
-        LATIN_LOWER("abcdefghijklmnopqrstuvwxyz"),
-        /** Заглавные латинские буквы A-Z */
-        LATIN_UPPER("ABCDEFGHIJKLMNOPQRSTUVWXYZ"),
-        /** Строчные кириллические буквы (русский алфавит в нижнем регистре) */
-        CYRILLIC_LOWER("абвгдежзийклмнопрстуфхцчшщъыьэюя"),
-        /** Заглавные кириллические буквы (русский алфавит в верхнем регистре) */
-        CYRILLIC_UPPER("АБВГДЕЖЗИЙКЛМНОПРСТУФХЦЧШЩЪЫЬЭЮЯ"),
-        /** Цифровые символы 0-9 */
-        DIGITS("0123456789"),
-        /** Специальные символы для повышения сложности пароля */
-        SPECIAL("!@#$%^&*()_+-=[]{}|;:,.<>?");
-
-        /** Строка с символами этого набора */
-        private final String characters;
+    private final RandomSource randomSource;
+    private final ThreadLocal<RandomSource> bufferedSources;
+
+    /** Минимальная длина пароля, начиная с которой имеет смысл параллельная генерация */
+    private static final int PARALLEL_THRESHOLD = 65_536;
+    /** Минимальный размер фрагмента, заполняемого одной задачей */
+    private static final int MIN_CHUNK_SIZE = 16_384;
+    /** Максимум обязательных символов, которые расставляются по случайным позициям без перемешивания */
+    private static final int MAX_PLACED_REQUIRED = 64;
+    /** Размер фрагмента в символах при потоковой записи пароля */
+    static final int STREAM_CHUNK_SIZE = 8192;
+    /** Минимальный размер буфера случайных байт, создаваемого на один вызов в виртуальном потоке */
+    static final int MIN_CALL_BUFFER_SIZE = 64;
+
+    /**
+     * Создаёт генератор с одним общим SecureRandom.
+     */
+    public PasswordGenerator() {
+        this(new SecureRandomSource());
+    }
+
+    /**
+     * Создаёт генератор с заданным источником случайных чисел.
+     *
+     * @param randomSource источник случайных чисел
+     * @throws NullPointerException если randomSource равен null
+     * @see SecureRandomSource
+     * @see SeededRandomSource
+     * @see ThreadLocalRandomSource
+     */
+    public PasswordGenerator(RandomSource randomSource) {
+        this.randomSource = Objects.requireNonNull(randomSource, "Источник случайных чисел не может быть null");
+        this.bufferedSources = ThreadLocal.withInitial(
+                () -> new BufferedRandomSource(randomSource.forCurrentThread()));
+        logger.debug("Генератор использует источник случайных чисел: {}", randomSource);
+    }
+
+    /**
+     * Создаёт потокобезопасный генератор для совместного использования из многих потоков.
+     * Каждый поток при первом обращении получает собственный экземпляр SecureRandom,
+     * поэтому потоки не конкурируют за общую блокировку и пропускная способность
+     * растёт с числом потоков.
+     *
+     * @return генератор с отдельным SecureRandom для каждого потока
+     */
+    public static PasswordGenerator forConcurrentUse() {
+        return new PasswordGenerator(new ThreadLocalRandomSource(SecureRandomSource::new));
+    }
+
+    /**
+     * Возвращает источник случайных чисел генератора.
+     *
+     * @return источник случайных чисел
+     */
+    public RandomSource getRandomSource() {
+        return randomSource;
+    }
+
+    /**
+     * Возвращает буферизованный источник случайных чисел для вызова, которому нужно около
+     * expectedChars символов. Случайные байты забираются у исходного источника блоками,
+     * а не по одному вызову на символ.
+     * <p>
+     * Обычный поток переиспользует свой буфер на {@value BufferedRandomSource#DEFAULT_BUFFER_SIZE} байт.
+     * Виртуальный поток обычно живёт один запрос, поэтому такой буфер заполнялся бы заново
+     * и почти целиком выбрасывался на каждом запросе. Для него создаётся буфер на один вызов
+     * размером по запросу: по 2 байта на символ с запасом на отбраковку, не меньше
+     * {@value #MIN_CALL_BUFFER_SIZE} и не больше размера по умолчанию.
+     *
+     * @param expectedChars ожидаемое количество символов, генерируемых вызовом
+     * @return буферизованный источник
+     */
+    private RandomSource currentRandom(long expectedChars) {
+        if (TaskExecutors.isCurrentThreadVirtual()) {
+            return new BufferedRandomSource(randomSource.forCurrentThread(), callBufferSize(expectedChars));
+        }
+        return bufferedSources.get();
+    }
+
+    /**
+     * Вычисляет размер буфера случайных байт для одного вызова.
+     *
+     * @param expectedChars ожидаемое количество символов
+     * @return размер буфера в байтах
+     */
+    static int callBufferSize(long expectedChars) {
+        long bytes = 2 * Math.min(expectedChars, BufferedRandomSource.DEFAULT_BUFFER_SIZE);
+        return (int) Math.max(MIN_CALL_BUFFER_SIZE, Math.min(BufferedRandomSource.DEFAULT_BUFFER_SIZE, bytes));
+    }
+
+    /**
+     * Генерирует пароль по заданной конфигурации.
+     *
+     * @param config конфигурация с параметрами генерации
+     * @return сгенерированный пароль нужной длины со всеми обязательными символами
+     * @throws InvalidPasswordConfigException если конфигурация некорректна
+     */
+    public String generate(PasswordGenerationConfig config) throws InvalidPasswordConfigException {
+        validateConfig(config, GenerationMode.IN_MEMORY);
+        logger.debug("Добавлены обязательные символы: {}", config.getRequiredCharacters());
+        return generateValidated(config.getLength(), CompiledPasswordSpec.forConfig(config),
+                toCharArray(config.getRequiredCharacters()));
+    }
+
+    /**
+     * Генерирует пароль по неизменяемой конфигурации. Обязательные символы берутся из
+     * конфигурации без копирования, алфавит - по её битовой маске.
+     *
+     * @param config неизменяемая конфигурация
+     * @return сгенерированный пароль нужной длины со всеми обязательными символами
+     * @throws InvalidPasswordConfigException если конфигурация некорректна
+     */
+    public String generate(ImmutablePasswordConfig config) throws InvalidPasswordConfigException {
+        validateConfig(config, GenerationMode.IN_MEMORY);
+        return generateValidated(config.getLength(), CompiledPasswordSpec.forMask(config.getCharsetMask()),
+                config.requiredCharacters());
+    }
+
+    /**
+     * Генерирует пароль по уже проверенным параметрам.
+     *
+     * @param length длина пароля
+     * @param spec скомпилированный алфавит
+     * @param requiredChars обязательные символы
+     * @return сгенерированный пароль
+     */
+    private String generateValidated(int length, CompiledPasswordSpec spec, char[] requiredChars) {
+        char[] passwordChars = new char[length];
+        fillPassword(passwordChars, spec, requiredChars, currentRandom(length));
+        String password = new String(passwordChars);
+
+        logger.info("Пароль успешно сгенерирован. Длина: {}", password.length());
+        return password;
+    }
+
+    /**
+     * Генерирует пакет паролей по одной конфигурации.
+     * Конфигурация проверяется один раз, алфавит и буфер символов
+     * переиспользуются для всех паролей пакета, а в лог пишется одна итоговая запись.
+     *
+     * @param config конфигурация с параметрами генерации
+     * @param count количество паролей
+     * @return список сгенерированных паролей в порядке генерации
+     * @throws InvalidPasswordConfigException если конфигурация некорректна
+     * @throws IllegalArgumentException если count отрицательный
+     */
+    public List<String> generateBatch(PasswordGenerationConfig config, int count)
+            throws InvalidPasswordConfigException {
+        validateCount(count);
+        validateConfig(config, GenerationMode.IN_MEMORY);
+        return generateBatchValidated(config.getLength(), CompiledPasswordSpec.forConfig(config),
+                toCharArray(config.getRequiredCharacters()), count);
+    }
+
+    /**
+     * Генерирует пакет паролей по неизменяемой конфигурации, см.
+     * {@link #generateBatch(PasswordGenerationConfig, int)}.
+     *
+     * @param config неизменяемая конфигурация
+     * @param count количество паролей
+     * @return список сгенерированных паролей в порядке генерации
+     * @throws InvalidPasswordConfigException если конфигурация некорректна
+     * @throws IllegalArgumentException если count отрицательный
+     */
+    public List<String> generateBatch(ImmutablePasswordConfig config, int count)
+            throws InvalidPasswordConfigException {
+        validateCount(count);
+        validateConfig(config, GenerationMode.IN_MEMORY);
+        return generateBatchValidated(config.getLength(), CompiledPasswordSpec.forMask(config.getCharsetMask()),
+                config.requiredCharacters(), count);
+    }
+
+    /**
+     * Проверяет количество паролей в пакете.
+     *
+     * @param count количество паролей
+     * @throws IllegalArgumentException если count отрицательный
+     */
+    private static void validateCount(long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException(
+                    "Количество паролей не может быть отрицательным, получено: " + count);
+        }
+    }
+
+    /**
+     * Генерирует пакет паролей по уже проверенным параметрам, переиспользуя буфер символов.
+     *
+     * @param length длина пароля
+     * @param spec скомпилированный алфавит
+     * @param requiredChars обязательные символы
+     * @param count количество паролей
+     * @return список сгенерированных паролей в порядке генерации
+     */
+    private List<String> generateBatchValidated(int length, CompiledPasswordSpec spec, char[] requiredChars,
+                                                int count) {
+        char[] buffer = new char[length];
+        RandomSource random = currentRandom((long) length * count);
+
+        long startTime = System.nanoTime();
+        List<String> passwords = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            fillPassword(buffer, spec, requiredChars, random);
+            passwords.add(new String(buffer));
+        }
+        Arrays.fill(buffer, '\0');
+
+        logger.info("Пакет паролей сгенерирован. Количество: {}, длина: {}, время: {} мс",
+                count, length, (System.nanoTime() - startTime) / 1_000_000);
+        return passwords;
+    }
+
+    /**
+     * Генерирует count паролей и по очереди передаёт их приёмнику, не создавая строк.
+     * Буфер символов один на весь пакет: приёмник должен использовать его содержимое
+     * до возврата из вызова. После завершения буфер затирается.
+     *
+     * @param config конфигурация с параметрами генерации
+     * @param count количество паролей
+     * @param sink приёмник паролей
+     * @throws InvalidPasswordConfigException если конфигурация некорректна
+     * @throws IOException если приёмник не смог записать пароль
+     * @throws IllegalArgumentException если count отрицательный
+     */
+    void generateEach(PasswordGenerationConfig config, long count, PasswordSink sink)
+            throws InvalidPasswordConfigException, IOException {
+        validateCount(count);
+        validateConfig(config, GenerationMode.IN_MEMORY);
+        CompiledPasswordSpec spec = CompiledPasswordSpec.forConfig(config);
+        char[] requiredChars = toCharArray(config.getRequiredCharacters());
+        char[] buffer = new char[config.getLength()];
+        RandomSource random = currentRandom(config.getLength() * count);
+        try {
+            for (long i = 0; i < count; i++) {
+                fillPassword(buffer, spec, requiredChars, random);
+                sink.accept(buffer);
+            }
+        } finally {
+            Arrays.fill(buffer, '\0');
+        }
+    }
+
+    /**
+     * Приёмник паролей при пакетной генерации без создания строк.
+     */
+    @FunctionalInterface
+    interface PasswordSink {
 
         /**
-         * Конструктор для инициализации набора символов.
+         * Принимает очередной пароль.
          *
-         * @param characters строка уникальных символов для этого набора
+         * @param password буфер с символами пароля, действителен только до возврата из вызова
+         * @throws IOException если запись не удалась
          */
-        CharacterSet(String characters) {
-            this.characters = characters;
+        void accept(char[] password) throws IOException;
+    }
+
+    /**
+     * Генерирует пароль и записывает его в {@link Writer} фрагментами фиксированного размера.
+     * Пароль целиком в памяти не хранится: используется один буфер на {@value #STREAM_CHUNK_SIZE}
+     * символов и массив позиций обязательных символов, поэтому расход памяти не зависит от длины.
+     * Длина ограничена режимом {@link GenerationMode#STREAMING}, а не размером строки.
+     * Обязательные символы гарантированно присутствуют и стоят на случайных различных позициях.
+     * Writer сбрасывается, но не закрывается.
+     *
+     * @param config конфигурация с параметрами генерации
+     * @param writer приёмник символов пароля
+     * @throws InvalidPasswordConfigException если конфигурация некорректна
+     * @throws IOException если запись не удалась
+     */
+    public void generateTo(PasswordGenerationConfig config, Writer writer)
+            throws InvalidPasswordConfigException, IOException {
+        Objects.requireNonNull(writer, "Writer не может быть null");
+        streamPassword(config, writer::write);
+        writer.flush();
+    }
+
+    /**
+     * Генерирует пароль и записывает его в канал в кодировке UTF-8 фрагментами фиксированного размера.
+     * Расход памяти не зависит от длины пароля, см. {@link #generateTo(PasswordGenerationConfig, Writer)}.
+     * Канал не закрывается.
+     *
+     * @param config конфигурация с параметрами генерации
+     * @param channel приёмник байтов пароля
+     * @return количество записанных байтов
+     * @throws InvalidPasswordConfigException если конфигурация некорректна
+     * @throws IOException если запись не удалась
+     */
+    public long generateTo(PasswordGenerationConfig config, WritableByteChannel channel)
+            throws InvalidPasswordConfigException, IOException {
+        Objects.requireNonNull(channel, "Канал не может быть null");
+        ChannelChunkSink sink = new ChannelChunkSink(channel);
+        try {
+            streamPassword(config, sink);
+            sink.finish();
+        } finally {
+            sink.clear();
         }
+        return sink.getBytesWritten();
+    }
+
+    /**
+     * Приёмник фрагментов пароля при потоковой генерации.
+     */
+    @FunctionalInterface
+    private interface ChunkSink {
 
         /**
-         * Возвращает строку с символами этого набора.
+         * Принимает очередной фрагмент пароля.
          *
-         * @return строка символов, не может быть null
+         * @param chunk буфер с символами фрагмента
+         * @param offset начало фрагмента в буфере
+         * @param length количество символов фрагмента
+         * @throws IOException если запись не удалась
          */
-        public String getCharacters() {
-            return characters;
+        void accept(char[] chunk, int offset, int length) throws IOException;
+    }
+
+    /**
+     * Приёмник, кодирующий фрагменты в UTF-8 и записывающий их в канал.
+     * Символ, разорванный границей фрагмента (старшая половина суррогатной пары),
+     * переносится в следующий фрагмент.
+     */
+    private static class ChannelChunkSink implements ChunkSink {
+
+        private final WritableByteChannel channel;
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        private final CharBuffer pending = CharBuffer.allocate(STREAM_CHUNK_SIZE + 1);
+        private final ByteBuffer bytes;
+        private long bytesWritten;
+
+        /**
+         * Конструктор приёмника.
+         *
+         * @param channel канал для записи
+         */
+        ChannelChunkSink(WritableByteChannel channel) {
+            this.channel = channel;
+            this.bytes = ByteBuffer.allocate((int) Math.ceil(pending.capacity() * encoder.maxBytesPerChar()));
+        }
+
+        @Override
+        public void accept(char[] chunk, int offset, int length) throws IOException {
+            pending.put(chunk, offset, length);
+            pending.flip();
+            encode(false);
+            pending.compact();
+        }
+
+        /**
+         * Дописывает остаток и завершает кодирование.
+         *
+         * @throws IOException если запись не удалась или остались некорректные символы
+         */
+        void finish() throws IOException {
+            pending.flip();
+            encode(true);
+            CoderResult result;
+            do {
+                result = encoder.flush(bytes);
+                drain();
+            } while (result.isOverflow());
+        }
+
+        /**
+         * Кодирует накопленные символы и записывает байты в канал.
+         *
+         * @param endOfInput true если это последние символы пароля
+         * @throws IOException если запись не удалась или символы некорректны
+         */
+        private void encode(boolean endOfInput) throws IOException {
+            CoderResult result;
+            do {
+                result = encoder.encode(pending, bytes, endOfInput);
+                if (result.isError()) {
+                    result.throwException();
+                }
+                drain();
+            } while (result.isOverflow());
+        }
+
+        /**
+         * Записывает накопленные байты в канал целиком.
+         *
+         * @throws IOException если запись не удалась
+         */
+        private void drain() throws IOException {
+            bytes.flip();
+            while (bytes.hasRemaining()) {
+                bytesWritten += channel.write(bytes);
+            }
+            bytes.clear();
+        }
+
+        /**
+         * Затирает буферы с символами и байтами пароля.
+         */
+        void clear() {
+            Arrays.fill(pending.array(), '\0');
+            Arrays.fill(bytes.array(), (byte) 0);
+        }
+
+        /**
+         * Возвращает количество записанных байтов.
+         *
+         * @return количество байтов
+         */
+        long getBytesWritten() {
+            return bytesWritten;
         }
     }
 
     /**
-     * Генерирует пароль по заданной конфигурации.
+     * Генерирует пароль фрагментами и передаёт их приёмнику. Позиции обязательных символов
+     * выбираются заранее как равномерная выборка различных позиций (алгоритм Флойда), а сами
+     * символы распределяются по ним в случайном порядке, поэтому результат распределён так же,
+     * как у {@link #generate(PasswordGenerationConfig)}.
      *
      * @param config конфигурация с параметрами генерации
-     * @return сгенерированный пароль нужной длины со всеми обязательными символами
+     * @param sink приёмник фрагментов
      * @throws InvalidPasswordConfigException если конфигурация некорректна
+     * @throws IOException если запись не удалась
      */
-    public String generate(PasswordGenerationConfig config) throws InvalidPasswordConfigException {
-        validateConfig(config);
-        List<Character> alphabet = buildAlphabet(config);
-        List<Character> passwordChars = new ArrayList<>(config.getRequiredCharacters());
+    private void streamPassword(PasswordGenerationConfig config, ChunkSink sink)
+            throws InvalidPasswordConfigException, IOException {
+        validateConfig(config, GenerationMode.STREAMING);
+        CompiledPasswordSpec spec = CompiledPasswordSpec.forConfig(config);
+        char[] requiredChars = toCharArray(config.getRequiredCharacters());
+        long length = config.getLongLength();
+        RandomSource random = currentRandom(length);
 
-        logger.debug("Добавлены обязательные символы: {}", passwordChars);
+        shuffle(requiredChars, random);
+        long[] requiredPositions = choosePositions(length, requiredChars.length, random);
+        BoundedIndexSampler sampler = new BoundedIndexSampler(random, spec.size());
+        char[] chunk = new char[(int) Math.min(STREAM_CHUNK_SIZE, length)];
+        int nextRequired = 0;
 
-        int remainingLength = config.getLength() - passwordChars.size();
-        List<Character> randomChars = IntStream.range(0, remainingLength)
-                .mapToObj(i -> alphabet.get(random.nextInt(alphabet.size())))
-                .toList();
+        try {
+            for (long chunkStart = 0; chunkStart < length; chunkStart += chunk.length) {
+                int chunkLength = (int) Math.min(chunk.length, length - chunkStart);
+                for (int i = 0; i < chunkLength; i++) {
+                    chunk[i] = spec.charAt(sampler.nextIndex());
+                }
+                while (nextRequired < requiredPositions.length
+                        && requiredPositions[nextRequired] < chunkStart + chunkLength) {
+                    chunk[(int) (requiredPositions[nextRequired] - chunkStart)] = requiredChars[nextRequired];
+                    nextRequired++;
+                }
+                sink.accept(chunk, 0, chunkLength);
+            }
+        } finally {
+            Arrays.fill(chunk, '\0');
+        }
+
+        logger.info("Пароль успешно записан потоком. Длина: {}, фрагментов: {}",
+                length, (length + chunk.length - 1) / chunk.length);
+    }
 
-        passwordChars.addAll(randomChars);
-        Collections.shuffle(passwordChars, random);
+    /**
+     * Выбирает count различных позиций из [0, length) равновероятно (алгоритм Флойда).
+     *
+     * @param length длина пароля
+     * @param count количество позиций
+     * @param random источник случайных чисел
+     * @return позиции в порядке возрастания
+     */
+    private static long[] choosePositions(long length, int count, RandomSource random) {
+        Set<Long> chosen = new HashSet<>(count * 2);
+        for (long j = length - count; j < length; j++) {
+            long candidate = nextPosition(random, j + 1);
+            if (!chosen.add(candidate)) {
+                chosen.add(j);
+            }
+        }
+        long[] positions = new long[count];
+        int index = 0;
+        for (long position : chosen) {
+            positions[index++] = position;
+        }
+        Arrays.sort(positions);
+        return positions;
+    }
 
-        String password = passwordChars.stream()
-                .map(String::valueOf)
-                .collect(Collectors.joining());
+    /**
+     * Возвращает равномерно распределённую позицию в диапазоне [0, bound).
+     *
+     * @param random источник случайных чисел
+     * @param bound верхняя граница (исключительно)
+     * @return случайная позиция
+     */
+    private static long nextPosition(RandomSource random, long bound) {
+        if (bound <= Integer.MAX_VALUE) {
+            return random.nextInt((int) bound);
+        }
+        long limit = Long.MAX_VALUE - Long.MAX_VALUE % bound;
+        long value;
+        do {
+            value = random.nextLong() >>> 1;
+        } while (value >= limit);
+        return value % bound;
+    }
 
-        logger.info("Пароль успешно сгенерирован. Длина: {}", password.length());
+    /**
+     * Генерирует пароль, заполняя длинный результат фрагментами параллельно в {@link ForkJoinPool}.
+     * Каждый фрагмент заполняется собственным источником случайных чисел, полученным
+     * через {@link RandomSource#split()} из основного источника, после чего обязательные символы расставляются
+     * по случайным различным позициям. Короткие пароли генерируются обычным способом.
+     *
+     * @param config конфигурация с параметрами генерации
+     * @return сгенерированный пароль нужной длины со всеми обязательными символами
+     * @throws InvalidPasswordConfigException если конфигурация некорректна
+     */
+    public String generateParallel(PasswordGenerationConfig config) throws InvalidPasswordConfigException {
+        if (config.getLongLength() < PARALLEL_THRESHOLD) {
+            return generate(config);
+        }
+        validateConfig(config, GenerationMode.IN_MEMORY);
+        CompiledPasswordSpec spec = CompiledPasswordSpec.forConfig(config);
+        char[] requiredChars = toCharArray(config.getRequiredCharacters());
+        char[] passwordChars = new char[config.getLength()];
+        RandomSource random = currentRandom(passwordChars.length);
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, passwordChars.length / (pool.getParallelism() * 4));
+        int chunkCount = (passwordChars.length + chunkSize - 1) / chunkSize;
+        RandomSource[] chunkSources = new RandomSource[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            chunkSources[i] = random.split();
+        }
+
+        pool.invoke(new ChunkFillTask(passwordChars, spec, chunkSources, chunkSize, 0, chunkCount));
+        placeRequiredCharacters(passwordChars, requiredChars, random);
+        String password = new String(passwordChars);
+
+        logger.info("Пароль успешно сгенерирован параллельно. Длина: {}, фрагментов: {}",
+                password.length(), chunkCount);
         return password;
     }
 
     /**
-     * Создает алфавит из выбранных типов символов.
+     * Задача Fork/Join, заполняющая диапазон фрагментов пароля случайными символами алфавита.
+     * Диапазон делится пополам, пока в нём больше одного фрагмента.
+     */
+    private static class ChunkFillTask extends RecursiveAction {
+
+        private final char[] target;
+        private final CompiledPasswordSpec spec;
+        private final RandomSource[] sources;
+        private final int chunkSize;
+        private final int fromChunk;
+        private final int toChunk;
+
+        /**
+         * Конструктор задачи.
+         *
+         * @param target массив символов пароля
+         * @param spec скомпилированный алфавит
+         * @param sources независимые источники случайных чисел, по одному на фрагмент
+         * @param chunkSize размер фрагмента
+         * @param fromChunk первый фрагмент диапазона (включительно)
+         * @param toChunk последний фрагмент диапазона (исключительно)
+         */
+        ChunkFillTask(char[] target, CompiledPasswordSpec spec, RandomSource[] sources,
+                      int chunkSize, int fromChunk, int toChunk) {
+            this.target = target;
+            this.spec = spec;
+            this.sources = sources;
+            this.chunkSize = chunkSize;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk > 1) {
+                int middle = (fromChunk + toChunk) >>> 1;
+                invokeAll(new ChunkFillTask(target, spec, sources, chunkSize, fromChunk, middle),
+                        new ChunkFillTask(target, spec, sources, chunkSize, middle, toChunk));
+                return;
+            }
+            BoundedIndexSampler sampler = new BoundedIndexSampler(sources[fromChunk], spec.size());
+            int end = Math.min(target.length, (fromChunk + 1) * chunkSize);
+            for (int position = fromChunk * chunkSize; position < end; position++) {
+                target[position] = spec.charAt(sampler.nextIndex());
+            }
+        }
+    }
+
+    /**
+     * Расставляет обязательные символы по случайным различным позициям уже заполненного пароля.
+     * Остальные позиции уже содержат независимые случайные символы алфавита, поэтому результат
+     * распределён так же, как при перемешивании всего массива. Если обязательных символов
+     * слишком много, они записываются в начало и выполняется полное перемешивание.
+     *
+     * @param passwordChars заполненный массив символов пароля
+     * @param requiredChars обязательные символы
+     * @param random источник случайных чисел текущего потока
+     */
+    private void placeRequiredCharacters(char[] passwordChars, char[] requiredChars, RandomSource random) {
+        int count = requiredChars.length;
+        if (count > MAX_PLACED_REQUIRED || count * 2 > passwordChars.length) {
+            System.arraycopy(requiredChars, 0, passwordChars, 0, count);
+            shuffle(passwordChars, random);
+            return;
+        }
+
+        BoundedIndexSampler positionSampler = new BoundedIndexSampler(random, passwordChars.length);
+        int[] positions = new int[count];
+        for (int i = 0; i < count; i++) {
+            int position;
+            do {
+                position = positionSampler.nextIndex();
+            } while (isTaken(positions, i, position));
+            positions[i] = position;
+            passwordChars[position] = requiredChars[i];
+        }
+    }
+
+    /**
+     * Проверяет, занята ли позиция одним из уже выбранных обязательных символов.
+     *
+     * @param positions выбранные позиции
+     * @param count количество выбранных позиций
+     * @param position проверяемая позиция
+     * @return true если позиция уже выбрана
+     */
+    private static boolean isTaken(int[] positions, int count, int position) {
+        for (int i = 0; i < count; i++) {
+            if (positions[i] == position) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Заполняет буфер символами пароля: случайными символами алфавита на всех позициях,
+     * после чего обязательные символы записываются на случайные различные позиции.
+     *
+     * @param passwordChars буфер, длина которого равна длине пароля
+     * @param spec скомпилированный алфавит
+     * @param requiredChars обязательные символы
+     * @param random источник случайных чисел текущего потока
+     */
+    private void fillPassword(char[] passwordChars, CompiledPasswordSpec spec, char[] requiredChars,
+                              RandomSource random) {
+        BoundedIndexSampler sampler = new BoundedIndexSampler(random, spec.size());
+        for (int position = 0; position < passwordChars.length; position++) {
+            passwordChars[position] = spec.charAt(sampler.nextIndex());
+        }
+        placeRequiredCharacters(passwordChars, requiredChars, random);
+    }
+
+    /**
+     * Преобразует набор обязательных символов в массив.
      *
-     * @param config конфигурация генерации
-     * @return список всех доступных символов для пароля
+     * @param characters набор символов
+     * @return массив символов
      */
-    private List<Character> buildAlphabet(PasswordGenerationConfig config) {
-        String alphabet = Stream.of(
-                        config.isUseLatin() ? (CharacterSet.LATIN_LOWER.getCharacters() +
-                                CharacterSet.LATIN_UPPER.getCharacters()) : "",
-                        config.isUseCyrillic() ? (CharacterSet.CYRILLIC_LOWER.getCharacters() +
-                                CharacterSet.CYRILLIC_UPPER.getCharacters()) : "",
-                        config.isUseDigits() ? CharacterSet.DIGITS.getCharacters() : "",
-                        config.isUseSpecial() ? CharacterSet.SPECIAL.getCharacters() : ""
-                )
-                .filter(s -> !s.isEmpty())
-                .collect(Collectors.joining());
+    private char[] toCharArray(Set<Character> characters) {
+        char[] result = new char[characters.size()];
+        int index = 0;
+        for (Character character : characters) {
+            result[index++] = character;
+        }
+        return result;
+    }
 
-        return alphabet.chars()
-                .mapToObj(c -> (char) c)
-                .collect(Collectors.toList());
+    /**
+     * Перемешивает символы пароля на месте алгоритмом Фишера-Йетса.
+     * Повторяет поведение {@link java.util.Collections#shuffle(java.util.List, java.util.Random)},
+     * но работает с примитивным массивом без упаковки символов.
+     *
+     * @param chars массив символов для перемешивания
+     * @param random источник случайных чисел текущего потока
+     */
+    private void shuffle(char[] chars, RandomSource random) {
+        for (int i = chars.length; i > 1; i--) {
+            int j = random.nextInt(i);
+            char tmp = chars[i - 1];
+            chars[i - 1] = chars[j];
+            chars[j] = tmp;
+        }
     }
 
     /**
      * Валидирует конфигурацию перед генерацией пароля.
      *
      * @param config конфигурация для проверки
+     * @param mode режим вывода, от которого зависит допустимая длина
+     * @throws InvalidPasswordConfigException если конфигурация некорректна
+     */
+    void validateConfig(PasswordGenerationConfig config, GenerationMode mode)
+            throws InvalidPasswordConfigException {
+        validateParameters(config.getLongLength(), CompiledPasswordSpec.maskOf(config),
+                config.getRequiredCharacterCount(), mode);
+    }
+
+    /**
+     * Валидирует неизменяемую конфигурацию перед генерацией пароля.
+     *
+     * @param config конфигурация для проверки
+     * @param mode режим вывода, от которого зависит допустимая длина
      * @throws InvalidPasswordConfigException если конфигурация некорректна
      */
-    private void validateConfig(PasswordGenerationConfig config) throws InvalidPasswordConfigException {
-        if (config.getLength() <= 0) {
-            String msg = "Длина пароля должна быть положительной, получено: " + config.getLength();
+    void validateConfig(ImmutablePasswordConfig config, GenerationMode mode)
+            throws InvalidPasswordConfigException {
+        Objects.requireNonNull(config, "Конфигурация не может быть null");
+        validateParameters(config.getLongLength(), config.getCharsetMask(),
+                config.getRequiredCharacterCount(), mode);
+    }
+
+    /**
+     * Проверяет параметры конфигурации.
+     *
+     * @param length длина пароля
+     * @param charsetMask битовая маска наборов символов
+     * @param requiredCount количество обязательных символов
+     * @param mode режим вывода, от которого зависит допустимая длина
+     * @throws InvalidPasswordConfigException если параметры некорректны
+     */
+    private void validateParameters(long length, int charsetMask, int requiredCount, GenerationMode mode)
+            throws InvalidPasswordConfigException {
+        if (length <= 0) {
+            String msg = "Длина пароля должна быть положительной, получено: " + length;
             logger.error(msg);
             throw new InvalidPasswordConfigException(msg);
         }
 
-        if (config.getLength() > PasswordGenerationConfig.getMaxPasswordLength()) {
-            String msg = "Слишком большая длина пароля! Возьмите число меньше " +
-                    PasswordGenerationConfig.getMaxPasswordLength();
+        if (length > mode.getMaxLength()) {
+            String msg = mode == GenerationMode.IN_MEMORY
+                    ? "Слишком большая длина пароля! Возьмите число меньше " + mode.getMaxLength()
+                    + " или используйте потоковую запись generateTo"
+                    : "Слишком большая длина пароля! Возьмите число меньше " + mode.getMaxLength();
             logger.error(msg);
             throw new InvalidPasswordConfigException(msg);
         }
 
-        int requiredCount = config.getRequiredCharacterCount();
-        if (requiredCount > config.getLength()) {
+        if (requiredCount > length) {
             String msg = String.format("Обязательных символов (%d) больше чем длина пароля (%d)",
-                    requiredCount, config.getLength());
+                    requiredCount, length);
             logger.error(msg);
             throw new InvalidPasswordConfigException(msg);
         }
 
-        boolean hasAnyType = Stream.of(
-                config.isUseLatin(),
-                config.isUseCyrillic(),
-                config.isUseDigits(),
-                config.isUseSpecial()
-        ).anyMatch(b -> b);
-
-        if (!hasAnyType) {
+        if (charsetMask == 0) {
             String msg = "Должен быть выбран хотя бы один тип символов (латиница, кириллица, цифры или спецсимволы)";
             logger.error(msg);
             throw new InvalidPasswordConfigException(msg);
         }
 
-        logger.debug("Конфигурация валидна: длина={}, обязательные={}",
-                config.getLength(), requiredCount);
+        logger.debug("Конфигурация валидна: длина={}, режим={}, обязательные={}",
+                length, mode, requiredCount);
     }
 }
@@ -0,0 +1,594 @@
+package com.passwordGenerator.core;
+
+import com.passwordGenerator.exceptions.InvalidPasswordConfigException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Пул заранее сгенерированных паролей для выдачи без генерации на пути запроса.
+ * Для каждой конфигурации хранится ограниченная неблокирующая очередь готовых паролей
+ * ({@link ConcurrentLinkedQueue} со счётчиком занятых мест). Когда в очереди остаётся
+ * не больше lowWaterMark паролей, фоновый поток дополняет её до ёмкости.
+ * <p>
+ * Каждый пароль выдаётся ровно один раз: он извлекается из очереди атомарно и больше
+ * нигде не хранится. Пароль, пролежавший в пуле дольше maxAge, не выдаётся, а отбрасывается:
+ * при выдаче, а также периодической очисткой в фоновом потоке, поэтому устаревшие пароли
+ * не остаются в памяти и для конфигураций, которые больше не запрашиваются. Очередь, к которой
+ * не обращались дольше maxAge и в которой не осталось паролей, удаляется из пула.
+ * <p>
+ * Память пула ограничена бюджетом символов: каждая очередь резервирует capacity × length
+ * символов при создании и освобождает их при удалении. Конфигурация, очередь которой
+ * не помещается в оставшийся бюджет, не пулится: её пароли генерируются в вызывающем
+ * потоке и учитываются как промахи.
+ * Если готового пароля нет, он генерируется в вызывающем потоке (промах).
+ * Метрики доступны через {@link #getMetrics()}.
+ * <p>
+ * Очереди хранятся по ключу {@link ImmutablePasswordConfig} с заранее вычисленным хешем, и пул
+ * принимает только неизменяемые конфигурации: {@link #take(ImmutablePasswordConfig)} - горячий путь,
+ * на котором конфигурация не проверяется и не копируется повторно. Вызывающий код создаёт ключ
+ * один раз, например через {@link ImmutablePasswordConfig#from(PasswordGenerationConfig)}, и
+ * переиспользует его.
+ * После {@link #close()} пул очищается и перестаёт дополняться.
+ *
+ * @author Akovi
+ * @see PasswordGenerator
+ * @see PasswordGenerationConfig
+ * @see ImmutablePasswordConfig
+ */
+public final class PasswordPool implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(PasswordPool.class);
+
+    /** Ёмкость очереди по умолчанию */
+    public static final int DEFAULT_CAPACITY = 256;
+    /** Порог дополнения по умолчанию */
+    public static final int DEFAULT_LOW_WATER_MARK = 64;
+    /** Максимальное время хранения пароля по умолчанию */
+    public static final Duration DEFAULT_MAX_AGE = Duration.ofMinutes(5);
+    /** Бюджет символов во всех очередях пула по умолчанию (около 32 МБ) */
+    public static final long DEFAULT_MAX_POOLED_CHARACTERS = 16L * 1024 * 1024;
+
+    /** Минимальный интервал фоновой очистки устаревших паролей */
+    private static final long MIN_SWEEP_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * Снимок метрик пула.
+     */
+    public static final class Metrics {
+
+        private final long hits;
+        private final long misses;
+        private final long expired;
+        private final long refills;
+        private final long totalRefillLagNanos;
+        private final long maxRefillLagNanos;
+        private final long evictedQueues;
+
+        /**
+         * Конструктор снимка метрик.
+         *
+         * @param hits выдано паролей из пула
+         * @param misses паролей сгенерировано в вызывающем потоке
+         * @param expired отброшено устаревших паролей
+         * @param refills выполнено дополнений
+         * @param totalRefillLagNanos суммарная задержка дополнений
+         * @param maxRefillLagNanos максимальная задержка дополнения
+         * @param evictedQueues удалено неиспользуемых очередей
+         */
+        Metrics(long hits, long misses, long expired, long refills,
+                long totalRefillLagNanos, long maxRefillLagNanos, long evictedQueues) {
+            this.hits = hits;
+            this.misses = misses;
+            this.expired = expired;
+            this.refills = refills;
+            this.totalRefillLagNanos = totalRefillLagNanos;
+            this.maxRefillLagNanos = maxRefillLagNanos;
+            this.evictedQueues = evictedQueues;
+        }
+
+        /**
+         * Возвращает количество паролей, выданных из пула.
+         *
+         * @return количество попаданий
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * Возвращает количество паролей, сгенерированных в вызывающем потоке из-за пустой очереди.
+         *
+         * @return количество промахов
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * Возвращает количество паролей, отброшенных из-за превышения maxAge.
+         *
+         * @return количество устаревших паролей
+         */
+        public long getExpired() {
+            return expired;
+        }
+
+        /**
+         * Возвращает количество выполненных фоновых дополнений.
+         *
+         * @return количество дополнений
+         */
+        public long getRefills() {
+            return refills;
+        }
+
+        /**
+         * Возвращает долю попаданий среди всех выдач.
+         *
+         * @return доля от 0 до 1, или 0 если выдач не было
+         */
+        public double getHitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+
+        /**
+         * Возвращает среднюю задержку дополнения: от падения очереди до порога
+         * до её заполнения до ёмкости.
+         *
+         * @return задержка в наносекундах
+         */
+        public double getAverageRefillLagNanos() {
+            return refills == 0 ? 0.0 : (double) totalRefillLagNanos / refills;
+        }
+
+        /**
+         * Возвращает максимальную задержку дополнения.
+         *
+         * @return задержка в наносекундах
+         */
+        public long getMaxRefillLagNanos() {
+            return maxRefillLagNanos;
+        }
+
+        /**
+         * Возвращает количество очередей, удалённых из пула после простоя дольше maxAge.
+         *
+         * @return количество удалённых очередей
+         */
+        public long getEvictedQueues() {
+            return evictedQueues;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Metrics{hits=%d, misses=%d, hitRate=%.3f, expired=%d, refills=%d, "
+                            + "avgRefillLag=%.0f нс, maxRefillLag=%d нс, evictedQueues=%d}",
+                    hits, misses, getHitRate(), expired, refills, getAverageRefillLagNanos(), maxRefillLagNanos,
+                    evictedQueues);
+        }
+    }
+
+    /**
+     * Пароль в пуле с моментом генерации.
+     */
+    private static final class PooledPassword {
+
+        private final String password;
+        private final long createdNanos;
+
+        PooledPassword(String password, long createdNanos) {
+            this.password = password;
+            this.createdNanos = createdNanos;
+        }
+    }
+
+    /**
+     * Очередь готовых паролей одной конфигурации.
+     */
+    private final class PoolQueue {
+
+        private final ImmutablePasswordConfig config;
+        private final long reservedCharacters;
+        private final ConcurrentLinkedQueue<PooledPassword> passwords = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean refillScheduled = new AtomicBoolean();
+        private volatile long refillRequestedNanos;
+        private volatile long lastAccessNanos = System.nanoTime();
+
+        PoolQueue(ImmutablePasswordConfig config, long reservedCharacters) {
+            this.config = config;
+            this.reservedCharacters = reservedCharacters;
+        }
+
+        /**
+         * Отмечает обращение к очереди, чтобы фоновая очистка не удалила её.
+         */
+        void touch() {
+            lastAccessNanos = System.nanoTime();
+        }
+
+        /**
+         * Занимает место в очереди, если она не заполнена.
+         *
+         * @return true если место занято
+         */
+        boolean reserveSlot() {
+            int current;
+            do {
+                current = size.get();
+                if (current >= capacity) {
+                    return false;
+                }
+            } while (!size.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        /**
+         * Извлекает пароль, пригодный к выдаче, отбрасывая устаревшие.
+         *
+         * @return пароль или null если очередь пуста
+         */
+        String poll() {
+            PooledPassword pooled;
+            while ((pooled = passwords.poll()) != null) {
+                size.decrementAndGet();
+                if (System.nanoTime() - pooled.createdNanos <= maxAgeNanos) {
+                    return pooled.password;
+                }
+                expired.incrementAndGet();
+            }
+            return null;
+        }
+
+        /**
+         * Отбрасывает устаревшие пароли. Пароли добавляются в очередь в порядке генерации,
+         * поэтому устаревшие находятся в её начале.
+         *
+         * @param now текущее время в наносекундах
+         * @return количество отброшенных паролей
+         */
+        int dropExpired(long now) {
+            int dropped = 0;
+            PooledPassword head;
+            while ((head = passwords.peek()) != null && now - head.createdNanos > maxAgeNanos) {
+                // Пароль мог быть выдан между peek и remove; тогда он уже не в очереди
+                if (passwords.remove(head)) {
+                    size.decrementAndGet();
+                    expired.incrementAndGet();
+                    dropped++;
+                }
+            }
+            return dropped;
+        }
+
+        /**
+         * Проверяет, можно ли удалить очередь из пула: к ней не обращались дольше maxAge,
+         * в ней нет паролей и не выполняется дополнение.
+         *
+         * @param now текущее время в наносекундах
+         * @return true если очередь простаивает
+         */
+        boolean isIdle(long now) {
+            return size.get() == 0 && !refillScheduled.get() && now - lastAccessNanos > maxAgeNanos;
+        }
+
+        /**
+         * Запускает фоновое дополнение, если очередь опустилась до порога и дополнение ещё не запущено.
+         */
+        void refillIfLow() {
+            if (size.get() > lowWaterMark || closed.get() || !refillScheduled.compareAndSet(false, true)) {
+                return;
+            }
+            refillRequestedNanos = System.nanoTime();
+            try {
+                refillExecutor.execute(this::refill);
+            } catch (RejectedExecutionException e) {
+                refillScheduled.set(false);
+                logger.debug("Дополнение пула отклонено: пул закрыт");
+            }
+        }
+
+        /**
+         * Дополняет очередь до ёмкости и записывает задержку дополнения.
+         */
+        private void refill() {
+            boolean succeeded = false;
+            try {
+                int missing = capacity - size.get();
+                // Очередь, удалённую очисткой, дополнять не нужно: её пароли никто не выдаст
+                if (missing > 0 && !closed.get() && queues.get(config) == this) {
+                    List<String> batch = generator.generateBatch(config, missing);
+                    long createdNanos = System.nanoTime();
+                    for (String password : batch) {
+                        if (closed.get() || !reserveSlot()) {
+                            break;
+                        }
+                        passwords.offer(new PooledPassword(password, createdNanos));
+                    }
+                }
+                long lag = System.nanoTime() - refillRequestedNanos;
+                refills.incrementAndGet();
+                totalRefillLagNanos.addAndGet(lag);
+                maxRefillLagNanos.accumulateAndGet(lag, Math::max);
+                succeeded = true;
+            } catch (InvalidPasswordConfigException | RuntimeException e) {
+                logger.error("Ошибка при дополнении пула для конфигурации {}", config, e);
+            } finally {
+                refillScheduled.set(false);
+            }
+            if (closed.get()) {
+                clear();
+            } else if (succeeded) {
+                // Пароли могли быть разобраны во время дополнения; после ошибки повтор
+                // произойдёт при следующей выдаче, а не в цикле
+                refillIfLow();
+            }
+        }
+
+        /**
+         * Отбрасывает все пароли очереди.
+         */
+        void clear() {
+            while (passwords.poll() != null) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    private final PasswordGenerator generator;
+    private final int capacity;
+    private final int lowWaterMark;
+    private final long maxAgeNanos;
+    private final long maxPooledCharacters;
+    private final AtomicLong reservedCharacters = new AtomicLong();
+    private final ScheduledExecutorService refillExecutor;
+    private final Map<ImmutablePasswordConfig, PoolQueue> queues = new ConcurrentHashMap<>();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong expired = new AtomicLong();
+    private final AtomicLong refills = new AtomicLong();
+    private final AtomicLong totalRefillLagNanos = new AtomicLong();
+    private final AtomicLong maxRefillLagNanos = new AtomicLong();
+    private final AtomicLong evictedQueues = new AtomicLong();
+
+    /**
+     * Конструктор пула с параметрами по умолчанию и потокобезопасным генератором.
+     */
+    public PasswordPool() {
+        this(PasswordGenerator.forConcurrentUse(), DEFAULT_CAPACITY, DEFAULT_LOW_WATER_MARK, DEFAULT_MAX_AGE);
+    }
+
+    /**
+     * Конструктор пула с бюджетом символов по умолчанию, см.
+     * {@link #PasswordPool(PasswordGenerator, int, int, Duration, long)}.
+     *
+     * @param generator генератор паролей, вызывается из фонового потока и из потоков-потребителей
+     * @param capacity ёмкость очереди каждой конфигурации
+     * @param lowWaterMark размер очереди, при котором запускается дополнение
+     * @param maxAge максимальное время хранения пароля в пуле
+     * @throws IllegalArgumentException если ёмкость не положительна, порог вне [0, capacity)
+     *                                  или maxAge не положителен
+     */
+    public PasswordPool(PasswordGenerator generator, int capacity, int lowWaterMark, Duration maxAge) {
+        this(generator, capacity, lowWaterMark, maxAge, DEFAULT_MAX_POOLED_CHARACTERS);
+    }
+
+    /**
+     * Конструктор пула с одним фоновым потоком дополнения. Этот же поток с интервалом
+     * maxAge / 2 отбрасывает устаревшие пароли и удаляет простаивающие очереди.
+     *
+     * @param generator генератор паролей, вызывается из фонового потока и из потоков-потребителей
+     * @param capacity ёмкость очереди каждой конфигурации
+     * @param lowWaterMark размер очереди, при котором запускается дополнение
+     * @param maxAge максимальное время хранения пароля в пуле
+     * @param maxPooledCharacters сколько символов могут занимать все очереди пула вместе
+     * @throws IllegalArgumentException если ёмкость не положительна, порог вне [0, capacity),
+     *                                  maxAge или бюджет символов не положителен
+     */
+    public PasswordPool(PasswordGenerator generator, int capacity, int lowWaterMark, Duration maxAge,
+                        long maxPooledCharacters) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Ёмкость пула должна быть положительной, получено: " + capacity);
+        }
+        if (lowWaterMark < 0 || lowWaterMark >= capacity) {
+            throw new IllegalArgumentException(String.format(
+                    "Порог дополнения должен быть в диапазоне [0, %d), получено: %d", capacity, lowWaterMark));
+        }
+        Objects.requireNonNull(maxAge, "Время хранения не может быть null");
+        if (maxAge.isNegative() || maxAge.isZero()) {
+            throw new IllegalArgumentException("Время хранения должно быть положительным, получено: " + maxAge);
+        }
+        if (maxPooledCharacters < 1) {
+            throw new IllegalArgumentException(
+                    "Бюджет символов пула должен быть положительным, получено: " + maxPooledCharacters);
+        }
+        this.generator = Objects.requireNonNull(generator, "Генератор не может быть null");
+        this.capacity = capacity;
+        this.lowWaterMark = lowWaterMark;
+        this.maxAgeNanos = maxAge.toNanos();
+        this.maxPooledCharacters = maxPooledCharacters;
+        this.refillExecutor = Executors.newSingleThreadScheduledExecutor(
+                TaskExecutors.threadFactory("password-pool-refill", TaskExecutors.ThreadKind.PLATFORM));
+        long sweepIntervalNanos = Math.max(MIN_SWEEP_INTERVAL_NANOS, maxAgeNanos / 2);
+        refillExecutor.scheduleWithFixedDelay(this::sweep, sweepIntervalNanos, sweepIntervalNanos,
+                TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Выдаёт пароль для конфигурации. Первое обращение с новой конфигурацией проверяет её
+     * и запускает фоновое заполнение очереди; этот и последующие вызовы при пустой очереди
+     * генерируют пароль в вызывающем потоке. Повторные обращения с той же конфигурацией
+     * находят очередь по кешированному хешу ключа и не проверяют конфигурацию заново.
+     * Для конфигурации, не поместившейся в бюджет символов, пароль всегда генерируется
+     * в вызывающем потоке.
+     *
+     * @param config конфигурация пароля
+     * @return пароль, который больше никогда не будет выдан пулом
+     * @throws InvalidPasswordConfigException если конфигурация некорректна
+     * @throws IllegalStateException если пул закрыт
+     */
+    public String take(ImmutablePasswordConfig config) throws InvalidPasswordConfigException {
+        if (closed.get()) {
+            throw new IllegalStateException("Пул паролей закрыт");
+        }
+        PoolQueue queue = queueFor(config);
+        if (queue == null) {
+            misses.incrementAndGet();
+            return generator.generate(config);
+        }
+        queue.touch();
+        String password = queue.poll();
+        queue.refillIfLow();
+        if (password != null) {
+            hits.incrementAndGet();
+            return password;
+        }
+        misses.incrementAndGet();
+        return generator.generate(queue.config);
+    }
+
+    /**
+     * Заранее заполняет очередь конфигурации в фоне, не выдавая паролей.
+     * Если очередь конфигурации не помещается в бюджет символов, ничего не делает.
+     *
+     * @param config конфигурация пароля
+     * @throws InvalidPasswordConfigException если конфигурация некорректна
+     * @throws IllegalStateException если пул закрыт
+     */
+    public void prefill(ImmutablePasswordConfig config) throws InvalidPasswordConfigException {
+        if (closed.get()) {
+            throw new IllegalStateException("Пул паролей закрыт");
+        }
+        PoolQueue queue = queueFor(config);
+        if (queue == null) {
+            return;
+        }
+        queue.touch();
+        queue.refillIfLow();
+    }
+
+    /**
+     * Возвращает количество готовых паролей для конфигурации, включая ещё не отброшенные устаревшие.
+     *
+     * @param config конфигурация пароля
+     * @return размер очереди или 0, если конфигурация ещё не запрашивалась
+     */
+    public int size(ImmutablePasswordConfig config) {
+        PoolQueue queue = queues.get(config);
+        return queue == null ? 0 : queue.size.get();
+    }
+
+    /**
+     * Возвращает снимок метрик пула по всем конфигурациям.
+     *
+     * @return метрики
+     */
+    public Metrics getMetrics() {
+        return new Metrics(hits.get(), misses.get(), expired.get(), refills.get(),
+                totalRefillLagNanos.get(), maxRefillLagNanos.get(), evictedQueues.get());
+    }
+
+    /**
+     * Отбрасывает устаревшие пароли во всех очередях и удаляет простаивающие очереди.
+     * Выполняется периодически в фоновом потоке.
+     */
+    private void sweep() {
+        try {
+            long now = System.nanoTime();
+            long dropped = 0;
+            int evicted = 0;
+            for (PoolQueue queue : queues.values()) {
+                dropped += queue.dropExpired(now);
+                if (queue.isIdle(now) && queues.remove(queue.config, queue)) {
+                    queue.clear();
+                    reservedCharacters.addAndGet(-queue.reservedCharacters);
+                    evicted++;
+                }
+            }
+            evictedQueues.addAndGet(evicted);
+            if (dropped > 0 || evicted > 0) {
+                logger.debug("Очистка пула: отброшено устаревших паролей: {}, удалено очередей: {}",
+                        dropped, evicted);
+            }
+        } catch (RuntimeException e) {
+            // Исключение остановило бы периодическую очистку
+            logger.error("Ошибка при очистке пула паролей", e);
+        }
+    }
+
+    /**
+     * Находит очередь конфигурации или создаёт её после проверки конфигурации,
+     * если её ёмкость помещается в оставшийся бюджет символов.
+     *
+     * @param config конфигурация пароля
+     * @return очередь конфигурации или null, если для неё не хватает бюджета
+     * @throws InvalidPasswordConfigException если конфигурация некорректна
+     */
+    private PoolQueue queueFor(ImmutablePasswordConfig config) throws InvalidPasswordConfigException {
+        Objects.requireNonNull(config, "Конфигурация не может быть null");
+        PoolQueue queue = queues.get(config);
+        if (queue != null) {
+            return queue;
+        }
+        generator.validateConfig(config, GenerationMode.IN_MEMORY);
+        long characters = (long) capacity * config.getLength();
+        if (!reserveCharacters(characters)) {
+            logger.debug("Конфигурация длины {} не помещается в бюджет пула ({} из {} символов заняты)",
+                    config.getLength(), reservedCharacters.get(), maxPooledCharacters);
+            return null;
+        }
+        PoolQueue created = new PoolQueue(config, characters);
+        PoolQueue existing = queues.putIfAbsent(config, created);
+        if (existing != null) {
+            reservedCharacters.addAndGet(-characters);
+            return existing;
+        }
+        return created;
+    }
+
+    /**
+     * Резервирует символы в бюджете пула.
+     *
+     * @param characters количество символов
+     * @return true если символы помещаются в бюджет и зарезервированы
+     */
+    private boolean reserveCharacters(long characters) {
+        long current;
+        do {
+            current = reservedCharacters.get();
+            if (current + characters > maxPooledCharacters) {
+                return false;
+            }
+        } while (!reservedCharacters.compareAndSet(current, current + characters));
+        return true;
+    }
+
+    /**
+     * Останавливает фоновое дополнение и отбрасывает все готовые пароли.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            refillExecutor.shutdownNow();
+            queues.values().forEach(PoolQueue::clear);
+            logger.info("Пул паролей закрыт. {}", getMetrics());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.passwordGenerator.core;
+
+/**
+ * Источник случайных чисел для генерации паролей.
+ * Позволяет выбирать реализацию под конкретное окружение: криптографически стойкие
+ * генераторы на основе {@link java.security.SecureRandom} или детерминированный
+ * генератор с фиксированным зерном для воспроизводимых тестов и бенчмарков.
+ *
+ * @author Akovi
+ * @see SecureRandomSource
+ * @see SeededRandomSource
+ * @see ThreadLocalRandomSource
+ * @see PasswordGenerator
+ */
+public interface RandomSource {
+
+    /**
+     * Возвращает равномерно распределённое число в диапазоне [0, bound).
+     *
+     * @param bound верхняя граница (исключительно), должна быть положительной
+     * @return случайное число
+     */
+    int nextInt(int bound);
+
+    /**
+     * Возвращает случайное 64-битное число.
+     *
+     * @return случайное число
+     */
+    long nextLong();
+
+    /**
+     * Заполняет массив случайными байтами.
+     *
+     * @param bytes массив для заполнения
+     */
+    void nextBytes(byte[] bytes);
+
+    /**
+     * Создаёт новый независимый источник, зерно которого получено из этого источника.
+     * Используется для заполнения фрагментов пароля в разных потоках.
+     *
+     * @return новый источник случайных чисел
+     */
+    RandomSource split();
+
+    /**
+     * Возвращает источник, которым должен пользоваться текущий поток.
+     * Для большинства реализаций это сам источник.
+     *
+     * @return источник для текущего потока
+     */
+    default RandomSource forCurrentThread() {
+        return this;
+    }
+
+    /**
+     * Возвращает название алгоритма генерации.
+     *
+     * @return название алгоритма
+     */
+    String getAlgorithm();
+}
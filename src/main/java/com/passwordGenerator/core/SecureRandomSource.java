@@ -0,0 +1,131 @@
+package com.passwordGenerator.core;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.security.DrbgParameters;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.security.SecureRandomParameters;
+import java.util.Objects;
+
+/**
+ * Источник случайных чисел на основе {@link SecureRandom}.
+ * Потокобезопасен в той же мере, что и обёрнутый SecureRandom.
+ *
+ * @author Akovi
+ * @see RandomSource
+ */
+public final class SecureRandomSource implements RandomSource {
+
+    private static final Logger logger = LogManager.getLogger(SecureRandomSource.class);
+    private static final int SPLIT_SEED_BYTES = 32;
+
+    private final SecureRandom random;
+
+    /**
+     * Создаёт источник с SecureRandom по умолчанию для текущей платформы.
+     */
+    public SecureRandomSource() {
+        this(new SecureRandom());
+    }
+
+    /**
+     * Создаёт источник на основе заданного SecureRandom.
+     *
+     * @param random экземпляр SecureRandom
+     * @throws NullPointerException если random равен null
+     */
+    public SecureRandomSource(SecureRandom random) {
+        this.random = Objects.requireNonNull(random, "SecureRandom не может быть null");
+    }
+
+    /**
+     * Создаёт источник на основе DRBG (NIST SP 800-90Ar1) с заданной стойкостью.
+     *
+     * @param strength стойкость в битах (например, 128, 192 или 256)
+     * @return источник на основе DRBG
+     * @throws IllegalArgumentException если стойкость не поддерживается
+     * @throws IllegalStateException если алгоритм DRBG недоступен
+     */
+    public static SecureRandomSource drbg(int strength) {
+        try {
+            DrbgParameters.Instantiation parameters = DrbgParameters.instantiation(
+                    strength, DrbgParameters.Capability.RESEED_ONLY, null);
+            return new SecureRandomSource(SecureRandom.getInstance("DRBG", parameters));
+        } catch (NoSuchAlgorithmException e) {
+            logger.error("DRBG со стойкостью {} бит недоступен", strength, e);
+            throw new IllegalStateException("DRBG со стойкостью " + strength + " бит недоступен", e);
+        }
+    }
+
+    /**
+     * Создаёт источник на основе неблокирующего NativePRNG ({@code /dev/urandom}).
+     * Доступен только на Unix-подобных системах.
+     *
+     * @return источник на основе NativePRNGNonBlocking
+     * @throws IllegalStateException если алгоритм недоступен на этой платформе
+     */
+    public static SecureRandomSource nativeNonBlocking() {
+        try {
+            return new SecureRandomSource(SecureRandom.getInstance("NativePRNGNonBlocking"));
+        } catch (NoSuchAlgorithmException e) {
+            logger.error("NativePRNGNonBlocking недоступен на этой платформе", e);
+            throw new IllegalStateException("NativePRNGNonBlocking недоступен на этой платформе", e);
+        }
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public void nextBytes(byte[] bytes) {
+        random.nextBytes(bytes);
+    }
+
+    /**
+     * Создаёт SecureRandom того же алгоритма и с теми же параметрами,
+     * дополнительно засеянный байтами из этого источника.
+     *
+     * @return новый независимый источник
+     */
+    @Override
+    public RandomSource split() {
+        byte[] seed = new byte[SPLIT_SEED_BYTES];
+        random.nextBytes(seed);
+        try {
+            SecureRandomParameters parameters = random.getParameters();
+            SecureRandom child = parameters == null
+                    ? SecureRandom.getInstance(random.getAlgorithm())
+                    : SecureRandom.getInstance(random.getAlgorithm(), parameters);
+            child.setSeed(seed);
+            return new SecureRandomSource(child);
+        } catch (NoSuchAlgorithmException e) {
+            logger.debug("Алгоритм {} недоступен для разделения, используется SecureRandom по умолчанию",
+                    random.getAlgorithm());
+            return new SecureRandomSource(new SecureRandom(seed));
+        }
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return random.getAlgorithm();
+    }
+
+    /**
+     * Возвращает описание генератора, включая параметры DRBG, если они есть.
+     *
+     * @return строка с описанием источника
+     */
+    @Override
+    public String toString() {
+        return "SecureRandomSource{" + random + '}';
+    }
+}
@@ -0,0 +1,67 @@
+package com.passwordGenerator.core;
+
+import java.util.SplittableRandom;
+
+/**
+ * Детерминированный источник случайных чисел с фиксированным зерном.
+ * Одинаковое зерно всегда даёт одинаковую последовательность, что нужно
+ * для воспроизводимых тестов и бенчмарков.
+ * <p>
+ * Источник НЕ является криптографически стойким и не должен использоваться
+ * для генерации настоящих паролей. Экземпляр не потокобезопасен.
+ *
+ * @author Akovi
+ * @see RandomSource
+ */
+public final class SeededRandomSource implements RandomSource {
+
+    private final SplittableRandom random;
+
+    /**
+     * Создаёт источник с заданным зерном.
+     *
+     * @param seed зерно генератора
+     */
+    public SeededRandomSource(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Создаёт источник на основе готового SplittableRandom.
+     *
+     * @param random генератор
+     */
+    private SeededRandomSource(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public void nextBytes(byte[] bytes) {
+        random.nextBytes(bytes);
+    }
+
+    @Override
+    public RandomSource split() {
+        return new SeededRandomSource(random.split());
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return "SplittableRandom";
+    }
+
+    @Override
+    public String toString() {
+        return "SeededRandomSource{" + getAlgorithm() + '}';
+    }
+}
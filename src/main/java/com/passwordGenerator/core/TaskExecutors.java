@@ -0,0 +1,183 @@
+package com.passwordGenerator.core;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Фабрика исполнителей и фоновых потоков для генерации и замеров.
+ * Все потоки получают осмысленные имена и являются демонами, поэтому не мешают завершению JVM.
+ * <p>
+ * Вид потоков задаётся {@link ThreadKind}. Виртуальные потоки доступны начиная с Java 21 и
+ * подключаются через рефлексию, потому что проект собирается под Java 17; на более старой JVM
+ * вместо них создаются обычные потоки. Виртуальные потоки подходят для задач, которые в основном
+ * ждут ввода-вывода. Для замеров времени и памяти, а также для генераторов с отдельным
+ * SecureRandom на поток ({@link PasswordGenerator#forConcurrentUse()}) нужны обычные потоки:
+ * у каждого виртуального потока был бы свой заново засеянный SecureRandom.
+ *
+ * @author Akovi
+ * @see TaskScope
+ */
+public final class TaskExecutors {
+
+    private static final Logger logger = LogManager.getLogger(TaskExecutors.class);
+
+    /**
+     * Вид потоков исполнителя.
+     */
+    public enum ThreadKind {
+        /** Обычные потоки операционной системы */
+        PLATFORM,
+        /** Виртуальные потоки, если JVM их поддерживает, иначе обычные */
+        VIRTUAL
+    }
+
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+    private static final Method IS_VIRTUAL;
+
+    static {
+        Method isVirtual = null;
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builderName = builderClass.getMethod("name", String.class, long.class);
+            builderFactory = builderClass.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            isVirtual = Thread.class.getMethod("isVirtual");
+            // На Java 19-20 методы есть, но без --enable-preview выбрасывают исключение
+            builderFactory.invoke(builderName.invoke(ofVirtual.invoke(null), "probe-", 0L));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            ofVirtual = null;
+            isVirtual = null;
+            logger.debug("Виртуальные потоки недоступны, используются обычные: {}", e.toString());
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+        IS_VIRTUAL = isVirtual;
+    }
+
+    /**
+     * Приватный конструктор для предотвращения создания экземпляров.
+     */
+    private TaskExecutors() {
+        throw new AssertionError("Утилитный класс не должен быть инстанцирован");
+    }
+
+    /**
+     * Проверяет, поддерживает ли текущая JVM виртуальные потоки.
+     *
+     * @return true если виртуальные потоки доступны
+     */
+    public static boolean isVirtualThreadSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Проверяет, выполняется ли текущий код в виртуальном потоке.
+     *
+     * @return true если текущий поток виртуальный
+     */
+    public static boolean isCurrentThreadVirtual() {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (Boolean) IS_VIRTUAL.invoke(Thread.currentThread());
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Возвращает вид потоков, который будет использован на самом деле.
+     *
+     * @param kind запрошенный вид потоков
+     * @return {@link ThreadKind#PLATFORM}, если виртуальные потоки запрошены, но недоступны
+     */
+    public static ThreadKind effectiveKind(ThreadKind kind) {
+        return kind == ThreadKind.VIRTUAL && !isVirtualThreadSupported() ? ThreadKind.PLATFORM : kind;
+    }
+
+    /**
+     * Создаёт фабрику потоков с именами вида {@code namePrefix-N}.
+     *
+     * @param namePrefix префикс имени потока
+     * @param kind вид потоков
+     * @return фабрика потоков
+     */
+    public static ThreadFactory threadFactory(String namePrefix, ThreadKind kind) {
+        if (effectiveKind(kind) == ThreadKind.VIRTUAL) {
+            try {
+                Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), namePrefix + "-", 1L);
+                return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                logger.warn("Не удалось создать фабрику виртуальных потоков, используются обычные", e);
+            }
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Создаёт исполнитель для задач одного вида.
+     * Для обычных потоков это пул из parallelism потоков. Для виртуальных - исполнитель
+     * с новым потоком на каждую задачу: он не ограничивает параллелизм сам, ограничение
+     * задаёт {@link TaskScope} или вызывающий код.
+     *
+     * @param namePrefix префикс имени потоков
+     * @param parallelism количество потоков пула
+     * @param kind вид потоков
+     * @return исполнитель, который нужно остановить после использования
+     * @throws IllegalArgumentException если parallelism не положителен
+     */
+    public static ExecutorService newExecutor(String namePrefix, int parallelism, ThreadKind kind) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Количество потоков должно быть положительным, получено: "
+                    + parallelism);
+        }
+        ThreadFactory factory = threadFactory(namePrefix, kind);
+        if (effectiveKind(kind) == ThreadKind.VIRTUAL) {
+            try {
+                return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, factory);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                logger.warn("Не удалось создать исполнитель виртуальных потоков, используются обычные", e);
+                factory = threadFactory(namePrefix, ThreadKind.PLATFORM);
+            }
+        }
+        return Executors.newFixedThreadPool(parallelism, factory);
+    }
+
+    /**
+     * Запускает задачу в отдельном фоновом потоке.
+     *
+     * @param name имя потока
+     * @param task задача
+     * @param kind вид потока
+     * @return запущенный поток
+     */
+    public static Thread startThread(String name, Runnable task, ThreadKind kind) {
+        Thread thread = threadFactory(name, kind).newThread(task);
+        thread.setName(name);
+        thread.start();
+        return thread;
+    }
+}
@@ -0,0 +1,181 @@
+package com.passwordGenerator.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Область структурированного параллельного выполнения подзадач.
+ * Подзадачи запускаются через {@link #fork(Callable)} не больше чем по maxParallelism одновременно:
+ * при исчерпании лимита fork ждёт завершения одной из уже запущенных. {@link #join(Consumer)}
+ * возвращает результаты в порядке запуска. Первая ошибка подзадачи отменяет признак
+ * {@link #getCancellation()} и прерывает остальные подзадачи; {@link #close()} отменяет
+ * незавершённые подзадачи, поэтому ни одна не переживает область.
+ * <p>
+ * Признак отмены области - дочерний к переданному, так что отмена снаружи видна подзадачам,
+ * а ошибка подзадачи не отменяет внешнюю операцию. Экземпляр используется одним потоком-владельцем.
+ *
+ * @param <T> тип результата подзадач
+ * @author Akovi
+ * @see TaskExecutors
+ * @see CancellationToken
+ */
+public final class TaskScope<T> implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final CancellationToken cancellation;
+    private final List<Future<T>> futures = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+
+    /**
+     * Конструктор области.
+     *
+     * @param executor исполнитель подзадач, область его не останавливает
+     * @param maxParallelism максимальное количество одновременно выполняемых подзадач
+     * @param parentCancellation внешний признак отмены
+     * @throws IllegalArgumentException если maxParallelism не положителен
+     */
+    public TaskScope(ExecutorService executor, int maxParallelism, CancellationToken parentCancellation) {
+        if (maxParallelism < 1) {
+            throw new IllegalArgumentException("Степень параллелизма должна быть положительной, получено: "
+                    + maxParallelism);
+        }
+        this.executor = Objects.requireNonNull(executor, "Исполнитель не может быть null");
+        this.permits = new Semaphore(maxParallelism);
+        this.cancellation = Objects.requireNonNull(parentCancellation, "Признак отмены не может быть null").child();
+    }
+
+    /**
+     * Возвращает признак отмены области. Подзадачи должны проверять именно его.
+     *
+     * @return признак отмены области
+     */
+    public CancellationToken getCancellation() {
+        return cancellation;
+    }
+
+    /**
+     * Запускает подзадачу, дождавшись свободного места, если лимит параллелизма исчерпан.
+     *
+     * @param task подзадача
+     * @throws InterruptedException если поток прерван во время ожидания
+     * @throws CancellationException если область отменена
+     */
+    public void fork(Callable<T> task) throws InterruptedException {
+        Objects.requireNonNull(task, "Задача не может быть null");
+        cancellation.throwIfCancelled();
+        permits.acquire();
+        FutureTask<T> future = new FutureTask<>(() -> {
+            try {
+                cancellation.throwIfCancelled();
+                return task.call();
+            } catch (CancellationException e) {
+                // Остановка по отмене области - не ошибка подзадачи
+                if (!cancellation.isCancelled()) {
+                    fail(e);
+                }
+                throw e;
+            } catch (Throwable e) {
+                fail(e);
+                throw e;
+            }
+        }) {
+            @Override
+            protected void done() {
+                // Вызывается ровно один раз, в том числе для задач, отменённых до запуска
+                permits.release();
+            }
+        };
+        futures.add(future);
+        try {
+            executor.execute(future);
+        } catch (RuntimeException e) {
+            futures.remove(future);
+            future.cancel(false);
+            throw e;
+        }
+    }
+
+    /**
+     * Дожидается всех подзадач и передаёт их результаты в порядке запуска.
+     *
+     * @param onResult обработчик каждого результата, вызывается в потоке-владельце
+     * @return результаты в порядке запуска
+     * @throws InterruptedException если поток прерван во время ожидания
+     * @throws ExecutionException с первой ошибкой подзадач, если хотя бы одна завершилась ошибкой
+     * @throws CancellationException если область отменена снаружи или через {@link #cancel()}
+     */
+    public List<T> join(Consumer<? super T> onResult) throws InterruptedException, ExecutionException {
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            T result;
+            try {
+                result = future.get();
+            } catch (CancellationException | ExecutionException e) {
+                Throwable failure = firstFailure.get();
+                if (failure != null) {
+                    throw new ExecutionException(failure);
+                }
+                if (e.getCause() instanceof CancellationException cancelled && cancellation.isCancelled()) {
+                    throw cancelled;
+                }
+                throw e;
+            }
+            results.add(result);
+            onResult.accept(result);
+        }
+        return results;
+    }
+
+    /**
+     * Дожидается всех подзадач и возвращает их результаты в порядке запуска.
+     *
+     * @return результаты в порядке запуска
+     * @throws InterruptedException если поток прерван во время ожидания
+     * @throws ExecutionException с первой ошибкой подзадач, если хотя бы одна завершилась ошибкой
+     * @throws CancellationException если область отменена снаружи или через {@link #cancel()}
+     */
+    public List<T> join() throws InterruptedException, ExecutionException {
+        return join(result -> { });
+    }
+
+    /**
+     * Отменяет область: признак отмены и все незавершённые подзадачи.
+     */
+    public void cancel() {
+        cancellation.cancel();
+        futures.forEach(future -> future.cancel(true));
+    }
+
+    /**
+     * Запоминает первую ошибку и отменяет остальные подзадачи.
+     *
+     * @param failure ошибка подзадачи
+     */
+    private void fail(Throwable failure) {
+        if (firstFailure.compareAndSet(null, failure)) {
+            cancellation.cancel();
+            // Подзадачи, запущенные после ошибки, остановятся на проверке признака
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Отменяет незавершённые подзадачи.
+     */
+    @Override
+    public void close() {
+        futures.forEach(future -> future.cancel(true));
+    }
+}
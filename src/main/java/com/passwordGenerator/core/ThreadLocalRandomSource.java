@@ -0,0 +1,67 @@
+package com.passwordGenerator.core;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Источник случайных чисел, выдающий каждому потоку собственный экземпляр.
+ * Потоки не конкурируют за блокировку общего генератора, поэтому один
+ * экземпляр можно безопасно использовать из многих потоков одновременно.
+ *
+ * @author Akovi
+ * @see RandomSource
+ * @see PasswordGenerator#forConcurrentUse()
+ */
+public final class ThreadLocalRandomSource implements RandomSource {
+
+    private final ThreadLocal<RandomSource> sources;
+    private final String algorithm;
+
+    /**
+     * Создаёт источник, который при первом обращении потока создаёт для него
+     * новый экземпляр через фабрику.
+     *
+     * @param factory фабрика источников для потоков
+     * @throws NullPointerException если factory равна null
+     */
+    public ThreadLocalRandomSource(Supplier<? extends RandomSource> factory) {
+        Objects.requireNonNull(factory, "Фабрика источников не может быть null");
+        this.sources = ThreadLocal.withInitial(factory);
+        this.algorithm = sources.get().getAlgorithm();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return sources.get().nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return sources.get().nextLong();
+    }
+
+    @Override
+    public void nextBytes(byte[] bytes) {
+        sources.get().nextBytes(bytes);
+    }
+
+    @Override
+    public RandomSource split() {
+        return sources.get().split();
+    }
+
+    @Override
+    public RandomSource forCurrentThread() {
+        return sources.get();
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    @Override
+    public String toString() {
+        return "ThreadLocalRandomSource{" + algorithm + '}';
+    }
+}
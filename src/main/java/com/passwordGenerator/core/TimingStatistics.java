@@ -0,0 +1,214 @@
+package com.passwordGenerator.core;
+
+import java.util.Arrays;
+
+/**
+ * Статистика по выборке измерений времени.
+ * Содержит минимум, медиану, перцентили p90 и p99, максимум, среднее,
+ * стандартное отклонение и 95% доверительный интервал для среднего.
+ *
+ * @author Akovi
+ * @see PasswordCreationTimeEstimator
+ */
+public final class TimingStatistics {
+
+    /**
+     * Критические значения t-распределения Стьюдента для двустороннего 95% интервала,
+     * индекс - число степеней свободы (1-30).
+     */
+    private static final double[] T_CRITICAL_95 = {
+            Double.NaN,
+            12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+            2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+    private static final double Z_CRITICAL_95 = 1.96;
+
+    private final int sampleCount;
+    private final double min;
+    private final double median;
+    private final double p90;
+    private final double p99;
+    private final double max;
+    private final double mean;
+    private final double standardDeviation;
+    private final double confidenceHalfWidth;
+
+    /**
+     * Конструктор из готовых значений. Используется при загрузке сохранённых отчётов,
+     * для расчёта по выборке используйте {@link #of(long[])}.
+     *
+     * @param sampleCount количество измерений
+     * @param min минимум в наносекундах
+     * @param median медиана в наносекундах
+     * @param p90 p90 в наносекундах
+     * @param p99 p99 в наносекундах
+     * @param max максимум в наносекундах
+     * @param mean среднее в наносекундах
+     * @param standardDeviation стандартное отклонение в наносекундах
+     * @param confidenceHalfWidth полуширина 95% доверительного интервала в наносекундах
+     */
+    TimingStatistics(int sampleCount, double min, double median, double p90, double p99,
+            double max, double mean, double standardDeviation, double confidenceHalfWidth) {
+        this.sampleCount = sampleCount;
+        this.min = min;
+        this.median = median;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.max = max;
+        this.mean = mean;
+        this.standardDeviation = standardDeviation;
+        this.confidenceHalfWidth = confidenceHalfWidth;
+    }
+
+    /**
+     * Вычисляет статистику по выборке измерений.
+     *
+     * @param samples измерения в наносекундах
+     * @return статистика выборки
+     * @throws IllegalArgumentException если выборка пуста
+     */
+    public static TimingStatistics of(long[] samples) {
+        if (samples == null || samples.length == 0) {
+            throw new IllegalArgumentException("Выборка измерений не может быть пустой");
+        }
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        int n = sorted.length;
+
+        double sum = 0;
+        for (long sample : sorted) {
+            sum += sample;
+        }
+        double mean = sum / n;
+
+        double squaredDeviations = 0;
+        for (long sample : sorted) {
+            squaredDeviations += (sample - mean) * (sample - mean);
+        }
+        double standardDeviation = n > 1 ? Math.sqrt(squaredDeviations / (n - 1)) : 0.0;
+        double criticalValue = n - 1 < T_CRITICAL_95.length ? T_CRITICAL_95[Math.max(1, n - 1)] : Z_CRITICAL_95;
+        double confidenceHalfWidth = n > 1 ? criticalValue * standardDeviation / Math.sqrt(n) : 0.0;
+
+        return new TimingStatistics(n, sorted[0], percentile(sorted, 50), percentile(sorted, 90),
+                percentile(sorted, 99), sorted[n - 1], mean, standardDeviation, confidenceHalfWidth);
+    }
+
+    /**
+     * Вычисляет перцентиль отсортированной выборки методом ближайшего ранга.
+     *
+     * @param sorted отсортированная выборка
+     * @param percent перцентиль от 0 до 100
+     * @return значение перцентиля
+     */
+    private static double percentile(long[] sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Возвращает количество измерений в выборке.
+     *
+     * @return количество измерений
+     */
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * Возвращает минимальное время.
+     *
+     * @return минимум в наносекундах
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * Возвращает медиану.
+     *
+     * @return медиана в наносекундах
+     */
+    public double getMedian() {
+        return median;
+    }
+
+    /**
+     * Возвращает 90-й перцентиль.
+     *
+     * @return p90 в наносекундах
+     */
+    public double getP90() {
+        return p90;
+    }
+
+    /**
+     * Возвращает 99-й перцентиль.
+     *
+     * @return p99 в наносекундах
+     */
+    public double getP99() {
+        return p99;
+    }
+
+    /**
+     * Возвращает максимальное время.
+     *
+     * @return максимум в наносекундах
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Возвращает среднее время.
+     *
+     * @return среднее в наносекундах
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Возвращает выборочное стандартное отклонение.
+     *
+     * @return стандартное отклонение в наносекундах
+     */
+    public double getStandardDeviation() {
+        return standardDeviation;
+    }
+
+    /**
+     * Возвращает нижнюю границу 95% доверительного интервала для среднего.
+     *
+     * @return нижняя граница в наносекундах
+     */
+    public double getConfidenceLow() {
+        return mean - confidenceHalfWidth;
+    }
+
+    /**
+     * Возвращает верхнюю границу 95% доверительного интервала для среднего.
+     *
+     * @return верхняя граница в наносекундах
+     */
+    public double getConfidenceHigh() {
+        return mean + confidenceHalfWidth;
+    }
+
+    /**
+     * Возвращает полуширину 95% доверительного интервала для среднего.
+     *
+     * @return полуширина интервала в наносекундах
+     */
+    public double getConfidenceHalfWidth() {
+        return confidenceHalfWidth;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TimingStatistics{n=%d, min=%.0f, median=%.0f, p90=%.0f, p99=%.0f, "
+                        + "max=%.0f, mean=%.0f, sd=%.0f, ci95=±%.0f}",
+                sampleCount, min, median, p90, p99, max, mean, standardDeviation, confidenceHalfWidth);
+    }
+}
@@ -0,0 +1,438 @@
+package com.passwordGenerator.ui.cli;
+
+import com.passwordGenerator.core.BaselineComparison;
+import com.passwordGenerator.core.BenchmarkReport;
+import com.passwordGenerator.core.LengthSweep;
+import com.passwordGenerator.core.PasswordBatchExporter;
+import com.passwordGenerator.core.PasswordBatchExporter.ExportResult;
+import com.passwordGenerator.core.PasswordBatchExporter.FsyncPolicy;
+import com.passwordGenerator.core.PasswordCreationTimeEstimator;
+import com.passwordGenerator.core.PasswordGenerationConfig;
+import com.passwordGenerator.core.PasswordGenerator;
+import com.passwordGenerator.exceptions.InvalidPasswordConfigException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Неинтерактивный режим командной строки для пакетной генерации паролей.
+ * Генерирует заданное количество паролей за один запуск JVM и пишет их по одному на строку
+ * в стандартный вывод или файл через {@link PasswordBatchExporter}. Логи идут в stderr
+ * и файл, поэтому стандартный вывод содержит только пароли.
+ * Поддерживаемые аргументы:
+ * {@code --length=N} - длина пароля (по умолчанию 16)
+ * {@code --count=N} - количество паролей (по умолчанию 1)
+ * {@code --charsets=latin,cyrillic,digits,special} - наборы символов (по умолчанию latin,digits)
+ * {@code --require=СИМВОЛЫ} - обязательные символы
+ * {@code --threads=N} - количество потоков генерации (по умолчанию 1)
+ * {@code --out=ФАЙЛ} - файл для записи (по умолчанию стандартный вывод)
+ * {@code --fsync=none|finish|buffer} - сброс файла на диск (по умолчанию none)
+ * <p>
+ * С {@code --benchmark=quick|detailed|MIN:MAX:STEP} вместо генерации выполняется тест
+ * {@link PasswordCreationTimeEstimator}, таблица результатов пишется в стандартный вывод,
+ * а параметры генерации не используются:
+ * {@code --benchmark-out=ФАЙЛ} - сохранить отчёт (.csv - CSV, иначе JSON)
+ * {@code --baseline=ФАЙЛ} - сравнить с сохранённым отчётом через {@link BaselineComparison}
+ * {@code --threshold=ПРОЦЕНТ} - допустимое замедление (по умолчанию 10)
+ * При регрессии процесс завершается с кодом {@link #EXIT_REGRESSION}. Без {@code --benchmark}
+ * параметры {@code --benchmark-out} и {@code --baseline} запускают быстрый тест.
+ *
+ * @author Akovi
+ * @see PasswordBatchExporter
+ * @see PasswordGenerationConfig
+ */
+public class PasswordGeneratorBatchCLI {
+
+    private static final Logger logger = LogManager.getLogger(PasswordGeneratorBatchCLI.class);
+
+    /** Код завершения при успехе */
+    public static final int EXIT_OK = 0;
+    /** Код завершения при ошибке ввода-вывода */
+    public static final int EXIT_IO_ERROR = 1;
+    /** Код завершения при некорректных аргументах или конфигурации */
+    public static final int EXIT_USAGE_ERROR = 2;
+    /** Код завершения при регрессии производительности относительно базового отчёта */
+    public static final int EXIT_REGRESSION = 3;
+
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Использование: --ui=cli [параметры]",
+            "  --length=N                                   длина пароля (по умолчанию 16)",
+            "  --count=N                                    количество паролей (по умолчанию 1)",
+            "  --charsets=latin,cyrillic,digits,special     наборы символов (по умолчанию latin,digits)",
+            "  --require=СИМВОЛЫ                            обязательные символы",
+            "  --threads=N                                  потоков генерации (по умолчанию 1)",
+            "  --out=ФАЙЛ                                   файл вместо стандартного вывода",
+            "  --fsync=none|finish|buffer                   сброс файла на диск (по умолчанию none)",
+            "  --benchmark=quick|detailed|MIN:MAX:STEP      тест производительности вместо генерации",
+            "  --benchmark-out=ФАЙЛ                         сохранить отчёт теста (.json или .csv)",
+            "  --baseline=ФАЙЛ                              сравнить с базовым отчётом, код 3 при регрессии",
+            "  --threshold=ПРОЦЕНТ                          порог регрессии (по умолчанию 10)",
+            "  --help                                       эта справка");
+
+    /**
+     * Вид теста производительности в режиме {@code --benchmark}.
+     */
+    enum Benchmark {
+        /** Быстрый тест по трём контрольным точкам */
+        QUICK,
+        /** Детальный тест 10k-1M с шагом 100k */
+        DETAILED,
+        /** Тест по диапазону длин MIN:MAX:STEP */
+        RANGE
+    }
+
+    /**
+     * Параметры пакетной генерации, разобранные из аргументов.
+     */
+    static final class Options {
+        /** Длина и наборы символов; обязательные символы добавляются после разбора всех аргументов */
+        final PasswordGenerationConfig config = new PasswordGenerationConfig(16);
+        long count = 1;
+        String required = "";
+        int threads = 1;
+        Path out;
+        FsyncPolicy fsyncPolicy = FsyncPolicy.NONE;
+        boolean help;
+        /** Вид теста производительности; null - генерация паролей */
+        Benchmark benchmark;
+        /** Набор длин для {@link Benchmark#RANGE} */
+        LengthSweep benchmarkSweep;
+        Path benchmarkOut;
+        Path baseline;
+        double threshold = BaselineComparison.DEFAULT_THRESHOLD_PERCENT;
+
+        Options() {
+            config.setCharacterSets("latin,digits");
+        }
+    }
+
+    private final WritableByteChannel stdout;
+    private final PrintStream stderr;
+
+    /**
+     * Конструктор, пишущий пароли в стандартный вывод процесса, а сообщения - в stderr.
+     */
+    public PasswordGeneratorBatchCLI() {
+        // Стандартный вывод не закрывается: канал создаётся поверх дескриптора процесса
+        this(Channels.newChannel(new FileOutputStream(FileDescriptor.out)), System.err);
+    }
+
+    /**
+     * Конструктор с заданными приёмниками вывода.
+     *
+     * @param stdout канал для паролей, если не указан --out; не закрывается
+     * @param stderr поток для справки и сообщений об ошибках
+     */
+    PasswordGeneratorBatchCLI(WritableByteChannel stdout, PrintStream stderr) {
+        this.stdout = Objects.requireNonNull(stdout, "Канал вывода не может быть null");
+        this.stderr = Objects.requireNonNull(stderr, "Поток ошибок не может быть null");
+    }
+
+    /**
+     * Выполняет пакетную генерацию по аргументам командной строки.
+     *
+     * @param args аргументы командной строки
+     * @return код завершения: {@link #EXIT_OK}, {@link #EXIT_IO_ERROR}, {@link #EXIT_USAGE_ERROR}
+     *         или {@link #EXIT_REGRESSION}
+     */
+    public int run(String[] args) {
+        Options options;
+        try {
+            options = parse(args);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Некорректные аргументы пакетного режима: {}", e.getMessage());
+            stderr.println("Ошибка: " + e.getMessage());
+            stderr.println(USAGE);
+            return EXIT_USAGE_ERROR;
+        }
+        if (options.help) {
+            stderr.println(USAGE);
+            return EXIT_OK;
+        }
+        if (options.benchmark != null) {
+            return runBenchmark(options);
+        }
+
+        try {
+            PasswordGenerationConfig config = createConfig(options);
+            PasswordGenerator generator = options.threads > 1
+                    ? PasswordGenerator.forConcurrentUse()
+                    : new PasswordGenerator();
+            PasswordBatchExporter exporter = new PasswordBatchExporter(generator,
+                    PasswordBatchExporter.DEFAULT_BUFFER_SIZE, options.fsyncPolicy, options.threads);
+
+            ExportResult result;
+            if (options.out != null) {
+                result = exporter.export(config, options.count, options.out);
+            } else {
+                System.out.flush();
+                result = exporter.export(config, options.count, stdout);
+            }
+            logger.info("Пакетная генерация завершена. {}", result);
+            return EXIT_OK;
+        } catch (InvalidPasswordConfigException | IllegalArgumentException e) {
+            logger.warn("Ошибка конфигурации в пакетном режиме", e);
+            stderr.println("Ошибка конфигурации: " + e.getMessage());
+            return EXIT_USAGE_ERROR;
+        } catch (IOException e) {
+            logger.error("Ошибка записи в пакетном режиме", e);
+            stderr.println("Ошибка записи: " + e.getMessage());
+            return EXIT_IO_ERROR;
+        }
+    }
+
+    /**
+     * Выполняет тест производительности, сохраняет отчёт и сравнивает его с базовым.
+     *
+     * @param options параметры запуска
+     * @return {@link #EXIT_OK}, {@link #EXIT_REGRESSION}, {@link #EXIT_IO_ERROR} или {@link #EXIT_USAGE_ERROR}
+     */
+    private int runBenchmark(Options options) {
+        try {
+            // Базовый отчёт читается до замеров, чтобы ошибка в нём не стоила прогона теста
+            BenchmarkReport baseline = options.baseline != null ? BenchmarkReport.load(options.baseline) : null;
+            PasswordCreationTimeEstimator estimator = new PasswordCreationTimeEstimator();
+            BenchmarkReport report = switch (options.benchmark) {
+                case QUICK -> estimator.runQuickBenchmark();
+                case DETAILED -> estimator.runDetailedBenchmark();
+                case RANGE -> estimator.runSweepBenchmark(options.benchmarkSweep);
+            };
+            writeText(estimator.formatReport(report));
+            if (options.benchmarkOut != null) {
+                report.save(options.benchmarkOut);
+                logger.info("Отчёт теста производительности сохранён в {}", options.benchmarkOut);
+            }
+            if (baseline == null) {
+                return EXIT_OK;
+            }
+
+            BaselineComparison comparison = BaselineComparison.compare(baseline, report, options.threshold);
+            writeText(comparison.toReport());
+            if (comparison.getEntries().isEmpty()) {
+                stderr.println("Ошибка: в базовом отчёте нет ни одной длины из текущего теста");
+                return EXIT_USAGE_ERROR;
+            }
+            if (comparison.hasRegressions()) {
+                logger.warn("Регрессия производительности относительно {}", options.baseline);
+                return EXIT_REGRESSION;
+            }
+            return EXIT_OK;
+        } catch (IllegalArgumentException e) {
+            logger.warn("Некорректный базовый отчёт или параметры теста", e);
+            stderr.println("Ошибка конфигурации: " + e.getMessage());
+            return EXIT_USAGE_ERROR;
+        } catch (IOException e) {
+            logger.error("Ошибка чтения или записи отчёта теста производительности", e);
+            stderr.println("Ошибка записи: " + e.getMessage());
+            return EXIT_IO_ERROR;
+        }
+    }
+
+    /**
+     * Пишет текст в стандартный вывод в UTF-8.
+     *
+     * @param text текст
+     * @throws IOException если запись не удалась
+     */
+    private void writeText(String text) throws IOException {
+        System.out.flush();
+        ByteBuffer buffer = StandardCharsets.UTF_8.encode(text);
+        while (buffer.hasRemaining()) {
+            stdout.write(buffer);
+        }
+    }
+
+    /**
+     * Разбирает аргументы вида {@code --ключ=значение}. Аргумент {@code --ui} пропускается.
+     *
+     * @param args аргументы командной строки
+     * @return параметры генерации
+     * @throws IllegalArgumentException если аргумент неизвестен или значение некорректно
+     */
+    static Options parse(String[] args) {
+        Options options = new Options();
+        if (args == null) {
+            return options;
+        }
+        boolean thresholdSet = false;
+        for (String arg : args) {
+            if (arg == null || arg.startsWith("--ui=")) {
+                continue;
+            }
+            if (arg.equals("--help") || arg.equals("-h")) {
+                options.help = true;
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Аргумент должен иметь вид --ключ=значение: " + arg);
+            }
+            String key = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (key) {
+                case "length" -> options.config.setLength(parsePositiveInt(key, value));
+                case "count" -> options.count = parsePositiveLong(key, value);
+                case "threads" -> options.threads = parsePositiveInt(key, value);
+                case "charsets" -> options.config.setCharacterSets(value);
+                case "require" -> options.required = value;
+                case "out" -> options.out = parsePath(key, value);
+                case "fsync" -> options.fsyncPolicy = parseFsyncPolicy(value);
+                case "benchmark" -> parseBenchmark(options, value);
+                case "benchmark-out" -> options.benchmarkOut = parsePath(key, value);
+                case "baseline" -> options.baseline = parsePath(key, value);
+                case "threshold" -> {
+                    options.threshold = parseThreshold(value);
+                    thresholdSet = true;
+                }
+                default -> throw new IllegalArgumentException("Неизвестный аргумент: --" + key);
+            }
+        }
+        if (thresholdSet && options.baseline == null) {
+            throw new IllegalArgumentException("--threshold задаётся только вместе с --baseline");
+        }
+        if (options.benchmark == null && (options.benchmarkOut != null || options.baseline != null)) {
+            options.benchmark = Benchmark.QUICK;
+        }
+        return options;
+    }
+
+    /**
+     * Разбирает путь к файлу.
+     *
+     * @param key имя аргумента
+     * @param value значение аргумента
+     * @return путь
+     * @throws IllegalArgumentException если путь пуст или некорректен
+     */
+    private static Path parsePath(String key, String value) {
+        if (value.isBlank()) {
+            throw new IllegalArgumentException("Не указан файл в --" + key);
+        }
+        return Path.of(value);
+    }
+
+    /**
+     * Разбирает вид теста производительности: quick, detailed или диапазон MIN:MAX:STEP.
+     *
+     * @param options параметры, в которые записывается тест
+     * @param value значение аргумента
+     * @throws IllegalArgumentException если значение некорректно
+     */
+    private static void parseBenchmark(Options options, String value) {
+        String mode = value.trim().toLowerCase(Locale.ROOT);
+        switch (mode) {
+            case "quick" -> options.benchmark = Benchmark.QUICK;
+            case "detailed" -> options.benchmark = Benchmark.DETAILED;
+            default -> {
+                String[] parts = mode.split(":");
+                if (parts.length != 3) {
+                    throw new IllegalArgumentException(
+                            "Значение --benchmark должно быть quick, detailed или MIN:MAX:STEP: " + value);
+                }
+                options.benchmarkSweep = LengthSweep.arithmetic(parsePositiveInt("benchmark", parts[0]),
+                        parsePositiveInt("benchmark", parts[1]), parsePositiveInt("benchmark", parts[2]));
+                options.benchmark = Benchmark.RANGE;
+            }
+        }
+    }
+
+    /**
+     * Разбирает порог регрессии в процентах.
+     *
+     * @param value значение аргумента
+     * @return порог в процентах
+     * @throws IllegalArgumentException если значение не является неотрицательным числом
+     */
+    private static double parseThreshold(String value) {
+        double threshold;
+        try {
+            threshold = Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Значение --threshold должно быть числом: " + value);
+        }
+        if (!Double.isFinite(threshold) || threshold < 0) {
+            throw new IllegalArgumentException("Значение --threshold должно быть неотрицательным: " + value);
+        }
+        return threshold;
+    }
+
+    /**
+     * Разбирает политику сброса на диск.
+     *
+     * @param value значение аргумента
+     * @return политика сброса
+     * @throws IllegalArgumentException если политика неизвестна
+     */
+    private static FsyncPolicy parseFsyncPolicy(String value) {
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "none" -> FsyncPolicy.NONE;
+            case "finish" -> FsyncPolicy.ON_FINISH;
+            case "buffer" -> FsyncPolicy.EVERY_BUFFER;
+            default -> throw new IllegalArgumentException("Неизвестная политика fsync: " + value);
+        };
+    }
+
+    /**
+     * Разбирает положительное число типа int.
+     *
+     * @param key имя аргумента
+     * @param value значение аргумента
+     * @return число
+     * @throws IllegalArgumentException если значение не является положительным числом
+     */
+    private static int parsePositiveInt(String key, String value) {
+        long number = parsePositiveLong(key, value);
+        if (number > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Слишком большое значение --" + key + ": " + value);
+        }
+        return (int) number;
+    }
+
+    /**
+     * Разбирает положительное число типа long.
+     *
+     * @param key имя аргумента
+     * @param value значение аргумента
+     * @return число
+     * @throws IllegalArgumentException если значение не является положительным числом
+     */
+    private static long parsePositiveLong(String key, String value) {
+        long number;
+        try {
+            number = Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Значение --" + key + " должно быть числом: " + value);
+        }
+        if (number <= 0) {
+            throw new IllegalArgumentException("Значение --" + key + " должно быть положительным: " + value);
+        }
+        return number;
+    }
+
+    /**
+     * Создаёт конфигурацию пароля по параметрам.
+     *
+     * @param options параметры генерации
+     * @return конфигурация пароля
+     * @throws IllegalArgumentException если обязательных символов больше длины пароля
+     */
+    private static PasswordGenerationConfig createConfig(Options options) {
+        PasswordGenerationConfig config = new PasswordGenerationConfig(options.config);
+        for (char c : options.required.toCharArray()) {
+            config.addRequiredCharacter(c);
+        }
+        return config;
+    }
+}
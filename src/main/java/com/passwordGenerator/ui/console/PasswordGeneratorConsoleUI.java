@@ -1,6 +1,12 @@
 package com.passwordGenerator.ui.console;
 
+import com.passwordGenerator.core.BaselineComparison;
+import com.passwordGenerator.core.BenchmarkReport;
+import com.passwordGenerator.core.CancellationToken;
+import com.passwordGenerator.core.EstimatorProgressListener;
+import com.passwordGenerator.core.GenerationMode;
 import com.passwordGenerator.core.PasswordCreationTimeEstimator;
+import com.passwordGenerator.core.PasswordCreationTimeEstimator.PerformanceResult;
 import com.passwordGenerator.core.PasswordGenerationConfig;
 import com.passwordGenerator.core.PasswordGenerator;
 import com.passwordGenerator.exceptions.InvalidPasswordConfigException;
@@ -8,6 +14,10 @@ import com.passwordGenerator.exceptions.InvalidPasswordConfigException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
@@ -84,6 +94,9 @@ public class PasswordGeneratorConsoleUI {
         commands.put("4", new MenuCommand("4",
                 "Пользовательский тест",
                 this::handleCustomPerformanceTest));
+        commands.put("5", new MenuCommand("5",
+                "Тест масштабируемости (1..N потоков)",
+                this::handleScalabilityTest));
         commands.put("0", new MenuCommand("0",
                 "Выход из приложения",
                 this::handleExit));
@@ -128,7 +141,7 @@ public class PasswordGeneratorConsoleUI {
                 .map(this::executeCommand)
                 .orElseGet(() -> {
                     logger.warn("Неизвестная команда: {}", choice);
-                    System.out.println("Неизвестный пункт меню. Пожалуйста, выберите от 0 до 4.");
+                    System.out.println("Неизвестный пункт меню. Пожалуйста, выберите от 0 до 5.");
                     return false;
                 });
     }
@@ -183,7 +196,7 @@ public class PasswordGeneratorConsoleUI {
                 .forEach(cmd -> System.out.println(cmd.key + " - " + cmd.description));
 
         System.out.println(MENU_SEPARATOR);
-        System.out.print("Выберите действие (0-4): ");
+        System.out.print("Выберите действие (0-5): ");
     }
 
     /**
@@ -194,7 +207,10 @@ public class PasswordGeneratorConsoleUI {
         System.out.println("ГЕНЕРАЦИЯ ПАРОЛЯ");
         System.out.println(MENU_SEPARATOR);
 
-        int length = readPositiveInteger("Введите длину пароля (макс. 1000000): ", "Длина");
+        long length = readPositiveLong(String.format(
+                "Введите длину пароля (макс. %d, длиннее - запись в файл до %d): ",
+                PasswordGenerationConfig.getMaxPasswordLength(),
+                PasswordGenerationConfig.getMaxPasswordLength(GenerationMode.STREAMING)), "Длина");
         if (length <= 0) return;
 
         PasswordGenerationConfig config = new PasswordGenerationConfig(length);
@@ -224,6 +240,11 @@ public class PasswordGeneratorConsoleUI {
             }
         }
 
+        if (length > PasswordGenerationConfig.getMaxPasswordLength()) {
+            streamPasswordToFile(config);
+            return;
+        }
+
         try {
             PasswordGenerator generator = new PasswordGenerator();
             String password = generator.generate(config);
@@ -238,6 +259,38 @@ public class PasswordGeneratorConsoleUI {
         }
     }
 
+    /**
+     * Записывает слишком длинный для вывода в консоль пароль в файл потоково.
+     *
+     * @param config конфигурация пароля
+     */
+    private void streamPasswordToFile(PasswordGenerationConfig config) {
+        System.out.print("\nПароль длиннее " + PasswordGenerationConfig.getMaxPasswordLength()
+                + " символов будет записан в файл. Введите путь к файлу: ");
+        String pathText = scanner.nextLine().trim();
+        if (pathText.isEmpty()) {
+            System.out.println("Ошибка: путь к файлу не указан!");
+            return;
+        }
+
+        Path path = Path.of(pathText);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long bytes = new PasswordGenerator().generateTo(config, channel);
+            System.out.println("\n" + MENU_SEPARATOR);
+            System.out.printf("Пароль длиной %d символов записан в %s (%d байт)%n",
+                    config.getLongLength(), path.toAbsolutePath(), bytes);
+            System.out.println(MENU_SEPARATOR);
+            logger.info("Пароль длиной {} записан в файл {} из консоли", config.getLongLength(), path);
+        } catch (InvalidPasswordConfigException e) {
+            logger.warn("Ошибка конфигурации при потоковой генерации пароля", e);
+            System.out.println("Ошибка конфигурации: " + e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            logger.error("Ошибка при записи пароля в файл {}", path, e);
+            System.out.println("Ошибка при записи в файл: " + e.getMessage());
+        }
+    }
+
     /**
      * Обрабатывает быстрый тест производительности.
      */
@@ -248,9 +301,12 @@ public class PasswordGeneratorConsoleUI {
 
         try {
             PasswordCreationTimeEstimator estimator = new PasswordCreationTimeEstimator();
-            String report = estimator.runQuickTest();
+            BenchmarkReport benchmarkReport = estimator.runQuickBenchmark(
+                    createProgressListener(), new CancellationToken());
+            String report = estimator.formatReport(benchmarkReport);
             System.out.println(report);
             logger.info("Быстрый тест завершён успешно");
+            offerReportExport(benchmarkReport);
         } catch (Exception e) {
             logger.error("Ошибка при выполнении быстрого теста", e);
             System.out.println("Ошибка при выполнении теста: " + e.getMessage());
@@ -267,9 +323,12 @@ public class PasswordGeneratorConsoleUI {
 
         try {
             PasswordCreationTimeEstimator estimator = new PasswordCreationTimeEstimator();
-            String report = estimator.runDetailedTest();
+            BenchmarkReport benchmarkReport = estimator.runDetailedBenchmark(
+                    createProgressListener(), new CancellationToken());
+            String report = estimator.formatReport(benchmarkReport);
             System.out.println(report);
             logger.info("Детальный тест завершён успешно");
+            offerReportExport(benchmarkReport);
         } catch (Exception e) {
             logger.error("Ошибка при выполнении детального теста", e);
             System.out.println("Ошибка при выполнении теста: " + e.getMessage());
@@ -304,15 +363,97 @@ public class PasswordGeneratorConsoleUI {
         try {
             logger.info("Запуск пользовательского теста: {} - {}, шаг {}", minLength, maxLength, step);
             PasswordCreationTimeEstimator estimator = new PasswordCreationTimeEstimator();
-            String report = estimator.runCustomTest(minLength, maxLength, step);
+            BenchmarkReport benchmarkReport = estimator.runCustomBenchmark(minLength, maxLength, step,
+                    createProgressListener(), new CancellationToken());
+            String report = estimator.formatReport(benchmarkReport);
             System.out.println(report);
             logger.info("Пользовательский тест завершён успешно");
+            offerReportExport(benchmarkReport);
         } catch (Exception e) {
             logger.error("Ошибка при выполнении пользовательского теста", e);
             System.out.println("Ошибка при выполнении теста: " + e.getMessage());
         }
     }
 
+    /**
+     * Предлагает сохранить отчёт теста в файл и сравнить его с сохранённым базовым отчётом.
+     * Пустой ввод пропускает шаг.
+     *
+     * @param benchmarkReport отчёт теста
+     */
+    private void offerReportExport(BenchmarkReport benchmarkReport) {
+        System.out.print("Сохранить отчёт в файл .json или .csv (Enter - пропустить): ");
+        String outText = scanner.nextLine().trim();
+        if (!outText.isEmpty()) {
+            try {
+                Path out = Path.of(outText);
+                benchmarkReport.save(out);
+                System.out.println("Отчёт сохранён: " + out.toAbsolutePath());
+                logger.info("Отчёт теста сохранён в {}", out);
+            } catch (IOException | IllegalArgumentException e) {
+                logger.error("Ошибка при сохранении отчёта в {}", outText, e);
+                System.out.println("Ошибка при сохранении отчёта: " + e.getMessage());
+            }
+        }
+
+        System.out.print("Сравнить с базовым отчётом, путь к файлу (Enter - пропустить): ");
+        String baselineText = scanner.nextLine().trim();
+        if (baselineText.isEmpty()) {
+            return;
+        }
+        System.out.printf("Порог регрессии в процентах (Enter - %.0f): ",
+                BaselineComparison.DEFAULT_THRESHOLD_PERCENT);
+        String thresholdText = scanner.nextLine().trim();
+        try {
+            double threshold = thresholdText.isEmpty()
+                    ? BaselineComparison.DEFAULT_THRESHOLD_PERCENT
+                    : Double.parseDouble(thresholdText);
+            BenchmarkReport baseline = BenchmarkReport.load(Path.of(baselineText));
+            BaselineComparison comparison = BaselineComparison.compare(baseline, benchmarkReport, threshold);
+            System.out.println(comparison.toReport());
+            logger.info("Сравнение с базовым отчётом {}: регрессии {}", baselineText,
+                    comparison.hasRegressions() ? "есть" : "нет");
+        } catch (IOException | IllegalArgumentException e) {
+            logger.error("Ошибка при сравнении с базовым отчётом {}", baselineText, e);
+            System.out.println("Ошибка при сравнении с базовым отчётом: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Создаёт слушателя, который печатает результат каждой длины сразу после замера.
+     *
+     * @return слушатель хода выполнения теста
+     */
+    private EstimatorProgressListener createProgressListener() {
+        return new EstimatorProgressListener() {
+            @Override
+            public void onResult(PerformanceResult result, int completedLengths, int totalLengths) {
+                System.out.printf("[%d/%d] Длина %d: среднее %s%n", completedLengths, totalLengths,
+                        result.getPasswordLength(), result.getFormattedAverageTime());
+            }
+        };
+    }
+
+    /**
+     * Обрабатывает тест масштабируемости по количеству потоков.
+     */
+    private void handleScalabilityTest(PasswordGeneratorConsoleUI passwordGeneratorConsoleUI) {
+        System.out.println("\n" + MENU_SEPARATOR);
+        System.out.println("ТЕСТ МАСШТАБИРУЕМОСТИ");
+        System.out.println("Генерация паролей длины 10k из 1.."
+                + Runtime.getRuntime().availableProcessors() + " потоков...\n");
+
+        try {
+            PasswordCreationTimeEstimator estimator = new PasswordCreationTimeEstimator();
+            String report = estimator.runScalabilityTest();
+            System.out.println(report);
+            logger.info("Тест масштабируемости завершён успешно");
+        } catch (Exception e) {
+            logger.error("Ошибка при выполнении теста масштабируемости", e);
+            System.out.println("Ошибка при выполнении теста: " + e.getMessage());
+        }
+    }
+
     /**
      * Обрабатывает выход из приложения.
      */
@@ -346,6 +487,31 @@ public class PasswordGeneratorConsoleUI {
         }
     }
 
+    /**
+     * Читает положительное целое число типа long из консоли.
+     *
+     * @param prompt сообщение для пользователя
+     * @param fieldName название поля для сообщений об ошибке
+     * @return прочитанное число или -1 при ошибке
+     */
+    private long readPositiveLong(String prompt, String fieldName) {
+        System.out.print(prompt);
+        try {
+            String input = scanner.nextLine().trim();
+            long value = Long.parseLong(input);
+            if (value <= 0) {
+                System.out.println("Ошибка: " + fieldName + " должен быть положительным!");
+                logger.warn("Введено неположительное значение для {}: {}", fieldName, value);
+                return -1;
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            System.out.println("Ошибка: пожалуйста, введите корректное число!");
+            logger.warn("Ошибка при чтении {}: некорректный формат", fieldName);
+            return -1;
+        }
+    }
+
     /**
      * Читает ответ "да/нет" из консоли.
      *
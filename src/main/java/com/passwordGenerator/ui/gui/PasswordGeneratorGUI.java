@@ -1,11 +1,17 @@
 package com.passwordGenerator.ui.gui;
 
+import com.passwordGenerator.core.BenchmarkReport;
+import com.passwordGenerator.core.CancellationToken;
+import com.passwordGenerator.core.EstimatorProgressListener;
 import com.passwordGenerator.core.PasswordCreationTimeEstimator;
+import com.passwordGenerator.core.PasswordCreationTimeEstimator.PerformanceResult;
 import com.passwordGenerator.core.PasswordGenerationConfig;
 import com.passwordGenerator.core.PasswordGenerator;
+import com.passwordGenerator.core.TaskExecutors;
 import com.passwordGenerator.exceptions.InvalidPasswordConfigException;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.concurrent.Task;
 import javafx.geometry.Insets;
 import javafx.scene.Scene;
@@ -18,6 +24,9 @@ import javafx.stage.Stage;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.concurrent.CancellationException;
+import java.util.function.BiFunction;
+
 /**
  * Графический интерфейс приложения PasswordGenerator на JavaFX.
  * Позволяет генерировать пароли с заданными параметрами и проводить расчёты времени создания.
@@ -49,7 +58,9 @@ public class PasswordGeneratorGUI extends Application {
     private Button quickTestButton;
     private Button detailedTestButton;
     private Button customTestButton;
+    private Button cancelTestButton;
     private Label estimateStatusLabel;
+    private CancellationToken currentCancellation;
 
     /**
      * Инициализирует главное окно приложения с двумя вкладками.
@@ -277,7 +288,14 @@ public class PasswordGeneratorGUI extends Application {
                 "-fx-background-color: #9C27B0; -fx-text-fill: white; -fx-wrap-text: true;");
         customTestButton.setOnAction(e -> handleCustomTestAsync());
 
-        box.getChildren().addAll(quickTestButton, detailedTestButton, customTestButton);
+        cancelTestButton = new Button("Отменить\nтест");
+        cancelTestButton.setPrefWidth(150);
+        cancelTestButton.setStyle("-fx-font-size: 11; -fx-padding: 10; " +
+                "-fx-background-color: #F44336; -fx-text-fill: white; -fx-wrap-text: true;");
+        cancelTestButton.setDisable(true);
+        cancelTestButton.setOnAction(e -> handleCancelTest());
+
+        box.getChildren().addAll(quickTestButton, detailedTestButton, customTestButton, cancelTestButton);
 
         logger.debug("Секция кнопок тестов создана");
         return box;
@@ -344,9 +362,11 @@ public class PasswordGeneratorGUI extends Application {
                 return;
             }
 
-            if (length > 1_000_000) {
+            if (length > PasswordGenerationConfig.getMaxPasswordLength()) {
                 showAlert(Alert.AlertType.ERROR, "Ошибка ввода",
-                        "Длина не должна превышать 1 000 000");
+                        String.format("Длина не должна превышать %,d. Более длинные пароли "
+                                + "записываются в файл через консольный режим",
+                                PasswordGenerationConfig.getMaxPasswordLength()));
                 logger.warn("Введена слишком большая длина: {}", length);
                 return;
             }
@@ -407,36 +427,8 @@ public class PasswordGeneratorGUI extends Application {
      */
     private void handleQuickTestAsync() {
         logger.info("Запуск быстрого теста из GUI");
-        disableTestButtons(true);
-        estimateStatusLabel.setText("Быстрый тест выполняется...");
-        estimateResultArea.setText("Выполняется быстрый тест...\nПожалуйста, подождите...");
-
-        Task<String> task = new Task<>() {
-            @Override
-            protected String call() {
-                logger.debug("Быстрый тест запущен в отдельном потоке");
-                return estimator.runQuickTest();
-            }
-        };
-
-        task.setOnSucceeded(event -> {
-            String result = task.getValue();
-            estimateResultArea.setText(result);
-            estimateStatusLabel.setText("Быстрый тест завершен!");
-            logger.info("Быстрый тест завершен успешно в GUI");
-            disableTestButtons(false);
-        });
-
-        task.setOnFailed(event -> {
-            logger.error("Ошибка при выполнении быстрого теста", task.getException());
-            showAlert(Alert.AlertType.ERROR, "Ошибка теста",
-                    "Ошибка: " + task.getException().getMessage());
-            estimateResultArea.setText("Ошибка при выполнении теста");
-            estimateStatusLabel.setText("Ошибка при выполнении теста");
-            disableTestButtons(false);
-        });
-
-        new Thread(task).start();
+        runEstimateTaskAsync("Быстрый тест", "Выполняется быстрый тест...\n",
+                estimator::runQuickBenchmark);
     }
 
     /**
@@ -444,39 +436,10 @@ public class PasswordGeneratorGUI extends Application {
      */
     private void handleDetailedTestAsync() {
         logger.info("Запуск детального теста из GUI");
-        disableTestButtons(true);
-        estimateResultArea.setText("""
+        runEstimateTaskAsync("Детальный тест", """
                 Выполняется детальный тест...
-                Это может занять несколько минут.
-                Пожалуйста, подождите...""");
-        estimateStatusLabel.setText("Детальный тест выполняется...");
-
-        Task<String> task = new Task<>() {
-            @Override
-            protected String call() {
-                logger.debug("Детальный тест запущен в отдельном потоке");
-                return estimator.runDetailedTest();
-            }
-        };
-
-        task.setOnSucceeded(event -> {
-            String result = task.getValue();
-            estimateResultArea.setText(result);
-            estimateStatusLabel.setText("Детальный тест завершен!");
-            logger.info("Детальный тест завершен успешно в GUI");
-            disableTestButtons(false);
-        });
-
-        task.setOnFailed(event -> {
-            logger.error("Ошибка при выполнении детального теста", task.getException());
-            showAlert(Alert.AlertType.ERROR, "Ошибка теста",
-                    "Ошибка: " + task.getException().getMessage());
-            estimateResultArea.setText("Ошибка при выполнении теста");
-            estimateStatusLabel.setText("Ошибка при выполнении теста");
-            disableTestButtons(false);
-        });
-
-        new Thread(task).start();
+                Это может занять несколько минут, результаты появляются по мере готовности.
+                """, estimator::runDetailedBenchmark);
     }
 
     /**
@@ -531,38 +494,87 @@ public class PasswordGeneratorGUI extends Application {
             int[] params = result.get();
             int min = params[0], max = params[1], step = params[2];
 
-            disableTestButtons(true);
-            estimateStatusLabel.setText("Пользовательский тест выполняется...");
-            estimateResultArea.setText("Выполняется пользовательский тест...\n" +
-                    "Диапазон: " + min + " - " + max + ", шаг: " + step + "\n" +
-                    "Пожалуйста, подождите...");
-
-            Task<String> task = new Task<>() {
-                @Override
-                protected String call() {
-                    logger.debug("Пользовательский тест запущен в отдельном потоке");
-                    return estimator.runCustomTest(min, max, step);
-                }
-            };
-
-            task.setOnSucceeded(event -> {
-                String testResult = task.getValue();
-                estimateResultArea.setText(testResult);
-                estimateStatusLabel.setText("Пользовательский тест завершен!");
-                logger.info("Пользовательский тест завершен успешно в GUI");
-                disableTestButtons(false);
-            });
-
-            task.setOnFailed(event -> {
-                logger.error("Ошибка при выполнении пользовательского теста", task.getException());
+            runEstimateTaskAsync("Пользовательский тест", "Выполняется пользовательский тест...\n" +
+                            "Диапазон: " + min + " - " + max + ", шаг: " + step + "\n",
+                    (listener, cancellation) -> estimator.runCustomBenchmark(min, max, step, listener, cancellation));
+        }
+    }
+
+    /**
+     * Запускает тест производительности в отдельном потоке. Результаты по длинам
+     * дописываются в поле результатов по мере готовности, статус показывает ход замеров,
+     * а кнопка отмены прерывает тест.
+     *
+     * @param testName название теста для статуса
+     * @param startMessage сообщение в поле результатов при запуске
+     * @param test запуск теста со слушателем хода выполнения и признаком отмены
+     */
+    private void runEstimateTaskAsync(String testName, String startMessage,
+                                      BiFunction<EstimatorProgressListener, CancellationToken, BenchmarkReport> test) {
+        CancellationToken cancellation = new CancellationToken();
+        currentCancellation = cancellation;
+        disableTestButtons(true);
+        estimateStatusLabel.setText(testName + " выполняется...");
+        estimateResultArea.setText(startMessage + "\n");
+
+        EstimatorProgressListener listener = new EstimatorProgressListener() {
+            @Override
+            public void onPasswordMeasured(int passwordLength, int measured, int total) {
+                Platform.runLater(() -> estimateStatusLabel.setText(String.format(
+                        "%s выполняется: длина %d, замер %d/%d", testName, passwordLength, measured, total)));
+            }
+
+            @Override
+            public void onResult(PerformanceResult result, int completedLengths, int totalLengths) {
+                String line = String.format("[%d/%d] Длина %d: среднее %s%n", completedLengths, totalLengths,
+                        result.getPasswordLength(), result.getFormattedAverageTime());
+                Platform.runLater(() -> estimateResultArea.appendText(line));
+            }
+        };
+
+        Task<BenchmarkReport> task = new Task<>() {
+            @Override
+            protected BenchmarkReport call() {
+                logger.debug("{} запущен в отдельном потоке", testName);
+                return test.apply(listener, cancellation);
+            }
+        };
+
+        task.setOnSucceeded(event -> {
+            estimateResultArea.setText(estimator.formatReport(task.getValue()));
+            estimateStatusLabel.setText(testName + " завершен!");
+            logger.info("{} завершен успешно в GUI", testName);
+            disableTestButtons(false);
+        });
+
+        task.setOnFailed(event -> {
+            if (task.getException() instanceof CancellationException) {
+                logger.info("{} отменён пользователем", testName);
+                estimateResultArea.appendText("\nТест отменён пользователем.\n");
+                estimateStatusLabel.setText(testName + " отменён");
+            } else {
+                logger.error("Ошибка при выполнении теста: {}", testName, task.getException());
                 showAlert(Alert.AlertType.ERROR, "Ошибка теста",
                         "Ошибка: " + task.getException().getMessage());
                 estimateResultArea.setText("Ошибка при выполнении теста");
                 estimateStatusLabel.setText("Ошибка при выполнении теста");
-                disableTestButtons(false);
-            });
+            }
+            disableTestButtons(false);
+        });
 
-            new Thread(task).start();
+        // Обычный поток: замеры памяти через ThreadMXBean не работают в виртуальных потоках
+        TaskExecutors.startThread("estimator-" + testName, task, TaskExecutors.ThreadKind.PLATFORM);
+    }
+
+    /**
+     * Отменяет выполняющийся тест производительности.
+     */
+    private void handleCancelTest() {
+        if (currentCancellation != null) {
+            logger.info("Запрошена отмена теста из GUI");
+            currentCancellation.cancel();
+            cancelTestButton.setDisable(true);
+            estimateStatusLabel.setText("Отмена теста...");
         }
     }
 
@@ -575,6 +587,7 @@ public class PasswordGeneratorGUI extends Application {
         quickTestButton.setDisable(disabled);
         detailedTestButton.setDisable(disabled);
         customTestButton.setDisable(disabled);
+        cancelTestButton.setDisable(!disabled);
     }
 
     /**
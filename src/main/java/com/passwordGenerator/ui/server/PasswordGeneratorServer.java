@@ -0,0 +1,387 @@
+package com.passwordGenerator.ui.server;
+
+import com.passwordGenerator.core.PasswordGenerationConfig;
+import com.passwordGenerator.core.PasswordGenerator;
+import com.passwordGenerator.core.TaskExecutors;
+import com.passwordGenerator.core.TaskExecutors.ThreadKind;
+import com.passwordGenerator.exceptions.InvalidPasswordConfigException;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Локальный HTTP-сервер генерации паролей на JDK {@link HttpServer}.
+ * Держит в памяти прогретый {@link PasswordGenerator}, поэтому запросы не платят за запуск JVM
+ * и засев SecureRandom.
+ * <p>
+ * По умолчанию запросы обрабатываются ограниченным пулом обычных потоков, у каждого из которых
+ * свой SecureRandom, засеянный при старте. С {@code --virtual-threads} на JVM с виртуальными
+ * потоками каждый запрос получает свой виртуальный поток, а генератор использует один общий
+ * SecureRandom: отдельный источник на виртуальный поток пришлось бы засевать на каждый запрос.
+ * <p>
+ * Эндпоинты:
+ * {@code GET /generate?length=16&count=1&charsets=latin,digits&require=@} - пароли по одному на строку
+ * (text/plain, UTF-8);
+ * {@code GET /health} - проверка работоспособности.
+ * Ошибки параметров возвращаются с кодом 400 и описанием в теле ответа. Ответ собирается в памяти,
+ * поэтому суммарная длина паролей в запросе ограничена {@link #MAX_CHARACTERS_PER_REQUEST}.
+ * <p>
+ * Аргументы запуска: {@code --port=N} (по умолчанию 8085), {@code --bind=АДРЕС}
+ * (по умолчанию 127.0.0.1), {@code --threads=N} (по умолчанию число процессоров),
+ * {@code --virtual-threads} - поток на запрос, см. {@link TaskExecutors}.
+ *
+ * @author Akovi
+ * @see PasswordGenerator
+ */
+public class PasswordGeneratorServer {
+
+    private static final Logger logger = LogManager.getLogger(PasswordGeneratorServer.class);
+
+    /** Порт по умолчанию */
+    public static final int DEFAULT_PORT = 8085;
+    /** Адрес по умолчанию: сервер доступен только локально */
+    public static final String DEFAULT_BIND_ADDRESS = "127.0.0.1";
+    /** Максимальное количество паролей в одном запросе */
+    public static final int MAX_COUNT_PER_REQUEST = 10_000;
+    /** Максимальная суммарная длина паролей (length × count) в одном запросе */
+    public static final long MAX_CHARACTERS_PER_REQUEST = 1_000_000;
+
+    private static final int DEFAULT_LENGTH = 16;
+    private static final int STOP_DELAY_SECONDS = 1;
+
+    private final PasswordGenerator generator;
+    private final ThreadKind threadKind;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final int threads;
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    /**
+     * Конструктор сервера на пуле обычных потоков.
+     *
+     * @param address адрес и порт
+     * @param threads количество потоков обработки запросов
+     * @throws IOException если не удалось открыть сокет
+     * @throws IllegalArgumentException если количество потоков не положительно
+     */
+    public PasswordGeneratorServer(InetSocketAddress address, int threads) throws IOException {
+        this(address, threads, ThreadKind.PLATFORM);
+    }
+
+    /**
+     * Конструктор сервера. Сокет привязывается сразу, обработка запросов начинается после {@link #start()}.
+     *
+     * @param address адрес и порт
+     * @param threads количество потоков обработки запросов для обычных потоков
+     * @param threadKind вид потоков обработки запросов
+     * @throws IOException если не удалось открыть сокет
+     * @throws IllegalArgumentException если количество потоков не положительно
+     */
+    public PasswordGeneratorServer(InetSocketAddress address, int threads, ThreadKind threadKind)
+            throws IOException {
+        this.threads = threads;
+        this.threadKind = TaskExecutors.effectiveKind(threadKind);
+        this.generator = this.threadKind == ThreadKind.VIRTUAL
+                ? new PasswordGenerator()
+                : PasswordGenerator.forConcurrentUse();
+        this.executor = TaskExecutors.newExecutor("password-server", threads, this.threadKind);
+        this.server = HttpServer.create(address, 0);
+        server.setExecutor(executor);
+        server.createContext("/generate", this::handleGenerate);
+        server.createContext("/health", this::handleHealth);
+    }
+
+    /**
+     * Прогревает генератор и начинает обработку запросов.
+     *
+     * @throws InterruptedException если поток прерван во время прогрева
+     */
+    public void start() throws InterruptedException {
+        warmUp();
+        server.start();
+        logger.info("Сервер генерации паролей запущен на {}, потоки: {}", getAddress(),
+                threadKind == ThreadKind.VIRTUAL ? "виртуальный на запрос" : threads);
+    }
+
+    /**
+     * Останавливает сервер и пул потоков.
+     */
+    public void stop() {
+        server.stop(STOP_DELAY_SECONDS);
+        executor.shutdownNow();
+        stopped.countDown();
+        logger.info("Сервер генерации паролей остановлен");
+    }
+
+    /**
+     * Блокирует текущий поток до остановки сервера.
+     *
+     * @throws InterruptedException если поток прерван
+     */
+    public void awaitStop() throws InterruptedException {
+        stopped.await();
+    }
+
+    /**
+     * Возвращает адрес, на котором слушает сервер (с фактическим портом, если был задан 0).
+     *
+     * @return адрес сервера
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * Генерирует по паролю в каждом потоке пула, чтобы их SecureRandom был засеян до первого запроса.
+     * Для виртуальных потоков засевается общий SecureRandom генератора.
+     *
+     * @throws InterruptedException если поток прерван во время прогрева
+     */
+    private void warmUp() throws InterruptedException {
+        PasswordGenerationConfig config = new PasswordGenerationConfig(DEFAULT_LENGTH);
+        config.setUseLatin(true);
+        if (threadKind == ThreadKind.VIRTUAL) {
+            try {
+                generator.generate(config);
+            } catch (InvalidPasswordConfigException e) {
+                throw new IllegalStateException("Некорректная конфигурация прогрева", e);
+            }
+            return;
+        }
+        CountDownLatch allStarted = new CountDownLatch(threads);
+        List<Callable<String>> tasks = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            tasks.add(() -> {
+                // Все задачи ждут друг друга, чтобы каждая попала в свой поток пула
+                allStarted.countDown();
+                allStarted.await();
+                return generator.generate(config);
+            });
+        }
+        long startTime = System.nanoTime();
+        executor.invokeAll(tasks);
+        logger.info("Генератор прогрет в {} потоках за {} мс", threads,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
+    /**
+     * Обрабатывает запрос генерации паролей.
+     *
+     * @param exchange HTTP-обмен
+     * @throws IOException если не удалось отправить ответ
+     */
+    private void handleGenerate(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equalsIgnoreCase(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                sendText(exchange, 405, "Поддерживается только GET");
+                return;
+            }
+            try {
+                Map<String, String> parameters = parseQuery(exchange.getRequestURI().getRawQuery());
+                int count = parseCount(parameters.get("count"));
+                PasswordGenerationConfig config = createConfig(parameters);
+                validateRequestSize(config.getLength(), count);
+                List<String> passwords = generator.generateBatch(config, count);
+                sendText(exchange, 200, String.join("\n", passwords) + "\n");
+                logger.debug("Запрос {} обработан: паролей={}, длина={}",
+                        exchange.getRequestURI().getPath(), count, config.getLength());
+            } catch (InvalidPasswordConfigException | IllegalArgumentException e) {
+                logger.warn("Некорректный запрос {}: {}", exchange.getRequestURI().getPath(), e.getMessage());
+                sendText(exchange, 400, e.getMessage() + "\n");
+            }
+        } catch (RuntimeException e) {
+            logger.error("Ошибка при обработке запроса {}", exchange.getRequestURI().getPath(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Обрабатывает проверку работоспособности.
+     *
+     * @param exchange HTTP-обмен
+     * @throws IOException если не удалось отправить ответ
+     */
+    private void handleHealth(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            sendText(exchange, 200, "OK\n");
+        }
+    }
+
+    /**
+     * Отправляет текстовый ответ в UTF-8.
+     *
+     * @param exchange HTTP-обмен
+     * @param status код ответа
+     * @param body тело ответа
+     * @throws IOException если не удалось отправить ответ
+     */
+    private static void sendText(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    /**
+     * Разбирает строку запроса вида {@code ключ=значение&...}.
+     *
+     * @param rawQuery строка запроса в URL-кодировке или null
+     * @return параметры запроса
+     */
+    static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String key = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            parameters.put(URLDecoder.decode(key, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    /**
+     * Создаёт конфигурацию пароля по параметрам запроса.
+     *
+     * @param parameters параметры запроса
+     * @return конфигурация пароля
+     * @throws IllegalArgumentException если параметры некорректны
+     */
+    private static PasswordGenerationConfig createConfig(Map<String, String> parameters) {
+        String lengthText = parameters.get("length");
+        int length = lengthText == null ? DEFAULT_LENGTH : parsePositiveInt("length", lengthText);
+        PasswordGenerationConfig config = new PasswordGenerationConfig(length);
+
+        config.setCharacterSets(parameters.getOrDefault("charsets", "latin,digits"));
+
+        String required = parameters.getOrDefault("require", "");
+        for (char c : required.toCharArray()) {
+            config.addRequiredCharacter(c);
+        }
+        return config;
+    }
+
+    /**
+     * Разбирает количество паролей в запросе.
+     *
+     * @param value значение параметра или null
+     * @return количество паролей
+     * @throws IllegalArgumentException если значение некорректно или превышает {@link #MAX_COUNT_PER_REQUEST}
+     */
+    static int parseCount(String value) {
+        if (value == null) {
+            return 1;
+        }
+        int count = parsePositiveInt("count", value);
+        if (count > MAX_COUNT_PER_REQUEST) {
+            throw new IllegalArgumentException("Значение count не должно превышать "
+                    + MAX_COUNT_PER_REQUEST + ": " + value);
+        }
+        return count;
+    }
+
+    /**
+     * Проверяет, что суммарная длина паролей в запросе не превышает {@link #MAX_CHARACTERS_PER_REQUEST}.
+     *
+     * @param length длина пароля
+     * @param count количество паролей
+     * @throws IllegalArgumentException если суммарная длина превышает ограничение
+     */
+    static void validateRequestSize(int length, int count) {
+        long totalCharacters = (long) length * count;
+        if (totalCharacters > MAX_CHARACTERS_PER_REQUEST) {
+            throw new IllegalArgumentException("Суммарная длина паролей (length × count = " + totalCharacters
+                    + ") не должна превышать " + MAX_CHARACTERS_PER_REQUEST);
+        }
+    }
+
+    /**
+     * Разбирает положительное число.
+     *
+     * @param name имя параметра
+     * @param value значение параметра
+     * @return число
+     * @throws IllegalArgumentException если значение не является положительным числом
+     */
+    private static int parsePositiveInt(String name, String value) {
+        int number;
+        try {
+            number = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Значение " + name + " должно быть числом: " + value);
+        }
+        if (number <= 0) {
+            throw new IllegalArgumentException("Значение " + name + " должно быть положительным: " + value);
+        }
+        return number;
+    }
+
+    /**
+     * Запускает сервер по аргументам командной строки и ждёт его остановки (Ctrl+C).
+     *
+     * @param args аргументы командной строки
+     * @throws IOException если не удалось открыть сокет
+     * @throws InterruptedException если поток прерван
+     * @throws IllegalArgumentException если аргументы некорректны
+     */
+    public static void run(String[] args) throws IOException, InterruptedException {
+        int port = DEFAULT_PORT;
+        String bindAddress = DEFAULT_BIND_ADDRESS;
+        int threads = Runtime.getRuntime().availableProcessors();
+        ThreadKind threadKind = ThreadKind.PLATFORM;
+        if (args != null) {
+            for (String arg : args) {
+                if (arg == null || arg.startsWith("--ui=")) {
+                    continue;
+                }
+                if (arg.startsWith("--port=")) {
+                    port = Integer.parseInt(arg.substring("--port=".length()).trim());
+                    if (port < 0 || port > 65535) {
+                        throw new IllegalArgumentException("Некорректный порт: " + port);
+                    }
+                } else if (arg.startsWith("--bind=")) {
+                    bindAddress = arg.substring("--bind=".length()).trim();
+                } else if (arg.equals("--virtual-threads")) {
+                    threadKind = ThreadKind.VIRTUAL;
+                    if (!TaskExecutors.isVirtualThreadSupported()) {
+                        logger.warn("JVM не поддерживает виртуальные потоки, используется пул из {} потоков", threads);
+                    }
+                } else if (arg.startsWith("--threads=")) {
+                    threads = parsePositiveInt("--threads", arg.substring("--threads=".length()));
+                } else {
+                    throw new IllegalArgumentException("Неизвестный аргумент серверного режима: " + arg);
+                }
+            }
+        }
+
+        PasswordGeneratorServer server = new PasswordGeneratorServer(
+                new InetSocketAddress(bindAddress, port), threads, threadKind);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "password-server-shutdown"));
+        server.start();
+        server.awaitStop();
+    }
+}
@@ -7,6 +7,10 @@ import java.util.Arrays;
  * Поддерживаемые аргументы:
  * {@code --ui=console} - запуск консольного интерфейса (по умолчанию)
  * {@code --ui=gui} - запуск графического интерфейса JavaFX
+ * {@code --ui=cli} - неинтерактивная пакетная генерация, параметры разбирает
+ * {@link com.passwordGenerator.ui.cli.PasswordGeneratorBatchCLI}
+ * {@code --ui=server} - локальный HTTP-сервер генерации, параметры разбирает
+ * {@link com.passwordGenerator.ui.server.PasswordGeneratorServer}
  *
  * @author Akovi
  */
@@ -25,10 +29,10 @@ public final class ArgumentParser {
 
     /**
      * Извлекает режим UI из аргументов командной строки.
-     * Ищет аргумент вида {@code --ui=X}, где X может быть "console" или "gui".
+     * Ищет аргумент вида {@code --ui=X}, где X может быть "console", "gui", "cli" или "server".
      *
      * @param args аргументы командной строки (может быть null)
-     * @return "console" или "gui", или "console" по умолчанию если аргумент не найден
+     * @return "console", "gui", "cli" или "server", или "console" по умолчанию если аргумент не найден
      */
     public static String extractUiMode(String[] args) {
         if (args == null) {
@@ -38,7 +42,8 @@ public final class ArgumentParser {
         return Arrays.stream(args)
                 .filter(arg -> arg != null && arg.startsWith(UI_ARGUMENT_PREFIX))
                 .map(arg -> arg.substring(UI_ARGUMENT_PREFIX.length()).trim().toLowerCase())
-                .filter(mode -> mode.equals("gui") || mode.equals("console"))
+                .filter(mode -> mode.equals("gui") || mode.equals("console") || mode.equals("cli")
+                        || mode.equals("server"))
                 .findFirst()
                 .orElse(DEFAULT_UI_MODE);
     }
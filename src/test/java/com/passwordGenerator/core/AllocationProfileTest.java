@@ -0,0 +1,64 @@
+package com.passwordGenerator.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса AllocationProfile.
+ * Проверяют расчёт выделенной памяти на пароль и на символ.
+ *
+ * @author Test Suite
+ * @see AllocationProfile
+ */
+@DisplayName("AllocationProfile Unit Tests")
+public class AllocationProfileTest {
+
+    @Test
+    @DisplayName("Вычисляет байты на пароль и на символ")
+    void testPerPasswordAndPerCharacter() {
+        AllocationProfile profile = new AllocationProfile(4000, 1, 5, 10, 2000);
+
+        assertEquals(400.0, profile.getBytesPerPassword(), 1e-9);
+        assertEquals(2.0, profile.getBytesPerCharacter(), 1e-9);
+        assertEquals(1, profile.getGcCount());
+        assertEquals(5, profile.getGcTimeMillis());
+    }
+
+    @Test
+    @DisplayName("Неподдерживаемое измерение даёт UNSUPPORTED")
+    void testUnsupportedAllocation() {
+        AllocationProfile profile = new AllocationProfile(AllocationProfile.UNSUPPORTED, 0, 0, 10, 2000);
+
+        assertEquals(AllocationProfile.UNSUPPORTED, profile.getBytesPerPassword());
+        assertEquals(AllocationProfile.UNSUPPORTED, profile.getBytesPerCharacter());
+        assertEquals("н/д", AllocationProfile.formatBytes(profile.getBytesPerPassword()));
+    }
+
+    @Test
+    @DisplayName("Снимок фиксирует выделение памяти текущим потоком")
+    void testSnapshotMeasuresAllocation() {
+        AllocationProfile.Snapshot snapshot = AllocationProfile.snapshot();
+        byte[][] garbage = new byte[16][];
+        for (int i = 0; i < garbage.length; i++) {
+            garbage[i] = new byte[64 * 1024];
+        }
+
+        AllocationProfile profile = snapshot.finish(1, garbage.length);
+
+        if (profile.getAllocatedBytes() != AllocationProfile.UNSUPPORTED) {
+            assertTrue(profile.getAllocatedBytes() >= 16L * 64 * 1024,
+                    "Должно быть учтено не меньше 1 МБ, получено: " + profile.getAllocatedBytes());
+        }
+        assertTrue(profile.getGcCount() >= 0 || profile.getGcCount() == AllocationProfile.UNSUPPORTED);
+    }
+
+    @Test
+    @DisplayName("Форматирует байты в подходящих единицах")
+    void testFormatBytes() {
+        assertTrue(AllocationProfile.formatBytes(512).contains("Б"));
+        assertTrue(AllocationProfile.formatBytes(2048).contains("КБ"));
+        assertTrue(AllocationProfile.formatBytes(5.0 * 1024 * 1024).contains("МБ"));
+    }
+}
@@ -0,0 +1,90 @@
+package com.passwordGenerator.core;
+
+import com.passwordGenerator.core.PasswordCreationTimeEstimator.PerformanceResult;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса BaselineComparison.
+ * Проверяют выявление регрессий относительно базового отчёта.
+ *
+ * @author Test Suite
+ * @see BaselineComparison
+ */
+@DisplayName("BaselineComparison Unit Tests")
+public class BaselineComparisonTest {
+
+    private BenchmarkReport report(PerformanceResult... results) {
+        return new BenchmarkReport(Map.of(BenchmarkReport.TEST_NAME, "тест"), List.of(results));
+    }
+
+    @Test
+    @DisplayName("Замедление выше порога считается регрессией")
+    void testRegressionAboveThreshold() {
+        BenchmarkReport baseline = report(new PerformanceResult(1000, 1000.0, 10),
+                new PerformanceResult(2000, 2000.0, 10));
+        BenchmarkReport current = report(new PerformanceResult(1000, 1050.0, 10),
+                new PerformanceResult(2000, 2500.0, 10));
+
+        BaselineComparison comparison = BaselineComparison.compare(baseline, current, 10.0);
+
+        assertTrue(comparison.hasRegressions());
+        assertFalse(comparison.getEntries().get(0).isRegression());
+        assertTrue(comparison.getEntries().get(1).isRegression());
+        assertEquals(25.0, comparison.getEntries().get(1).getChangePercent(), 1e-9);
+        assertTrue(comparison.toReport().contains("РЕГРЕССИЯ"));
+    }
+
+    @Test
+    @DisplayName("Ускорение и изменения в пределах порога не считаются регрессией")
+    void testNoRegression() {
+        BenchmarkReport baseline = report(new PerformanceResult(1000, 1000.0, 10));
+        BenchmarkReport current = report(new PerformanceResult(1000, 600.0, 10));
+
+        BaselineComparison comparison = BaselineComparison.compare(baseline, current, 5.0);
+
+        assertFalse(comparison.hasRegressions());
+        assertEquals(-40.0, comparison.getEntries().get(0).getChangePercent(), 1e-9);
+        assertTrue(comparison.toReport().contains("Регрессий не обнаружено"));
+    }
+
+    @Test
+    @DisplayName("Сравнивает медиану, если есть статистика")
+    void testUsesMedian() {
+        BenchmarkReport baseline = report(new PerformanceResult(1000,
+                TimingStatistics.of(new long[]{100, 100, 100, 100, 10_000})));
+        BenchmarkReport current = report(new PerformanceResult(1000,
+                TimingStatistics.of(new long[]{105, 105, 105, 105, 105})));
+
+        BaselineComparison comparison = BaselineComparison.compare(baseline, current, 10.0);
+
+        assertFalse(comparison.hasRegressions(), "Выброс в базе не должен влиять на сравнение");
+        assertEquals(100.0, comparison.getEntries().get(0).getBaselineNanos(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Длины без пары в базовом отчёте пропускаются")
+    void testSkipsUnmatchedLengths() {
+        BenchmarkReport baseline = report(new PerformanceResult(1000, 1000.0, 10));
+        BenchmarkReport current = report(new PerformanceResult(5000, 9000.0, 10));
+
+        BaselineComparison comparison = BaselineComparison.compare(baseline, current, 10.0);
+
+        assertTrue(comparison.getEntries().isEmpty());
+        assertFalse(comparison.hasRegressions());
+    }
+
+    @Test
+    @DisplayName("Отрицательный порог отклоняется")
+    void testRejectsNegativeThreshold() {
+        BenchmarkReport report = report(new PerformanceResult(1000, 1000.0, 10));
+
+        assertThrows(IllegalArgumentException.class, () -> BaselineComparison.compare(report, report, -1));
+    }
+}
@@ -0,0 +1,119 @@
+package com.passwordGenerator.core;
+
+import com.passwordGenerator.core.PasswordCreationTimeEstimator.PerformanceResult;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса BenchmarkReport.
+ * Проверяют сохранение и загрузку отчётов в форматах JSON и CSV.
+ *
+ * @author Test Suite
+ * @see BenchmarkReport
+ */
+@DisplayName("BenchmarkReport Unit Tests")
+public class BenchmarkReportTest {
+
+    @TempDir
+    Path tempDir;
+
+    private BenchmarkReport createReport() {
+        Map<String, String> metadata = new LinkedHashMap<>();
+        metadata.put(BenchmarkReport.TEST_NAME, "ТЕСТ \"в кавычках\"");
+        metadata.putAll(BenchmarkReport.environmentMetadata());
+        metadata.put(BenchmarkReport.RNG_ALGORITHM, "SplittableRandom");
+        TimingStatistics statistics = TimingStatistics.of(new long[]{100, 200, 300, 400});
+        AllocationProfile allocation = new AllocationProfile(4096, 1, 2, 4, 4000);
+        return new BenchmarkReport(metadata, List.of(
+                new PerformanceResult(1000, statistics, allocation),
+                new PerformanceResult(2000, 5000.0, 3)));
+    }
+
+    private void assertSameResults(BenchmarkReport expected, BenchmarkReport actual) {
+        assertEquals(expected.getMetadata(), actual.getMetadata());
+        assertEquals(expected.getResults().size(), actual.getResults().size());
+
+        PerformanceResult withStatistics = actual.getResults().get(0);
+        assertEquals(1000, withStatistics.getPasswordLength());
+        assertEquals(4, withStatistics.getNumberOfPasswordsGenerated());
+        assertEquals(250.0, withStatistics.getAverageTimeNanos(), 0.1);
+        assertEquals(200.0, withStatistics.getStatistics().getMedian(), 0.1);
+        assertEquals(400.0, withStatistics.getStatistics().getP99(), 0.1);
+        assertEquals(4096, withStatistics.getAllocationProfile().getAllocatedBytes());
+        assertEquals(1, withStatistics.getAllocationProfile().getGcCount());
+
+        PerformanceResult withoutStatistics = actual.getResults().get(1);
+        assertEquals(2000, withoutStatistics.getPasswordLength());
+        assertEquals(5000.0, withoutStatistics.getAverageTimeNanos(), 0.1);
+        assertNull(withoutStatistics.getStatistics());
+        assertNull(withoutStatistics.getAllocationProfile());
+    }
+
+    @Test
+    @DisplayName("Метаданные окружения содержат версию JVM и количество процессоров")
+    void testEnvironmentMetadata() {
+        Map<String, String> metadata = BenchmarkReport.environmentMetadata();
+
+        assertEquals(System.getProperty("java.version"), metadata.get(BenchmarkReport.JAVA_VERSION));
+        assertEquals(String.valueOf(Runtime.getRuntime().availableProcessors()),
+                metadata.get(BenchmarkReport.AVAILABLE_PROCESSORS));
+        assertNotNull(metadata.get(BenchmarkReport.TIMESTAMP));
+    }
+
+    @Test
+    @DisplayName("JSON сохраняется и загружается без потерь")
+    void testJsonRoundTrip() {
+        BenchmarkReport report = createReport();
+
+        BenchmarkReport restored = BenchmarkReport.fromJson(report.toJson());
+
+        assertSameResults(report, restored);
+        assertEquals("ТЕСТ \"в кавычках\"", restored.getTestName());
+    }
+
+    @Test
+    @DisplayName("CSV сохраняется и загружается без потерь")
+    void testCsvRoundTrip() {
+        BenchmarkReport report = createReport();
+
+        BenchmarkReport restored = BenchmarkReport.fromCsv(report.toCsv());
+
+        assertSameResults(report, restored);
+    }
+
+    @Test
+    @DisplayName("Формат файла выбирается по расширению")
+    void testSaveAndLoadByExtension() throws IOException {
+        BenchmarkReport report = createReport();
+        Path json = tempDir.resolve("baseline.json");
+        Path csv = tempDir.resolve("baseline.csv");
+
+        report.save(json);
+        report.save(csv);
+
+        assertTrue(Files.readString(json).startsWith("{"));
+        assertTrue(Files.readString(csv).startsWith("# "));
+        assertSameResults(report, BenchmarkReport.load(json));
+        assertSameResults(report, BenchmarkReport.load(csv));
+    }
+
+    @Test
+    @DisplayName("Некорректные данные отклоняются")
+    void testRejectsInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> BenchmarkReport.fromJson("{\"metadata\": {}"));
+        assertThrows(IllegalArgumentException.class, () -> BenchmarkReport.fromJson("[]"));
+        assertThrows(IllegalArgumentException.class, () -> BenchmarkReport.fromCsv("# testName=x\n"));
+        assertThrows(IllegalArgumentException.class, () -> BenchmarkReport.fromCsv("a,b,c\n1,2,3\n"));
+    }
+}
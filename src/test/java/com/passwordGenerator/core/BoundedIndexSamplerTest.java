@@ -0,0 +1,204 @@
+package com.passwordGenerator.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса BoundedIndexSampler.
+ * Проверяют равномерность индексов и корректность отбраковки смещённых значений.
+ *
+ * @author Test Suite
+ * @see BoundedIndexSampler
+ */
+@DisplayName("BoundedIndexSampler Unit Tests")
+public class BoundedIndexSamplerTest {
+
+    /**
+     * Источник, возвращающий заданную последовательность 64-битных значений.
+     */
+    private static class SequenceSource implements RandomSource {
+
+        private final long[] values;
+        private int nextLongCalls;
+
+        SequenceSource(long... values) {
+            this.values = values;
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long nextLong() {
+            return values[nextLongCalls++ % values.length];
+        }
+
+        @Override
+        public void nextBytes(byte[] bytes) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public RandomSource split() {
+            return this;
+        }
+
+        @Override
+        public String getAlgorithm() {
+            return "Sequence";
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 26, 52, 62, 152, 1000, 5000})
+    @DisplayName("Индексы для размеров алфавитов распределены равномерно")
+    void testUniformityForAlphabetSizes(int bound) {
+        BoundedIndexSampler sampler = new BoundedIndexSampler(new SeededRandomSource(bound), bound);
+        int samplesPerValue = 5000;
+        int[] counts = new int[bound];
+
+        for (int i = 0; i < bound * samplesPerValue; i++) {
+            int index = sampler.nextIndex();
+            assertTrue(index >= 0 && index < bound);
+            counts[index]++;
+        }
+
+        double chiSquare = 0;
+        for (int count : counts) {
+            chiSquare += (double) (count - samplesPerValue) * (count - samplesPerValue) / samplesPerValue;
+        }
+        // Критическое значение хи-квадрат для p < 0.001 оценивается сверху как df + 4.5 * sqrt(2 * df)
+        int degreesOfFreedom = bound - 1;
+        assertTrue(chiSquare < degreesOfFreedom + 4.5 * Math.sqrt(2.0 * degreesOfFreedom),
+                "Распределение должно быть равномерным, хи-квадрат = " + chiSquare);
+    }
+
+    @Test
+    @DisplayName("Среднее для большой границы близко к середине диапазона")
+    void testMeanForLargeBound() {
+        int bound = 1_000_000_007;
+        BoundedIndexSampler sampler = new BoundedIndexSampler(new SeededRandomSource(9), bound);
+        int samples = 200_000;
+        double sum = 0;
+
+        for (int i = 0; i < samples; i++) {
+            sum += sampler.nextIndex();
+        }
+
+        double mean = sum / samples;
+        double standardError = bound / Math.sqrt(12.0 * samples);
+        assertEquals((bound - 1) / 2.0, mean, 5 * standardError);
+    }
+
+    @Test
+    @DisplayName("Одно 64-битное значение даёт восемь индексов для алфавита цифр")
+    void testEightIndicesPerDrawForSmallBound() {
+        SequenceSource source = new SequenceSource(0x01C1_4181_01C1_4181L);
+        BoundedIndexSampler sampler = new BoundedIndexSampler(source, 10);
+
+        int[] expected = {5, 2, 7, 0, 5, 2, 7, 0};
+        for (int index : expected) {
+            assertEquals(index, sampler.nextIndex());
+        }
+        assertEquals(1, source.nextLongCalls);
+    }
+
+    @Test
+    @DisplayName("Одно 64-битное значение даёт четыре индекса для средней границы")
+    void testFourIndicesPerDrawForMediumBound() {
+        SequenceSource source = new SequenceSource(0x4001_8001_4001_8001L);
+        BoundedIndexSampler sampler = new BoundedIndexSampler(source, 1000);
+
+        int[] expected = {500, 250, 500, 250};
+        for (int index : expected) {
+            assertEquals(index, sampler.nextIndex());
+        }
+        assertEquals(1, source.nextLongCalls);
+    }
+
+    @Test
+    @DisplayName("Одно 64-битное значение даёт два индекса для большой границы")
+    void testTwoIndicesPerDrawForLargeBound() {
+        SequenceSource source = new SequenceSource(0x4000_0001_8000_0001L);
+        BoundedIndexSampler sampler = new BoundedIndexSampler(source, 100_000);
+
+        assertEquals(50_000, sampler.nextIndex());
+        assertEquals(25_000, sampler.nextIndex());
+        assertEquals(1, source.nextLongCalls);
+    }
+
+    @Test
+    @DisplayName("Отбраковывает значения из неполного интервала")
+    void testRejectsBiasedValues() {
+        SequenceSource source = new SequenceSource(0L, 0x81L);
+        BoundedIndexSampler sampler = new BoundedIndexSampler(source, 10);
+
+        assertEquals(5, sampler.nextIndex(),
+                "Нулевые младшие биты меньше порога 2^8 mod 10, такие значения отбраковываются");
+        assertEquals(2, source.nextLongCalls);
+    }
+
+    /**
+     * Проверяет порог отбраковки для одной ширины полосы: из двух полос одного 64-битного
+     * значения первая даёт младшие биты чуть ниже порога 2^L mod bound и отбраковывается,
+     * вторая даёт младшие биты, равные порогу, и принимается.
+     *
+     * @param bound граница индекса
+     * @param laneBits ожидаемая ширина полосы
+     * @param rejectedLane полоса с младшими битами ниже порога
+     * @param acceptedLane полоса с младшими битами, равными порогу
+     */
+    private static void assertRejectionThreshold(int bound, int laneBits, long rejectedLane, long acceptedLane) {
+        long range = 1L << laneBits;
+        long threshold = range % bound;
+        assertTrue((rejectedLane * bound) % range < threshold);
+        assertEquals(threshold, (acceptedLane * bound) % range);
+
+        SequenceSource source = new SequenceSource((acceptedLane << laneBits) | rejectedLane);
+        BoundedIndexSampler sampler = new BoundedIndexSampler(source, bound);
+
+        assertEquals((int) ((acceptedLane * bound) >>> laneBits), sampler.nextIndex());
+        assertEquals(1, source.nextLongCalls, "Обе полосы должны браться из одного значения источника");
+    }
+
+    @Test
+    @DisplayName("8-битная полоса: порог 2^8 mod 10 = 6")
+    void testRejectionThresholdForEightBitLane() {
+        assertRejectionThreshold(10, 8, 0x1A, 0x67);
+    }
+
+    @Test
+    @DisplayName("16-битная полоса: порог 2^16 mod 1000 = 536")
+    void testRejectionThresholdForSixteenBitLane() {
+        assertRejectionThreshold(1000, 16, 0x06EA, 0x1FBF);
+    }
+
+    @Test
+    @DisplayName("32-битная полоса: порог 2^32 mod 100000 = 67296")
+    void testRejectionThresholdForThirtyTwoBitLane() {
+        assertRejectionThreshold(100_000, 32, 0x0433_721EL, 0x07FF_583BL);
+    }
+
+    @Test
+    @DisplayName("Граница 1 всегда даёт индекс 0")
+    void testBoundOne() {
+        BoundedIndexSampler sampler = new BoundedIndexSampler(new SeededRandomSource(1), 1);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, sampler.nextIndex());
+        }
+    }
+
+    @Test
+    @DisplayName("Выбрасывает исключение при неположительной границе")
+    void testInvalidBound() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BoundedIndexSampler(new SeededRandomSource(1), 0));
+    }
+}
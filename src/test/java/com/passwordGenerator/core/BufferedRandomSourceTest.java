@@ -0,0 +1,127 @@
+package com.passwordGenerator.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса BufferedRandomSource.
+ * Тестируют равномерность выборки, пополнение буфера и количество обращений к исходному источнику.
+ *
+ * @author Test Suite
+ * @see BufferedRandomSource
+ */
+@DisplayName("BufferedRandomSource Unit Tests")
+public class BufferedRandomSourceTest {
+
+    /**
+     * Источник, считающий обращения к nextBytes.
+     */
+    private static class CountingSource implements RandomSource {
+
+        private final RandomSource delegate = new SeededRandomSource(11);
+        private int nextBytesCalls;
+
+        @Override
+        public int nextInt(int bound) {
+            return delegate.nextInt(bound);
+        }
+
+        @Override
+        public long nextLong() {
+            return delegate.nextLong();
+        }
+
+        @Override
+        public void nextBytes(byte[] bytes) {
+            nextBytesCalls++;
+            delegate.nextBytes(bytes);
+        }
+
+        @Override
+        public RandomSource split() {
+            return delegate.split();
+        }
+
+        @Override
+        public String getAlgorithm() {
+            return "Counting";
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 52, 152, 1000, 100_000})
+    @DisplayName("Выборка равномерна по критерию хи-квадрат")
+    void testUniformity(int bound) {
+        BufferedRandomSource source = new BufferedRandomSource(new SeededRandomSource(bound));
+        int buckets = bound <= 200 ? bound : 100;
+        int samplesPerBucket = 2000;
+        int[] counts = new int[buckets];
+
+        for (int i = 0; i < buckets * samplesPerBucket; i++) {
+            int value = source.nextInt(bound);
+            assertTrue(value >= 0 && value < bound);
+            counts[(int) ((long) value * buckets / bound)]++;
+        }
+
+        double expected = samplesPerBucket;
+        double chiSquare = 0;
+        for (int count : counts) {
+            chiSquare += (count - expected) * (count - expected) / expected;
+        }
+        // Критическое значение хи-квадрат для p < 0.001 оценивается сверху как df + 4.5 * sqrt(2 * df)
+        int degreesOfFreedom = buckets - 1;
+        assertTrue(chiSquare < degreesOfFreedom + 4.5 * Math.sqrt(2.0 * degreesOfFreedom),
+                "Распределение должно быть равномерным, хи-квадрат = " + chiSquare);
+    }
+
+    @Test
+    @DisplayName("Обращается к исходному источнику блоками")
+    void testRefillsInBlocks() {
+        CountingSource counting = new CountingSource();
+        BufferedRandomSource source = new BufferedRandomSource(counting, 4096);
+
+        for (int i = 0; i < 100_000; i++) {
+            source.nextInt(62);
+        }
+
+        assertTrue(counting.nextBytesCalls < 50,
+                "Ожидается несколько десятков пополнений, получено: " + counting.nextBytesCalls);
+    }
+
+    @Test
+    @DisplayName("Корректно читает значения на границе буфера")
+    void testValuesAcrossBufferBoundary() {
+        BufferedRandomSource source = new BufferedRandomSource(new SeededRandomSource(5), 9);
+
+        for (int i = 0; i < 1000; i++) {
+            source.nextLong();
+            int value = source.nextInt(Integer.MAX_VALUE);
+            assertTrue(value >= 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Большие запросы байт передаются исходному источнику")
+    void testLargeNextBytesBypassesBuffer() {
+        CountingSource counting = new CountingSource();
+        BufferedRandomSource source = new BufferedRandomSource(counting, 16);
+
+        source.nextBytes(new byte[64]);
+
+        assertEquals(1, counting.nextBytesCalls);
+    }
+
+    @Test
+    @DisplayName("Выбрасывает исключение при неположительной границе и малом буфере")
+    void testInvalidArguments() {
+        BufferedRandomSource source = new BufferedRandomSource(new SeededRandomSource(1));
+
+        assertThrows(IllegalArgumentException.class, () -> source.nextInt(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BufferedRandomSource(new SeededRandomSource(1), 4));
+    }
+}
@@ -0,0 +1,55 @@
+package com.passwordGenerator.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса CancellationToken.
+ *
+ * @author Test Suite
+ * @see CancellationToken
+ */
+@DisplayName("CancellationToken Unit Tests")
+public class CancellationTokenTest {
+
+    @Test
+    @DisplayName("Новый признак не отменён")
+    void testNotCancelledByDefault() {
+        CancellationToken token = new CancellationToken();
+
+        assertFalse(token.isCancelled());
+        assertDoesNotThrow(token::throwIfCancelled);
+    }
+
+    @Test
+    @DisplayName("После отмены проверка выбрасывает CancellationException")
+    void testCancel() {
+        CancellationToken token = new CancellationToken();
+
+        token.cancel();
+
+        assertTrue(token.isCancelled());
+        assertThrows(CancellationException.class, token::throwIfCancelled);
+    }
+
+    @Test
+    @DisplayName("Дочерний признак отменяется вместе с родителем, но не наоборот")
+    void testChild() {
+        CancellationToken parent = new CancellationToken();
+        CancellationToken child = parent.child();
+        CancellationToken sibling = parent.child();
+
+        child.cancel();
+        assertTrue(child.isCancelled());
+        assertFalse(parent.isCancelled());
+        assertFalse(sibling.isCancelled());
+
+        parent.cancel();
+        assertTrue(sibling.isCancelled());
+        assertThrows(CancellationException.class, sibling::throwIfCancelled);
+    }
+}
@@ -0,0 +1,71 @@
+package com.passwordGenerator.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса CompiledPasswordSpec.
+ * Проверяют построение и кеширование алфавитов по битовой маске.
+ *
+ * @author Test Suite
+ * @see CompiledPasswordSpec
+ */
+@DisplayName("CompiledPasswordSpec Unit Tests")
+public class CompiledPasswordSpecTest {
+
+    @Test
+    @DisplayName("Возвращает один и тот же экземпляр для одинаковых флагов")
+    void testSpecIsCachedForEqualFlags() {
+        PasswordGenerationConfig first = new PasswordGenerationConfig(10);
+        first.setUseLatin(true);
+        first.setUseDigits(true);
+        PasswordGenerationConfig second = new PasswordGenerationConfig(500);
+        second.setUseLatin(true);
+        second.setUseDigits(true);
+
+        assertSame(CompiledPasswordSpec.forConfig(first), CompiledPasswordSpec.forConfig(second),
+                "Алфавит должен браться из кеша");
+    }
+
+    @Test
+    @DisplayName("Вычисляет битовую маску по флагам конфигурации")
+    void testMaskOfConfig() {
+        PasswordGenerationConfig config = new PasswordGenerationConfig(10);
+        config.setUseCyrillic(true);
+        config.setUseSpecial(true);
+
+        assertEquals(CompiledPasswordSpec.CYRILLIC | CompiledPasswordSpec.SPECIAL,
+                CompiledPasswordSpec.maskOf(config));
+    }
+
+    @Test
+    @DisplayName("Размеры алфавитов соответствуют выбранным наборам")
+    void testAlphabetSizes() {
+        assertEquals(0, CompiledPasswordSpec.forMask(0).size());
+        assertFalse(CompiledPasswordSpec.forMask(0).hasCharacters());
+        assertEquals(52, CompiledPasswordSpec.forMask(CompiledPasswordSpec.LATIN).size());
+        assertEquals(64, CompiledPasswordSpec.forMask(CompiledPasswordSpec.CYRILLIC).size());
+        assertEquals(10, CompiledPasswordSpec.forMask(CompiledPasswordSpec.DIGITS).size());
+        assertEquals(26, CompiledPasswordSpec.forMask(CompiledPasswordSpec.SPECIAL).size());
+        assertEquals(152, CompiledPasswordSpec.forMask(15).size());
+    }
+
+    @Test
+    @DisplayName("Алфавит цифр содержит символы 0-9 по порядку")
+    void testDigitsAlphabetContent() {
+        CompiledPasswordSpec spec = CompiledPasswordSpec.forMask(CompiledPasswordSpec.DIGITS);
+
+        for (int i = 0; i < spec.size(); i++) {
+            assertEquals((char) ('0' + i), spec.charAt(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Выбрасывает исключение при некорректной маске")
+    void testInvalidMask() {
+        assertThrows(IllegalArgumentException.class, () -> CompiledPasswordSpec.forMask(16));
+        assertThrows(IllegalArgumentException.class, () -> CompiledPasswordSpec.forMask(-1));
+    }
+}
@@ -0,0 +1,114 @@
+package com.passwordGenerator.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса ImmutablePasswordConfig.
+ * Проверяют построитель, нормализацию обязательных символов, равенство и преобразования.
+ *
+ * @author Test Suite
+ * @see ImmutablePasswordConfig
+ */
+@DisplayName("ImmutablePasswordConfig Unit Tests")
+public class ImmutablePasswordConfigTest {
+
+    @Test
+    @DisplayName("Построитель задаёт длину и наборы символов")
+    void testBuilder() {
+        ImmutablePasswordConfig config = ImmutablePasswordConfig.builder(24)
+                .useLatin(true)
+                .useDigits(true)
+                .useSpecial(true)
+                .useSpecial(false)
+                .build();
+
+        assertEquals(24, config.getLength());
+        assertEquals(24L, config.getLongLength());
+        assertTrue(config.isUseLatin());
+        assertFalse(config.isUseCyrillic());
+        assertTrue(config.isUseDigits());
+        assertFalse(config.isUseSpecial());
+        assertEquals(CompiledPasswordSpec.LATIN | CompiledPasswordSpec.DIGITS, config.getCharsetMask());
+    }
+
+    @Test
+    @DisplayName("Обязательные символы сортируются и не повторяются")
+    void testRequiredCharactersAreSortedAndUnique() {
+        ImmutablePasswordConfig config = ImmutablePasswordConfig.builder(10)
+                .useLatin(true)
+                .require("z#a")
+                .require('#')
+                .require('b')
+                .build();
+
+        assertArrayEquals(new char[]{'#', 'a', 'b', 'z'}, config.getRequiredCharacters());
+        assertEquals(4, config.getRequiredCharacterCount());
+
+        config.getRequiredCharacters()[0] = 'X';
+        assertEquals('#', config.getRequiredCharacters()[0], "Геттер должен возвращать копию");
+    }
+
+    @Test
+    @DisplayName("Порядок добавления не влияет на равенство и хеш-код")
+    void testEqualsAndHashCode() {
+        ImmutablePasswordConfig first = ImmutablePasswordConfig.builder(12)
+                .useCyrillic(true).require("ab").build();
+        ImmutablePasswordConfig second = ImmutablePasswordConfig.builder(12)
+                .require("bab").useCyrillic(true).build();
+        ImmutablePasswordConfig different = ImmutablePasswordConfig.builder(12)
+                .useCyrillic(true).require("abc").build();
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, different);
+        assertNotEquals(first, ImmutablePasswordConfig.builder(13).useCyrillic(true).require("ab").build());
+
+        Map<ImmutablePasswordConfig, String> map = new HashMap<>();
+        map.put(first, "значение");
+        assertEquals("значение", map.get(second));
+    }
+
+    @Test
+    @DisplayName("Преобразование в изменяемую конфигурацию и обратно сохраняет параметры")
+    void testConversions() {
+        PasswordGenerationConfig mutable = new PasswordGenerationConfig(16);
+        mutable.setUseLatin(true);
+        mutable.setUseSpecial(true);
+        mutable.addRequiredCharacter('!');
+        mutable.addRequiredCharacter('Q');
+
+        ImmutablePasswordConfig immutable = ImmutablePasswordConfig.from(mutable);
+
+        assertEquals(16, immutable.getLength());
+        assertTrue(immutable.isUseLatin());
+        assertTrue(immutable.isUseSpecial());
+        assertArrayEquals(new char[]{'!', 'Q'}, immutable.getRequiredCharacters());
+        assertEquals(mutable, immutable.toMutableConfig());
+    }
+
+    @Test
+    @DisplayName("Длина больше диапазона int доступна только через getLongLength")
+    void testLongLength() {
+        ImmutablePasswordConfig config = ImmutablePasswordConfig.builder(Integer.MAX_VALUE + 1L)
+                .useDigits(true).build();
+
+        assertEquals(Integer.MAX_VALUE + 1L, config.getLongLength());
+        assertThrows(IllegalStateException.class, config::getLength);
+    }
+
+    @Test
+    @DisplayName("Построитель проверяет длину и количество обязательных символов")
+    void testBuilderValidation() {
+        assertThrows(IllegalArgumentException.class, () -> ImmutablePasswordConfig.builder(0).build());
+        assertThrows(IllegalArgumentException.class,
+                () -> ImmutablePasswordConfig.builder(2).require("abc").build());
+        assertDoesNotThrow(() -> ImmutablePasswordConfig.builder(3).require("abc").build());
+        assertThrows(NullPointerException.class, () -> ImmutablePasswordConfig.builder(3).require(null));
+    }
+}
@@ -0,0 +1,70 @@
+package com.passwordGenerator.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса LengthSweep.
+ * Проверяют построение арифметических, логарифмических и явных наборов длин.
+ *
+ * @author Test Suite
+ * @see LengthSweep
+ */
+@DisplayName("LengthSweep Unit Tests")
+public class LengthSweepTest {
+
+    @Test
+    @DisplayName("Арифметическая прогрессия совпадает с перебором диапазона")
+    void testArithmeticMatchesEnumeration() {
+        assertEquals(List.of(10_000, 110_000, 210_000, 310_000, 410_000, 510_000, 610_000,
+                        710_000, 810_000, 910_000),
+                LengthSweep.arithmetic(10_000, 1_000_000, 100_000).getLengths());
+        assertEquals(List.of(5, 8, 11), LengthSweep.arithmetic(5, 13, 3).getLengths());
+        assertEquals(List.of(7), LengthSweep.arithmetic(7, 7, 100).getLengths());
+    }
+
+    @Test
+    @DisplayName("Широкий диапазон с крупным шагом строится без перебора")
+    void testArithmeticWideRange() {
+        List<Integer> lengths = LengthSweep.arithmetic(1, Integer.MAX_VALUE, Integer.MAX_VALUE / 2).getLengths();
+
+        assertEquals(List.of(1, 1 + Integer.MAX_VALUE / 2, 1 + 2 * (Integer.MAX_VALUE / 2)), lengths);
+    }
+
+    @Test
+    @DisplayName("Логарифмическая шкала включает границы и возрастает")
+    void testGeometric() {
+        List<Integer> lengths = LengthSweep.geometric(10, 1_000_000, 6).getLengths();
+
+        assertEquals(List.of(10, 100, 1000, 10_000, 100_000, 1_000_000), lengths);
+    }
+
+    @Test
+    @DisplayName("Логарифмическая шкала отбрасывает совпавшие длины")
+    void testGeometricDeduplicates() {
+        List<Integer> lengths = LengthSweep.geometric(1, 3, 10).getLengths();
+
+        assertEquals(List.of(1, 2, 3), lengths);
+    }
+
+    @Test
+    @DisplayName("Явный список сохраняет порядок")
+    void testExplicitPoints() {
+        assertEquals(List.of(500, 16, 100_000), LengthSweep.of(500, 16, 100_000).getLengths());
+    }
+
+    @Test
+    @DisplayName("Некорректные параметры отклоняются")
+    void testRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> LengthSweep.arithmetic(0, 10, 1));
+        assertThrows(IllegalArgumentException.class, () -> LengthSweep.arithmetic(10, 5, 1));
+        assertThrows(IllegalArgumentException.class, () -> LengthSweep.arithmetic(1, 10, 0));
+        assertThrows(IllegalArgumentException.class, () -> LengthSweep.geometric(1, 10, 1));
+        assertThrows(IllegalArgumentException.class, () -> LengthSweep.of());
+        assertThrows(IllegalArgumentException.class, () -> LengthSweep.of(10, -1));
+    }
+}
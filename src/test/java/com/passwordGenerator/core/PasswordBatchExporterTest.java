@@ -0,0 +1,148 @@
+package com.passwordGenerator.core;
+
+import com.passwordGenerator.core.PasswordBatchExporter.ExportResult;
+import com.passwordGenerator.core.PasswordBatchExporter.FsyncPolicy;
+import com.passwordGenerator.exceptions.InvalidPasswordConfigException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса PasswordBatchExporter.
+ * Проверяют формат файла, кодирование UTF-8 и политики сброса на диск.
+ *
+ * @author Test Suite
+ * @see PasswordBatchExporter
+ */
+@DisplayName("PasswordBatchExporter Unit Tests")
+public class PasswordBatchExporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final PasswordGenerator generator = new PasswordGenerator(new SeededRandomSource(3));
+
+    @Test
+    @DisplayName("Каждый пароль записывается отдельной строкой с обязательными символами")
+    void testExportWritesOnePasswordPerLine() throws Exception {
+        PasswordGenerationConfig config = new PasswordGenerationConfig(16);
+        config.setUseLatin(true);
+        config.setUseDigits(true);
+        config.addRequiredCharacter('@');
+        Path file = tempDir.resolve("passwords.txt");
+
+        ExportResult result = new PasswordBatchExporter(generator).export(config, 1000, file);
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(1000, lines.size());
+        for (String line : lines) {
+            assertEquals(16, line.length());
+            assertTrue(line.indexOf('@') >= 0, "В пароле нет обязательного символа: " + line);
+        }
+        assertEquals(1000, result.getPasswordCount());
+        assertEquals(Files.size(file), result.getBytesWritten());
+        assertEquals(0, result.getFsyncCount());
+    }
+
+    @Test
+    @DisplayName("Кириллица кодируется двумя байтами, строки не рвутся на границах буфера")
+    void testExportEncodesCyrillicAcrossBufferBoundaries() throws Exception {
+        PasswordGenerationConfig config = new PasswordGenerationConfig(7);
+        config.setUseCyrillic(true);
+        Path file = tempDir.resolve("cyrillic.txt");
+
+        ExportResult result = new PasswordBatchExporter(generator, 10, FsyncPolicy.NONE)
+                .export(config, 50, file);
+
+        assertEquals(50L * (7 * 2 + 1), Files.size(file));
+        assertEquals(Files.size(file), result.getBytesWritten());
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(50, lines.size());
+        lines.forEach(line -> assertEquals(7, line.length()));
+    }
+
+    @Test
+    @DisplayName("Параллельная выгрузка записывает все пароли без разрывов строк")
+    void testParallelExport() throws Exception {
+        PasswordGenerationConfig config = new PasswordGenerationConfig(12);
+        config.setUseLatin(true);
+        config.setUseCyrillic(true);
+        config.addRequiredCharacter('#');
+        Path file = tempDir.resolve("parallel.txt");
+
+        ExportResult result = new PasswordBatchExporter(PasswordGenerator.forConcurrentUse(),
+                256, FsyncPolicy.NONE, 4).export(config, 5003, file);
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(5003, lines.size());
+        for (String line : lines) {
+            assertEquals(12, line.length());
+            assertTrue(line.indexOf('#') >= 0, "В пароле нет обязательного символа: " + line);
+        }
+        assertEquals(Files.size(file), result.getBytesWritten());
+    }
+
+    @Test
+    @DisplayName("Политика fsync определяет количество сбросов на диск")
+    void testFsyncPolicies() throws Exception {
+        PasswordGenerationConfig config = new PasswordGenerationConfig(9);
+        config.setUseDigits(true);
+
+        ExportResult onFinish = new PasswordBatchExporter(generator, 64, FsyncPolicy.ON_FINISH)
+                .export(config, 100, tempDir.resolve("finish.txt"));
+        ExportResult everyBuffer = new PasswordBatchExporter(generator, 64, FsyncPolicy.EVERY_BUFFER)
+                .export(config, 100, tempDir.resolve("every.txt"));
+
+        assertEquals(1, onFinish.getFsyncCount());
+        assertEquals(1000 / 64 + 1, everyBuffer.getFsyncCount());
+    }
+
+    @Test
+    @DisplayName("Некорректная конфигурация не изменяет существующий файл")
+    void testInvalidConfigLeavesFileUntouched() throws Exception {
+        Path file = tempDir.resolve("existing.txt");
+        Files.writeString(file, "старые данные");
+        PasswordGenerationConfig config = new PasswordGenerationConfig(10);
+        PasswordBatchExporter exporter = new PasswordBatchExporter(generator);
+
+        assertThrows(InvalidPasswordConfigException.class, () -> exporter.export(config, 10, file));
+        assertThrows(IllegalArgumentException.class, () -> exporter.export(config, -1, file));
+        assertEquals("старые данные", Files.readString(file));
+    }
+
+    @Test
+    @DisplayName("Кодирование UTF-8 совпадает со стандартным и отклоняет непарные суррогаты")
+    void testEncodeUtf8() throws Exception {
+        String text = "aЖ€😀!";
+        byte[] out = new byte[text.length() * 3];
+
+        int length = PasswordBatchExporter.encodeUtf8(text.toCharArray(), out);
+
+        assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), Arrays.copyOf(out, length));
+        assertThrows(MalformedInputException.class,
+                () -> PasswordBatchExporter.encodeUtf8(new char[]{'a', '\uD83D'}, out));
+        assertThrows(MalformedInputException.class,
+                () -> PasswordBatchExporter.encodeUtf8(new char[]{'\uDE00', 'a'}, out));
+    }
+
+    @Test
+    @DisplayName("Конструктор проверяет размер буфера")
+    void testConstructorValidation() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PasswordBatchExporter(generator, 0, FsyncPolicy.NONE));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PasswordBatchExporter(generator, 1024, FsyncPolicy.NONE, 0));
+        assertThrows(NullPointerException.class,
+                () -> new PasswordBatchExporter(generator, 1024, null));
+    }
+}
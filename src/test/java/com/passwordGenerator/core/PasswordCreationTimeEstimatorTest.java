@@ -4,6 +4,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -172,4 +183,263 @@ public class PasswordCreationTimeEstimatorTest {
         assertEquals(length, result.getPasswordLength());
         assertEquals(count, result.getNumberOfPasswordsGenerated());
     }
+
+    @Test
+    @DisplayName("Отчёт содержит перцентили и доверительный интервал")
+    void testReportContainsDistributionColumns() {
+        PasswordCreationTimeEstimator customEstimator =
+                new PasswordCreationTimeEstimator(new PasswordGenerator(), 2, 5);
+
+        String report = customEstimator.runCustomTest(1000, 3000, 1000);
+
+        assertTrue(report.contains("Медиана"), "Отчёт должен содержать медиану");
+        assertTrue(report.contains("p99"), "Отчёт должен содержать p99");
+        assertTrue(report.contains("95% ДИ"), "Отчёт должен содержать доверительный интервал");
+        assertTrue(report.contains("Прогрев: 2, замеров на длину: 5, режим: последовательный (потоков: 1)"));
+        assertTrue(report.contains("Байт/символ"), "Отчёт должен содержать выделение памяти на символ");
+        assertTrue(report.contains("GC"), "Отчёт должен содержать сборки мусора");
+    }
+
+    @Test
+    @DisplayName("PerformanceResult со статистикой берёт среднее и количество из неё")
+    void testPerformanceResultWithStatistics() {
+        TimingStatistics statistics = TimingStatistics.of(new long[]{100, 200, 300});
+        PasswordCreationTimeEstimator.PerformanceResult result =
+                new PasswordCreationTimeEstimator.PerformanceResult(500, statistics);
+
+        assertEquals(200.0, result.getAverageTimeNanos(), 1e-9);
+        assertEquals(3, result.getNumberOfPasswordsGenerated());
+        assertSame(statistics, result.getStatistics());
+    }
+
+    @Test
+    @DisplayName("Конструктор отклоняет некорректное число раундов")
+    void testEstimatorRejectsInvalidRounds() {
+        PasswordGenerator generator = new PasswordGenerator();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new PasswordCreationTimeEstimator(generator, -1, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PasswordCreationTimeEstimator(generator, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Последовательность потоков состоит из степеней двойки и максимума")
+    void testThreadCounts() {
+        assertEquals(List.of(1), PasswordCreationTimeEstimator.threadCounts(1));
+        assertEquals(List.of(1, 2, 4, 8), PasswordCreationTimeEstimator.threadCounts(8));
+        assertEquals(List.of(1, 2, 4, 6), PasswordCreationTimeEstimator.threadCounts(6));
+    }
+
+    @Test
+    @DisplayName("Тест масштабируемости сообщает пропускную способность для обоих режимов")
+    void testScalabilityReport() {
+        PasswordCreationTimeEstimator quickEstimator =
+                new PasswordCreationTimeEstimator(new PasswordGenerator(new SeededRandomSource(7)), 1, 5);
+
+        String report = quickEstimator.runScalabilityTest(1000, 2, 20);
+
+        assertTrue(report.contains("ТЕСТ МАСШТАБИРУЕМОСТИ"));
+        assertTrue(report.contains("Паролей/с"));
+        assertTrue(report.contains("Символов/с"));
+        assertTrue(report.contains("Эффективность"));
+        assertTrue(report.contains("общий"));
+        assertTrue(report.contains("на поток"));
+        assertTrue(report.contains("100%"), "Однопоточный прогон должен иметь эффективность 100%");
+    }
+
+    @Test
+    @DisplayName("ScalabilityResult вычисляет пароли и символы в секунду")
+    void testScalabilityResultThroughput() {
+        PasswordCreationTimeEstimator.ScalabilityResult result = new PasswordCreationTimeEstimator.ScalabilityResult(
+                PasswordCreationTimeEstimator.GeneratorSharing.SHARED, 4, 100, 2000, 1_000_000_000L, 0.5);
+
+        assertEquals(2000.0, result.getPasswordsPerSecond(), 1e-9);
+        assertEquals(200_000.0, result.getCharactersPerSecond(), 1e-6);
+        assertEquals(0.5, result.getScalingEfficiency(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Тест масштабируемости отклоняет неположительные параметры")
+    void testScalabilityRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> estimator.runScalabilityTest(0, 2, 10));
+        assertThrows(IllegalArgumentException.class, () -> estimator.runScalabilityTest(100, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> estimator.runScalabilityTest(100, 2, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> estimator.runScalabilityTest((int) GenerationMode.IN_MEMORY.getMaxLength() + 1, 2, 10));
+    }
+
+    @Test
+    @DisplayName("Ошибка при прогреве завершает тест масштабируемости, а не подвешивает его")
+    void testScalabilityWarmupFailureDoesNotHang() throws Exception {
+        PasswordCreationTimeEstimator failingEstimator =
+                new PasswordCreationTimeEstimator(new PasswordGenerator(new FailingRandomSource()), 1, 5);
+        ExecutorService runner = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> run = runner.submit(() -> failingEstimator.runScalabilityTest(100, 2, 10));
+
+            ExecutionException e = assertThrows(ExecutionException.class, () -> run.get(30, TimeUnit.SECONDS));
+            assertInstanceOf(RuntimeException.class, e.getCause());
+        } finally {
+            runner.shutdownNow();
+        }
+    }
+
+    /**
+     * Источник случайных чисел, каждый вызов которого завершается ошибкой.
+     */
+    private static final class FailingRandomSource implements RandomSource {
+
+        @Override
+        public int nextInt(int bound) {
+            throw new IllegalStateException("Источник недоступен");
+        }
+
+        @Override
+        public long nextLong() {
+            throw new IllegalStateException("Источник недоступен");
+        }
+
+        @Override
+        public void nextBytes(byte[] bytes) {
+            throw new IllegalStateException("Источник недоступен");
+        }
+
+        @Override
+        public RandomSource split() {
+            return this;
+        }
+
+        @Override
+        public String getAlgorithm() {
+            return "failing";
+        }
+    }
+
+    @Test
+    @DisplayName("Машиночитаемый отчёт содержит метаданные окружения и конфигурации")
+    void testBenchmarkReportMetadata() {
+        PasswordCreationTimeEstimator quickEstimator =
+                new PasswordCreationTimeEstimator(new PasswordGenerator(new SeededRandomSource(3)), 1, 3);
+
+        BenchmarkReport report = quickEstimator.runCustomBenchmark(1000, 2000, 1000);
+
+        assertEquals(2, report.getResults().size());
+        assertEquals("SplittableRandom", report.getMetadata().get(BenchmarkReport.RNG_ALGORITHM));
+        assertEquals("LATIN,DIGITS,SPECIAL", report.getMetadata().get(BenchmarkReport.CHARACTER_SETS));
+        assertEquals("3", report.getMetadata().get(BenchmarkReport.MEASUREMENT_ROUNDS));
+        assertNotNull(report.getMetadata().get(BenchmarkReport.JAVA_VERSION));
+        assertTrue(report.getTestName().startsWith("ПОЛЬЗОВАТЕЛЬСКИЙ ТЕСТ"));
+    }
+
+    @Test
+    @DisplayName("Параллельный режим возвращает результаты в порядке длин")
+    void testParallelSweepKeepsOrder() {
+        PasswordCreationTimeEstimator parallelEstimator = new PasswordCreationTimeEstimator(
+                new PasswordGenerator(new SeededRandomSource(11)), 1, 3,
+                PasswordCreationTimeEstimator.SweepMode.PARALLEL, 3);
+
+        BenchmarkReport report = parallelEstimator.runCustomBenchmark(1000, 5000, 1000);
+
+        assertEquals(List.of(1000, 2000, 3000, 4000, 5000), report.getResults().stream()
+                .map(PasswordCreationTimeEstimator.PerformanceResult::getPasswordLength)
+                .collect(Collectors.toList()));
+        assertEquals("PARALLEL", report.getMetadata().get(BenchmarkReport.SWEEP_MODE));
+        assertEquals("3", report.getMetadata().get(BenchmarkReport.SWEEP_WORKERS));
+        report.getResults().forEach(result -> assertEquals(3, result.getNumberOfPasswordsGenerated()));
+    }
+
+    @Test
+    @DisplayName("Параллельный режим отклоняет неположительное число потоков")
+    void testParallelSweepRejectsInvalidWorkers() {
+        assertThrows(IllegalArgumentException.class, () -> new PasswordCreationTimeEstimator(
+                new PasswordGenerator(), 1, 3, PasswordCreationTimeEstimator.SweepMode.PARALLEL, 0));
+    }
+
+    @Test
+    @DisplayName("Тест по набору длин замеряет только заданные точки")
+    void testRunSweepBenchmark() {
+        PasswordCreationTimeEstimator quickEstimator =
+                new PasswordCreationTimeEstimator(new PasswordGenerator(new SeededRandomSource(5)), 1, 2);
+
+        BenchmarkReport report = quickEstimator.runSweepBenchmark(LengthSweep.geometric(10, 10_000, 4));
+
+        assertEquals(List.of(10, 100, 1000, 10_000), report.getResults().stream()
+                .map(PasswordCreationTimeEstimator.PerformanceResult::getPasswordLength)
+                .collect(Collectors.toList()));
+        assertTrue(report.getTestName().contains("логарифмической шкале"));
+    }
+
+    @Test
+    @DisplayName("Слушатель получает результаты по мере готовности в порядке длин")
+    void testProgressListenerReceivesResults() {
+        PasswordCreationTimeEstimator quickEstimator =
+                new PasswordCreationTimeEstimator(new PasswordGenerator(new SeededRandomSource(13)), 1, 4);
+        List<Integer> started = new ArrayList<>();
+        List<Integer> completed = new ArrayList<>();
+        AtomicInteger measured = new AtomicInteger();
+
+        BenchmarkReport report = quickEstimator.runCustomBenchmark(1000, 3000, 1000,
+                new EstimatorProgressListener() {
+                    @Override
+                    public void onLengthStarted(int passwordLength, int lengthIndex, int totalLengths) {
+                        started.add(passwordLength);
+                    }
+
+                    @Override
+                    public void onPasswordMeasured(int passwordLength, int count, int total) {
+                        measured.incrementAndGet();
+                    }
+
+                    @Override
+                    public void onResult(PasswordCreationTimeEstimator.PerformanceResult result,
+                                         int completedLengths, int totalLengths) {
+                        assertEquals(completed.size() + 1, completedLengths);
+                        assertEquals(3, totalLengths);
+                        completed.add(result.getPasswordLength());
+                    }
+                }, new CancellationToken());
+
+        assertEquals(List.of(1000, 2000, 3000), started);
+        assertEquals(List.of(1000, 2000, 3000), completed);
+        assertEquals(12, measured.get());
+        assertEquals(3, report.getResults().size());
+    }
+
+    @Test
+    @DisplayName("Отмена прерывает тест после текущего замера")
+    void testCancellationStopsRun() {
+        PasswordCreationTimeEstimator quickEstimator =
+                new PasswordCreationTimeEstimator(new PasswordGenerator(new SeededRandomSource(17)), 0, 3);
+        CancellationToken cancellation = new CancellationToken();
+        List<Integer> completed = new ArrayList<>();
+
+        assertThrows(CancellationException.class, () -> quickEstimator.runCustomBenchmark(100, 1000, 100,
+                new EstimatorProgressListener() {
+                    @Override
+                    public void onResult(PasswordCreationTimeEstimator.PerformanceResult result,
+                                         int completedLengths, int totalLengths) {
+                        completed.add(result.getPasswordLength());
+                        if (completedLengths == 2) {
+                            cancellation.cancel();
+                        }
+                    }
+                }, cancellation));
+
+        assertEquals(List.of(100, 200), completed);
+    }
+
+    @Test
+    @DisplayName("Отмена прерывает параллельный проход")
+    void testCancellationStopsParallelRun() {
+        PasswordCreationTimeEstimator parallelEstimator = new PasswordCreationTimeEstimator(
+                new PasswordGenerator(new SeededRandomSource(19)), 0, 3,
+                PasswordCreationTimeEstimator.SweepMode.PARALLEL, 2);
+        CancellationToken cancellation = new CancellationToken();
+        cancellation.cancel();
+
+        assertThrows(CancellationException.class,
+                () -> parallelEstimator.runSweepBenchmark(LengthSweep.of(100, 200, 300),
+                        EstimatorProgressListener.NONE, cancellation));
+    }
 }
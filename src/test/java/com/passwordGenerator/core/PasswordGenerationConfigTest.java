@@ -4,6 +4,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Locale;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -94,6 +96,40 @@ public class PasswordGenerationConfigTest {
         assertFalse(config.isUseSpecial(), "useSpecial должен быть false");
     }
 
+    @Test
+    @DisplayName("Наборы символов задаются списком имён без учёта регистра и локали")
+    void testSetCharacterSets() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            config.setCharacterSets(" LATIN, digits,,Special ");
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+        assertTrue(config.isUseLatin() && config.isUseDigits() && config.isUseSpecial());
+        assertFalse(config.isUseCyrillic());
+
+        config.setCharacterSets("cyrillic");
+        assertTrue(config.isUseCyrillic());
+        assertFalse(config.isUseLatin() || config.isUseDigits() || config.isUseSpecial());
+    }
+
+    @Test
+    @DisplayName("Неизвестный или пустой список наборов символов отклоняется без изменения конфигурации")
+    void testSetCharacterSetsRejectsInvalidNames() {
+        config.setUseLatin(true);
+
+        IllegalArgumentException unknown = assertThrows(IllegalArgumentException.class,
+                () -> config.setCharacterSets("latin,greek"));
+        assertTrue(unknown.getMessage().contains("greek"));
+        assertThrows(IllegalArgumentException.class, () -> config.setCharacterSets(""));
+        assertThrows(IllegalArgumentException.class, () -> config.setCharacterSets(" , "));
+        assertThrows(NullPointerException.class, () -> config.setCharacterSets(null));
+
+        assertTrue(config.isUseLatin());
+        assertFalse(config.isUseDigits());
+    }
+
     @Test
     @DisplayName("Изменяет длину пароля")
     void testSetLength() {
@@ -177,6 +213,48 @@ public class PasswordGenerationConfigTest {
                 "Максимальная длина должна быть 1_000_000");
     }
 
+    @Test
+    @DisplayName("Предел длины зависит от режима генерации")
+    void testGetMaxPasswordLengthByMode() {
+        assertEquals(PasswordGenerationConfig.getMaxPasswordLength(),
+                PasswordGenerationConfig.getMaxPasswordLength(GenerationMode.IN_MEMORY));
+        assertTrue(PasswordGenerationConfig.getMaxPasswordLength(GenerationMode.STREAMING)
+                > Integer.MAX_VALUE, "Потоковый режим должен допускать длины больше int");
+    }
+
+    @Test
+    @DisplayName("Копия конфигурации равна оригиналу и не зависит от него")
+    void testCopyConstructor() {
+        PasswordGenerationConfig original = new PasswordGenerationConfig(12);
+        original.setUseLatin(true);
+        original.setUseDigits(true);
+        original.addRequiredCharacter('@');
+
+        PasswordGenerationConfig copy = new PasswordGenerationConfig(original);
+        assertEquals(original, copy);
+        assertEquals(original.hashCode(), copy.hashCode());
+
+        original.addRequiredCharacter('#');
+        original.setLength(20);
+        assertEquals(12, copy.getLength());
+        assertEquals(1, copy.getRequiredCharacterCount());
+    }
+
+    @Test
+    @DisplayName("Длина больше диапазона int доступна только через getLongLength")
+    void testLongLength() {
+        long length = Integer.MAX_VALUE + 10L;
+        PasswordGenerationConfig config = new PasswordGenerationConfig(length);
+
+        assertEquals(length, config.getLongLength());
+        assertThrows(IllegalStateException.class, config::getLength);
+
+        config.setLength(100);
+        assertEquals(100, config.getLength());
+        assertEquals(100L, config.getLongLength());
+        assertThrows(IllegalArgumentException.class, () -> config.setLength(0L));
+    }
+
     @Test
     @DisplayName("Конфигурации с одинаковыми параметрами равны")
     void testEqualsWithSameParameters() {
@@ -5,6 +5,19 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -202,4 +215,400 @@ public class PasswordGeneratorTest {
         assertEquals(10, password.length());
         assertTrue(password.matches(".*[a-zA-Z].*"));
     }
+
+    @Test
+    @DisplayName("Использует только символы выбранного алфавита")
+    void testGeneratePasswordUsesOnlyAlphabetCharacters() throws InvalidPasswordConfigException {
+        PasswordGenerationConfig config = new PasswordGenerationConfig(10_000);
+        config.setUseDigits(true);
+
+        String password = generator.generate(config);
+
+        assertEquals(10_000, password.length());
+        assertTrue(password.chars().allMatch(Character::isDigit),
+                "Пароль должен состоять только из цифр");
+        assertEquals(10, password.chars().distinct().count(),
+                "На такой длине должны встретиться все 10 цифр");
+    }
+
+    @Test
+    @DisplayName("Обязательные символы не из алфавита попадают в пароль")
+    void testGeneratePasswordWithRequiredCharactersOutsideAlphabet() throws InvalidPasswordConfigException {
+        PasswordGenerationConfig config = new PasswordGenerationConfig(3);
+        config.setUseDigits(true);
+        config.addRequiredCharacter('Ж');
+        config.addRequiredCharacter('z');
+        config.addRequiredCharacter('#');
+
+        String password = generator.generate(config);
+
+        assertEquals(3, password.length());
+        assertTrue(password.contains("Ж"));
+        assertTrue(password.contains("z"));
+        assertTrue(password.contains("#"));
+    }
+
+    @Test
+    @DisplayName("Генерирует пакет паролей заданного размера")
+    void testGenerateBatch() throws InvalidPasswordConfigException {
+        PasswordGenerationConfig config = new PasswordGenerationConfig(32);
+        config.setUseLatin(true);
+        config.setUseDigits(true);
+        config.addRequiredCharacter('#');
+
+        List<String> passwords = generator.generateBatch(config, 200);
+
+        assertEquals(200, passwords.size());
+        passwords.forEach(password -> {
+            assertEquals(32, password.length());
+            assertTrue(password.contains("#"), "Каждый пароль должен содержать обязательный символ");
+        });
+        assertEquals(200, new HashSet<>(passwords).size(), "Пароли пакета должны различаться");
+    }
+
+    @Test
+    @DisplayName("Пакет из нуля паролей пуст, отрицательный размер запрещён")
+    void testGenerateBatchEdgeCounts() throws InvalidPasswordConfigException {
+        PasswordGenerationConfig config = new PasswordGenerationConfig(8);
+        config.setUseLatin(true);
+
+        assertTrue(generator.generateBatch(config, 0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> generator.generateBatch(config, -1));
+    }
+
+    @Test
+    @DisplayName("Пакетная генерация проверяет конфигурацию")
+    void testGenerateBatchValidatesConfig() {
+        PasswordGenerationConfig config = new PasswordGenerationConfig(8);
+
+        assertThrows(InvalidPasswordConfigException.class, () -> generator.generateBatch(config, 5));
+    }
+
+    @Test
+    @DisplayName("Параллельная генерация длинного пароля")
+    void testGenerateParallelLongPassword() throws InvalidPasswordConfigException {
+        PasswordGenerationConfig config = new PasswordGenerationConfig(1_000_000);
+        config.setUseDigits(true);
+        config.addRequiredCharacter('Я');
+        config.addRequiredCharacter('!');
+
+        String password = generator.generateParallel(config);
+
+        assertEquals(1_000_000, password.length());
+        assertEquals(1, password.chars().filter(c -> c == 'Я').count(),
+                "Обязательный символ должен встретиться ровно один раз");
+        assertEquals(1, password.chars().filter(c -> c == '!').count());
+        assertEquals(999_998, password.chars().filter(Character::isDigit).count());
+    }
+
+    @Test
+    @DisplayName("Параллельная генерация короткого пароля работает как обычная")
+    void testGenerateParallelShortPassword() throws InvalidPasswordConfigException {
+        PasswordGenerationConfig config = new PasswordGenerationConfig(20);
+        config.setUseLatin(true);
+        config.addRequiredCharacter('7');
+
+        String password = generator.generateParallel(config);
+
+        assertEquals(20, password.length());
+        assertTrue(password.contains("7"));
+    }
+
+    @Test
+    @DisplayName("Генератор для многопоточного использования работает из разных потоков")
+    void testConcurrentGeneratorFromManyThreads() throws Exception {
+        PasswordGenerator sharedGenerator = PasswordGenerator.forConcurrentUse();
+        PasswordGenerationConfig config = new PasswordGenerationConfig(64);
+        config.setUseLatin(true);
+        config.setUseDigits(true);
+        config.addRequiredCharacter('@');
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(executor.submit(() -> sharedGenerator.generate(config)));
+            }
+            Set<String> passwords = new HashSet<>();
+            for (Future<String> future : futures) {
+                String password = future.get();
+                assertEquals(64, password.length());
+                assertTrue(password.contains("@"));
+                passwords.add(password);
+            }
+            assertEquals(100, passwords.size(), "Пароли из разных потоков должны различаться");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Обязательный символ равновероятно попадает на любую позицию")
+    void testRequiredCharacterPositionIsUniform() throws InvalidPasswordConfigException {
+        PasswordGenerator seededGenerator = new PasswordGenerator(new SeededRandomSource(2024));
+        PasswordGenerationConfig config = new PasswordGenerationConfig(10);
+        config.setUseDigits(true);
+        config.addRequiredCharacter('X');
+        int runs = 20_000;
+        int[] counts = new int[10];
+
+        for (String password : seededGenerator.generateBatch(config, runs)) {
+            assertEquals(password.indexOf('X'), password.lastIndexOf('X'));
+            counts[password.indexOf('X')]++;
+        }
+
+        double expected = runs / 10.0;
+        double chiSquare = 0;
+        for (int count : counts) {
+            chiSquare += (count - expected) * (count - expected) / expected;
+        }
+        // Критическое значение хи-квадрат для 9 степеней свободы при p = 0.001
+        assertTrue(chiSquare < 27.88, "Позиции должны быть равновероятны, хи-квадрат = " + chiSquare);
+    }
+
+    @Test
+    @DisplayName("Пароль полностью из обязательных символов содержит каждый ровно один раз")
+    void testPasswordOfOnlyRequiredCharacters() throws InvalidPasswordConfigException {
+        PasswordGenerationConfig config = new PasswordGenerationConfig(4);
+        config.setUseLatin(true);
+        config.addRequiredCharacter('1');
+        config.addRequiredCharacter('2');
+        config.addRequiredCharacter('3');
+        config.addRequiredCharacter('4');
+
+        String password = generator.generate(config);
+
+        assertEquals("1234", password.chars().sorted()
+                .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+                .toString());
+    }
+
+    @Test
+    @DisplayName("generateTo(Writer) пишет пароль нужной длины с обязательными символами на границах фрагментов")
+    void testGenerateToWriter() throws Exception {
+        for (int length : new int[]{1, 5, PasswordGenerator.STREAM_CHUNK_SIZE, PasswordGenerator.STREAM_CHUNK_SIZE + 1,
+                3 * PasswordGenerator.STREAM_CHUNK_SIZE + 17}) {
+            PasswordGenerationConfig config = new PasswordGenerationConfig(length);
+            config.setUseDigits(true);
+            if (length >= 2) {
+                config.addRequiredCharacter('X');
+                config.addRequiredCharacter('Y');
+            }
+            StringWriter writer = new StringWriter();
+
+            generator.generateTo(config, writer);
+
+            String password = writer.toString();
+            assertEquals(length, password.length(), "Длина пароля должна быть " + length);
+            if (length >= 2) {
+                assertEquals(1, password.chars().filter(c -> c == 'X').count());
+                assertEquals(1, password.chars().filter(c -> c == 'Y').count());
+            }
+            assertTrue(password.chars().allMatch(c -> Character.isDigit(c) || c == 'X' || c == 'Y'));
+        }
+    }
+
+    @Test
+    @DisplayName("generateTo(канал) пишет пароль в UTF-8")
+    void testGenerateToChannel() throws Exception {
+        PasswordGenerationConfig config = new PasswordGenerationConfig(20_000);
+        config.setUseCyrillic(true);
+        config.addRequiredCharacter('Z');
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long written = generator.generateTo(config, Channels.newChannel(output));
+
+        String password = output.toString(StandardCharsets.UTF_8);
+        assertEquals(20_000, password.length());
+        assertEquals(output.size(), written);
+        assertEquals(2L * 19_999 + 1, written, "Кириллица занимает 2 байта, латиница - 1");
+        assertEquals(1, password.chars().filter(c -> c == 'Z').count());
+    }
+
+    @Test
+    @DisplayName("generateTo проверяет конфигурацию")
+    void testGenerateToValidatesConfig() {
+        PasswordGenerationConfig config = new PasswordGenerationConfig(10);
+
+        assertThrows(InvalidPasswordConfigException.class, () -> generator.generateTo(config, new StringWriter()));
+    }
+
+    @Test
+    @DisplayName("Потоковая генерация равновероятно ставит обязательный символ в любой фрагмент")
+    void testGenerateToRequiredPositionIsUniform() throws Exception {
+        PasswordGenerator seededGenerator = new PasswordGenerator(new SeededRandomSource(77));
+        int length = 4 * PasswordGenerator.STREAM_CHUNK_SIZE;
+        PasswordGenerationConfig config = new PasswordGenerationConfig(length);
+        config.setUseDigits(true);
+        config.addRequiredCharacter('X');
+        int runs = 2000;
+        int[] counts = new int[8];
+
+        for (int run = 0; run < runs; run++) {
+            StringWriter writer = new StringWriter(length);
+            seededGenerator.generateTo(config, writer);
+            counts[writer.toString().indexOf('X') * counts.length / length]++;
+        }
+
+        double expected = runs / (double) counts.length;
+        double chiSquare = 0;
+        for (int count : counts) {
+            chiSquare += (count - expected) * (count - expected) / expected;
+        }
+        // Критическое значение хи-квадрат для 7 степеней свободы при p = 0.001
+        assertTrue(chiSquare < 24.32, "Позиции должны быть равновероятны, хи-квадрат = " + chiSquare);
+    }
+
+    @Test
+    @DisplayName("Потоковая генерация длинного пароля не держит его в памяти")
+    void testGenerateToUsesBoundedMemory() throws Exception {
+        PasswordGenerationConfig config = new PasswordGenerationConfig(1_000_000);
+        config.setUseLatin(true);
+        config.addRequiredCharacter('!');
+        long[] characters = new long[1];
+        Writer countingWriter = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) {
+                characters[0] += length;
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        // Детерминированный источник не выделяет память сам, в отличие от NativePRNG
+        PasswordGenerator seededGenerator = new PasswordGenerator(new SeededRandomSource(5));
+        seededGenerator.generateTo(config, countingWriter);
+
+        AllocationProfile.Snapshot snapshot = AllocationProfile.snapshot();
+        seededGenerator.generateTo(config, countingWriter);
+        AllocationProfile profile = snapshot.finish(1, 1_000_000);
+
+        assertEquals(2_000_000, characters[0]);
+        if (profile.getAllocatedBytes() != AllocationProfile.UNSUPPORTED) {
+            assertTrue(profile.getAllocatedBytes() < 256 * 1024,
+                    "Выделено слишком много памяти: " + profile.getAllocatedBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("Потоковый режим допускает пароли длиннее предела для генерации в памяти")
+    void testGenerateToAcceptsLengthAboveInMemoryLimit() throws Exception {
+        long length = PasswordGenerationConfig.getMaxPasswordLength() + 500_000L;
+        PasswordGenerationConfig config = new PasswordGenerationConfig(length);
+        config.setUseDigits(true);
+        config.addRequiredCharacter('#');
+        long[] counts = new long[2];
+        Writer countingWriter = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int count) {
+                counts[0] += count;
+                for (int i = offset; i < offset + count; i++) {
+                    if (buffer[i] == '#') {
+                        counts[1]++;
+                    }
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        new PasswordGenerator(new SeededRandomSource(11)).generateTo(config, countingWriter);
+
+        assertEquals(length, counts[0]);
+        assertEquals(1, counts[1], "Обязательный символ должен встретиться ровно один раз");
+        assertThrows(InvalidPasswordConfigException.class, () -> generator.generate(config),
+                "Генерация в память должна отклонять длину выше предела");
+    }
+
+    @Test
+    @DisplayName("Потоковый режим отклоняет длину выше своего предела")
+    void testGenerateToRejectsLengthAboveStreamingLimit() {
+        PasswordGenerationConfig config = new PasswordGenerationConfig(
+                PasswordGenerationConfig.getMaxPasswordLength(GenerationMode.STREAMING) + 1);
+        config.setUseLatin(true);
+
+        assertThrows(InvalidPasswordConfigException.class,
+                () -> generator.generateTo(config, new StringWriter()));
+    }
+
+    @Test
+    @DisplayName("Генератор принимает неизменяемую конфигурацию напрямую")
+    void testGenerateWithImmutableConfig() throws Exception {
+        ImmutablePasswordConfig config = ImmutablePasswordConfig.builder(30)
+                .useDigits(true)
+                .require("@#")
+                .build();
+
+        String password = generator.generate(config);
+        assertEquals(30, password.length());
+        assertTrue(password.indexOf('@') >= 0 && password.indexOf('#') >= 0);
+        for (char c : password.toCharArray()) {
+            assertTrue(Character.isDigit(c) || c == '@' || c == '#', "Недопустимый символ: " + c);
+        }
+
+        List<String> batch = generator.generateBatch(config, 50);
+        assertEquals(50, batch.size());
+        batch.forEach(p -> assertEquals(30, p.length()));
+    }
+
+    @Test
+    @DisplayName("Неизменяемая конфигурация проверяется так же, как изменяемая")
+    void testImmutableConfigValidation() {
+        ImmutablePasswordConfig noCharsets = ImmutablePasswordConfig.builder(10).build();
+        ImmutablePasswordConfig tooLong = ImmutablePasswordConfig
+                .builder(PasswordGenerationConfig.getMaxPasswordLength() + 1L).useLatin(true).build();
+
+        assertThrows(InvalidPasswordConfigException.class, () -> generator.generate(noCharsets));
+        assertThrows(InvalidPasswordConfigException.class, () -> generator.generate(tooLong));
+        assertThrows(IllegalArgumentException.class,
+                () -> generator.generateBatch(ImmutablePasswordConfig.builder(5).useLatin(true).build(), -1));
+    }
+
+    @Test
+    @DisplayName("Буфер на один вызов в виртуальном потоке зависит от объёма запроса")
+    void testCallBufferSize() {
+        assertEquals(PasswordGenerator.MIN_CALL_BUFFER_SIZE, PasswordGenerator.callBufferSize(1));
+        assertEquals(PasswordGenerator.MIN_CALL_BUFFER_SIZE, PasswordGenerator.callBufferSize(16));
+        assertEquals(2000, PasswordGenerator.callBufferSize(1000));
+        assertEquals(BufferedRandomSource.DEFAULT_BUFFER_SIZE, PasswordGenerator.callBufferSize(100_000));
+        assertEquals(BufferedRandomSource.DEFAULT_BUFFER_SIZE, PasswordGenerator.callBufferSize(Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Генерация в виртуальных потоках даёт корректные пароли")
+    void testGenerateOnVirtualThreads() throws Exception {
+        PasswordGenerationConfig config = new PasswordGenerationConfig(16);
+        config.setUseLatin(true);
+        config.addRequiredCharacter('#');
+        ExecutorService executor = TaskExecutors.newExecutor("generator-test", 4, TaskExecutors.ThreadKind.VIRTUAL);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                futures.add(executor.submit(() -> List.of(generator.generate(config),
+                        generator.generateBatch(config, 3).get(2))));
+            }
+            Set<String> unique = new HashSet<>();
+            for (Future<List<String>> future : futures) {
+                for (String password : future.get()) {
+                    assertEquals(16, password.length());
+                    assertTrue(password.indexOf('#') >= 0);
+                    unique.add(password);
+                }
+            }
+            assertEquals(100, unique.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,244 @@
+package com.passwordGenerator.core;
+
+import com.passwordGenerator.core.PasswordPool.Metrics;
+import com.passwordGenerator.exceptions.InvalidPasswordConfigException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса PasswordPool.
+ * Проверяют однократную выдачу паролей, фоновое дополнение, устаревание и метрики.
+ *
+ * @author Test Suite
+ * @see PasswordPool
+ */
+@DisplayName("PasswordPool Unit Tests")
+public class PasswordPoolTest {
+
+    private PasswordPool pool;
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    private static ImmutablePasswordConfig createConfig(int length) {
+        return ImmutablePasswordConfig.builder(length).useLatin(true).useDigits(true).build();
+    }
+
+    private static void awaitSize(PasswordPool pool, ImmutablePasswordConfig config, int expected)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (pool.size(config) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, pool.size(config), "Очередь не заполнилась вовремя");
+    }
+
+    @Test
+    @DisplayName("Пул заполняется в фоне и выдаёт пароли из очереди")
+    void testPrefillAndHits() throws Exception {
+        pool = new PasswordPool(PasswordGenerator.forConcurrentUse(), 32, 8, Duration.ofMinutes(1));
+        ImmutablePasswordConfig config = createConfig(20);
+
+        pool.prefill(config);
+        awaitSize(pool, config, 32);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(20, pool.take(config).length());
+        }
+
+        Metrics metrics = pool.getMetrics();
+        assertEquals(10, metrics.getHits());
+        assertEquals(0, metrics.getMisses());
+        assertTrue(metrics.getRefills() >= 1);
+        assertTrue(metrics.getMaxRefillLagNanos() > 0);
+    }
+
+    @Test
+    @DisplayName("Очередь дополняется после падения до порога")
+    void testRefillBelowLowWaterMark() throws Exception {
+        pool = new PasswordPool(PasswordGenerator.forConcurrentUse(), 16, 4, Duration.ofMinutes(1));
+        ImmutablePasswordConfig config = createConfig(12);
+        pool.prefill(config);
+        awaitSize(pool, config, 16);
+        long refillsBefore = pool.getMetrics().getRefills();
+
+        for (int i = 0; i < 12; i++) {
+            pool.take(config);
+        }
+
+        awaitSize(pool, config, 16);
+        assertTrue(pool.getMetrics().getRefills() > refillsBefore);
+    }
+
+    @Test
+    @DisplayName("Пустой пул генерирует пароль в вызывающем потоке и считает промах")
+    void testMissGeneratesSynchronously() throws Exception {
+        pool = new PasswordPool(PasswordGenerator.forConcurrentUse(), 8, 2, Duration.ofMinutes(1));
+        ImmutablePasswordConfig config = ImmutablePasswordConfig.builder(10)
+                .useLatin(true).useDigits(true).require('#').build();
+
+        String password = pool.take(config);
+
+        assertEquals(10, password.length());
+        assertTrue(password.indexOf('#') >= 0);
+        assertEquals(1, pool.getMetrics().getMisses());
+    }
+
+    @Test
+    @DisplayName("Каждый пароль выдаётся ровно один раз при конкурентной выдаче")
+    void testEachPasswordHandedOutOnce() throws Exception {
+        pool = new PasswordPool(PasswordGenerator.forConcurrentUse(), 64, 16, Duration.ofMinutes(1));
+        ImmutablePasswordConfig config = createConfig(24);
+        pool.prefill(config);
+        awaitSize(pool, config, 64);
+
+        ExecutorService executor = TaskExecutors.newExecutor("pool-test", 8, TaskExecutors.ThreadKind.PLATFORM);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    List<String> taken = new ArrayList<>();
+                    for (int i = 0; i < 250; i++) {
+                        taken.add(pool.take(config));
+                    }
+                    return taken;
+                }));
+            }
+            Set<String> unique = new HashSet<>();
+            for (Future<List<String>> future : futures) {
+                for (String password : future.get()) {
+                    assertTrue(unique.add(password), "Пароль выдан повторно: " + password);
+                }
+            }
+            assertEquals(2000, unique.size());
+        } finally {
+            executor.shutdownNow();
+        }
+        Metrics metrics = pool.getMetrics();
+        assertEquals(2000, metrics.getHits() + metrics.getMisses());
+    }
+
+    @Test
+    @DisplayName("Устаревшие пароли отбрасываются, а не выдаются")
+    void testExpiredPasswordsAreDiscarded() throws Exception {
+        pool = new PasswordPool(PasswordGenerator.forConcurrentUse(), 8, 0, Duration.ofMillis(200));
+        ImmutablePasswordConfig config = createConfig(16);
+        pool.prefill(config);
+        awaitSize(pool, config, 8);
+
+        Thread.sleep(300);
+        pool.take(config);
+
+        Metrics metrics = pool.getMetrics();
+        assertEquals(8, metrics.getExpired());
+        assertEquals(1, metrics.getMisses());
+        assertEquals(0, metrics.getHits());
+    }
+
+    @Test
+    @DisplayName("Фоновая очистка отбрасывает устаревшие пароли и удаляет неиспользуемую очередь")
+    void testSweepDropsExpiredPasswordsWithoutTake() throws Exception {
+        pool = new PasswordPool(PasswordGenerator.forConcurrentUse(), 8, 0, Duration.ofMillis(100));
+        ImmutablePasswordConfig config = createConfig(16);
+        pool.prefill(config);
+        awaitSize(pool, config, 8);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (pool.getMetrics().getEvictedQueues() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        Metrics metrics = pool.getMetrics();
+        assertEquals(0, pool.size(config));
+        assertEquals(8, metrics.getExpired());
+        assertEquals(1, metrics.getEvictedQueues());
+        assertEquals(0, metrics.getHits() + metrics.getMisses());
+    }
+
+    @Test
+    @DisplayName("Конфигурация, не поместившаяся в бюджет символов, не пулится")
+    void testCharacterBudget() throws Exception {
+        pool = new PasswordPool(PasswordGenerator.forConcurrentUse(), 8, 2, Duration.ofMinutes(1), 8 * 20);
+        ImmutablePasswordConfig pooled = createConfig(20);
+        ImmutablePasswordConfig overBudget = createConfig(10);
+        pool.prefill(pooled);
+        awaitSize(pool, pooled, 8);
+
+        pool.prefill(overBudget);
+        assertEquals(10, pool.take(overBudget).length());
+        assertEquals(0, pool.size(overBudget));
+        assertEquals(1, pool.getMetrics().getMisses());
+        assertEquals(20, pool.take(pooled).length());
+        assertEquals(1, pool.getMetrics().getHits());
+    }
+
+    @Test
+    @DisplayName("Удаление простаивающей очереди освобождает бюджет символов")
+    void testEvictionReleasesBudget() throws Exception {
+        pool = new PasswordPool(PasswordGenerator.forConcurrentUse(), 8, 0, Duration.ofMillis(100), 8 * 20);
+        ImmutablePasswordConfig first = createConfig(20);
+        ImmutablePasswordConfig second = createConfig(12);
+        pool.prefill(first);
+        awaitSize(pool, first, 8);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (pool.getMetrics().getEvictedQueues() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        pool.prefill(second);
+        awaitSize(pool, second, 8);
+    }
+
+    @Test
+    @DisplayName("Равные неизменяемые конфигурации делят одну очередь")
+    void testEqualKeysShareQueue() throws Exception {
+        pool = new PasswordPool(PasswordGenerator.forConcurrentUse(), 8, 2, Duration.ofMinutes(1));
+        PasswordGenerationConfig mutable = new PasswordGenerationConfig(14);
+        mutable.setUseLatin(true);
+        mutable.setUseDigits(true);
+        ImmutablePasswordConfig fromMutable = ImmutablePasswordConfig.from(mutable);
+        pool.prefill(fromMutable);
+        awaitSize(pool, fromMutable, 8);
+
+        ImmutablePasswordConfig built = createConfig(14);
+        assertEquals(8, pool.size(built));
+        assertEquals(14, pool.take(built).length());
+        assertEquals(1, pool.getMetrics().getHits());
+        assertEquals(0, pool.size(createConfig(15)));
+    }
+
+    @Test
+    @DisplayName("Некорректная конфигурация и закрытый пул отклоняются")
+    void testValidation() {
+        pool = new PasswordPool();
+        ImmutablePasswordConfig invalid = ImmutablePasswordConfig.builder(10).build();
+
+        assertThrows(InvalidPasswordConfigException.class, () -> pool.take(invalid));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PasswordPool(new PasswordGenerator(), 8, 8, Duration.ofMinutes(1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PasswordPool(new PasswordGenerator(), 8, 2, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PasswordPool(new PasswordGenerator(), 8, 2, Duration.ofMinutes(1), 0));
+
+        pool.close();
+        assertThrows(IllegalStateException.class, () -> pool.take(createConfig(10)));
+    }
+}
@@ -0,0 +1,126 @@
+package com.passwordGenerator.core;
+
+import com.passwordGenerator.exceptions.InvalidPasswordConfigException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit-тесты для реализаций RandomSource.
+ * Тестируют детерминированность, разделение источников и подключение к генератору.
+ *
+ * @author Test Suite
+ * @see RandomSource
+ * @see SecureRandomSource
+ * @see SeededRandomSource
+ * @see ThreadLocalRandomSource
+ */
+@DisplayName("RandomSource Unit Tests")
+public class RandomSourceTest {
+
+    @Test
+    @DisplayName("Источник с одинаковым зерном выдаёт одинаковую последовательность")
+    void testSeededSourceIsDeterministic() {
+        RandomSource first = new SeededRandomSource(42);
+        RandomSource second = new SeededRandomSource(42);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.nextInt(1000), second.nextInt(1000));
+        }
+        byte[] firstBytes = new byte[16];
+        byte[] secondBytes = new byte[16];
+        first.nextBytes(firstBytes);
+        second.nextBytes(secondBytes);
+        assertArrayEquals(firstBytes, secondBytes);
+    }
+
+    @Test
+    @DisplayName("Генераторы с одинаковым зерном выдают одинаковые пароли")
+    void testSeededGeneratorsProduceSamePasswords() throws InvalidPasswordConfigException {
+        PasswordGenerationConfig config = new PasswordGenerationConfig(40);
+        config.setUseLatin(true);
+        config.setUseDigits(true);
+        config.addRequiredCharacter('%');
+
+        PasswordGenerator first = new PasswordGenerator(new SeededRandomSource(7));
+        PasswordGenerator second = new PasswordGenerator(new SeededRandomSource(7));
+
+        assertEquals(first.generate(config), second.generate(config));
+    }
+
+    @Test
+    @DisplayName("Разделённые детерминированные источники независимы и воспроизводимы")
+    void testSeededSplit() {
+        RandomSource parent = new SeededRandomSource(1);
+        RandomSource child = parent.split();
+        RandomSource sameChild = new SeededRandomSource(1).split();
+
+        long value = child.nextLong();
+        assertEquals(value, sameChild.nextLong(), "Разделение должно быть воспроизводимым");
+        assertNotEquals(value, parent.nextLong());
+    }
+
+    @Test
+    @DisplayName("DRBG с заданной стойкостью выдаёт числа в диапазоне")
+    void testDrbgSource() {
+        SecureRandomSource source = SecureRandomSource.drbg(256);
+
+        assertEquals("DRBG", source.getAlgorithm());
+        assertTrue(source.toString().contains("256"), "Описание должно содержать стойкость");
+        for (int i = 0; i < 1000; i++) {
+            int value = source.nextInt(10);
+            assertTrue(value >= 0 && value < 10);
+        }
+        assertEquals("DRBG", source.split().getAlgorithm(), "Разделённый источник сохраняет алгоритм");
+    }
+
+    @Test
+    @DisplayName("NativePRNGNonBlocking доступен на Unix-подобных системах")
+    void testNativeNonBlockingSource() {
+        assumeTrue(!System.getProperty("os.name").toLowerCase().contains("win"));
+
+        SecureRandomSource source = SecureRandomSource.nativeNonBlocking();
+
+        assertEquals("NativePRNGNonBlocking", source.getAlgorithm());
+        byte[] bytes = new byte[32];
+        source.nextBytes(bytes);
+        assertFalse(Arrays.equals(new byte[32], bytes));
+    }
+
+    @Test
+    @DisplayName("Потоковый источник выдаёт разным потокам разные экземпляры")
+    void testThreadLocalSourceGivesEachThreadOwnInstance() throws InterruptedException {
+        ThreadLocalRandomSource source = new ThreadLocalRandomSource(SecureRandomSource::new);
+        AtomicReference<RandomSource> otherThreadSource = new AtomicReference<>();
+
+        Thread thread = new Thread(() -> otherThreadSource.set(source.forCurrentThread()));
+        thread.start();
+        thread.join();
+
+        assertSame(source.forCurrentThread(), source.forCurrentThread());
+        assertNotSame(source.forCurrentThread(), otherThreadSource.get());
+    }
+
+    @Test
+    @DisplayName("Параллельная генерация с детерминированным источником воспроизводима")
+    void testParallelGenerationWithSeededSource() throws InvalidPasswordConfigException {
+        PasswordGenerationConfig config = new PasswordGenerationConfig(200_000);
+        config.setUseSpecial(true);
+        config.addRequiredCharacter('Q');
+
+        String first = new PasswordGenerator(new SeededRandomSource(3)).generateParallel(config);
+        String second = new PasswordGenerator(new SeededRandomSource(3)).generateParallel(config);
+
+        assertEquals(first, second);
+        Set<Character> distinct = new HashSet<>();
+        first.chars().forEach(c -> distinct.add((char) c));
+        assertEquals(27, distinct.size(), "26 спецсимволов и обязательный символ");
+    }
+}
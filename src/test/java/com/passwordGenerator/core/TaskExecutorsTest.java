@@ -0,0 +1,85 @@
+package com.passwordGenerator.core;
+
+import com.passwordGenerator.core.TaskExecutors.ThreadKind;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса TaskExecutors.
+ * Проверяют имена потоков и откат на обычные потоки без поддержки виртуальных.
+ *
+ * @author Test Suite
+ * @see TaskExecutors
+ */
+@DisplayName("TaskExecutors Unit Tests")
+public class TaskExecutorsTest {
+
+    @Test
+    @DisplayName("Обычный исполнитель создаёт именованные потоки-демоны")
+    void testPlatformExecutor() throws Exception {
+        ExecutorService executor = TaskExecutors.newExecutor("worker", 2, ThreadKind.PLATFORM);
+        try {
+            Thread thread = executor.submit(Thread::currentThread).get();
+
+            assertTrue(thread.getName().startsWith("worker-"), thread.getName());
+            assertTrue(thread.isDaemon());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Виртуальные потоки запрашиваются, только если JVM их поддерживает")
+    void testVirtualExecutorFallsBack() throws Exception {
+        ThreadKind expected = TaskExecutors.isVirtualThreadSupported() ? ThreadKind.VIRTUAL : ThreadKind.PLATFORM;
+        assertEquals(expected, TaskExecutors.effectiveKind(ThreadKind.VIRTUAL));
+        assertEquals(ThreadKind.PLATFORM, TaskExecutors.effectiveKind(ThreadKind.PLATFORM));
+
+        ExecutorService executor = TaskExecutors.newExecutor("virtual", 1, ThreadKind.VIRTUAL);
+        try {
+            assertEquals(42, executor.submit(() -> 42).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Виртуальный поток распознаётся, только если он действительно виртуальный")
+    void testIsCurrentThreadVirtual() throws Exception {
+        assertFalse(TaskExecutors.isCurrentThreadVirtual());
+
+        ExecutorService executor = TaskExecutors.newExecutor("virtual-check", 1, ThreadKind.VIRTUAL);
+        try {
+            assertEquals(TaskExecutors.isVirtualThreadSupported(),
+                    executor.submit(TaskExecutors::isCurrentThreadVirtual).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Фоновый поток получает заданное имя и выполняет задачу")
+    void testStartThread() throws Exception {
+        AtomicReference<String> name = new AtomicReference<>();
+
+        Thread thread = TaskExecutors.startThread("background-task",
+                () -> name.set(Thread.currentThread().getName()), ThreadKind.PLATFORM);
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertEquals("background-task", name.get());
+    }
+
+    @Test
+    @DisplayName("Количество потоков должно быть положительным")
+    void testInvalidParallelism() {
+        assertThrows(IllegalArgumentException.class,
+                () -> TaskExecutors.newExecutor("worker", 0, ThreadKind.PLATFORM));
+    }
+}
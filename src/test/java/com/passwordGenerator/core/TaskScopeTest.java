@@ -0,0 +1,162 @@
+package com.passwordGenerator.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса TaskScope.
+ * Проверяют порядок результатов, ограничение параллелизма и отмену подзадач.
+ *
+ * @author Test Suite
+ * @see TaskScope
+ */
+@DisplayName("TaskScope Unit Tests")
+public class TaskScopeTest {
+
+    private final ExecutorService executor = TaskExecutors.newExecutor("task-scope-test", 8,
+            TaskExecutors.ThreadKind.PLATFORM);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Результаты возвращаются в порядке запуска")
+    void testJoinPreservesForkOrder() throws Exception {
+        List<Integer> delivered = new ArrayList<>();
+        try (TaskScope<Integer> scope = new TaskScope<>(executor, 4, new CancellationToken())) {
+            for (int i = 0; i < 20; i++) {
+                int value = i;
+                scope.fork(() -> {
+                    Thread.sleep((20 - value) % 5);
+                    return value;
+                });
+            }
+            List<Integer> results = scope.join(delivered::add);
+
+            assertEquals(20, results.size());
+            for (int i = 0; i < 20; i++) {
+                assertEquals(i, results.get(i));
+            }
+            assertEquals(results, delivered);
+        }
+    }
+
+    @Test
+    @DisplayName("Одновременно выполняется не больше заданного количества подзадач")
+    void testBoundedParallelism() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        try (TaskScope<Integer> scope = new TaskScope<>(executor, 3, new CancellationToken())) {
+            for (int i = 0; i < 30; i++) {
+                scope.fork(() -> {
+                    int now = running.incrementAndGet();
+                    maxRunning.accumulateAndGet(now, Math::max);
+                    Thread.sleep(2);
+                    running.decrementAndGet();
+                    return now;
+                });
+            }
+            scope.join();
+        }
+
+        assertTrue(maxRunning.get() <= 3, "Выполнялось одновременно: " + maxRunning.get());
+    }
+
+    @Test
+    @DisplayName("Ошибка подзадачи отменяет остальные и передаётся из join")
+    void testFailureCancelsSiblings() throws Exception {
+        CancellationToken parent = new CancellationToken();
+        CountDownLatch siblingStarted = new CountDownLatch(1);
+        AtomicInteger interrupted = new AtomicInteger();
+        try (TaskScope<Integer> scope = new TaskScope<>(executor, 2, parent)) {
+            scope.fork(() -> {
+                siblingStarted.countDown();
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+                } catch (InterruptedException e) {
+                    interrupted.incrementAndGet();
+                }
+                return 0;
+            });
+            scope.fork(() -> {
+                siblingStarted.await();
+                throw new IllegalStateException("сбой");
+            });
+
+            ExecutionException exception = assertThrows(ExecutionException.class, scope::join);
+            assertInstanceOf(IllegalStateException.class, exception.getCause());
+            assertTrue(scope.getCancellation().isCancelled());
+            assertThrows(CancellationException.class, () -> scope.fork(() -> 1));
+        }
+
+        assertFalse(parent.isCancelled(), "Ошибка подзадачи не должна отменять внешнюю операцию");
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(1, interrupted.get());
+    }
+
+    @Test
+    @DisplayName("Внешняя отмена видна подзадачам через признак области")
+    void testParentCancellationReachesSubtasks() throws Exception {
+        CancellationToken parent = new CancellationToken();
+        try (TaskScope<Integer> scope = new TaskScope<>(executor, 2, parent)) {
+            scope.fork(() -> {
+                while (true) {
+                    scope.getCancellation().throwIfCancelled();
+                    Thread.onSpinWait();
+                }
+            });
+            parent.cancel();
+
+            assertThrows(CancellationException.class, scope::join);
+        }
+    }
+
+    @Test
+    @DisplayName("После внешней отмены join бросает CancellationException, а не ExecutionException")
+    void testJoinAfterOutsideCancelThrowsCancellation() throws Exception {
+        CancellationToken parent = new CancellationToken();
+        CountDownLatch started = new CountDownLatch(2);
+        try (TaskScope<Integer> scope = new TaskScope<>(executor, 4, parent)) {
+            scope.fork(() -> 1);
+            for (int i = 0; i < 2; i++) {
+                scope.fork(() -> {
+                    started.countDown();
+                    while (true) {
+                        scope.getCancellation().throwIfCancelled();
+                        Thread.onSpinWait();
+                    }
+                });
+            }
+            started.await();
+            parent.cancel();
+
+            CancellationException exception = assertThrows(CancellationException.class, scope::join);
+            assertFalse(exception.getCause() instanceof ExecutionException);
+            assertThrows(CancellationException.class, () -> scope.fork(() -> 2));
+        }
+
+        assertTrue(parent.isCancelled());
+    }
+
+    @Test
+    @DisplayName("Конструктор проверяет степень параллелизма")
+    void testConstructorValidation() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TaskScope<Integer>(executor, 0, new CancellationToken()));
+    }
+}
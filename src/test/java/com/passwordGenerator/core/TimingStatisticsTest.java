@@ -0,0 +1,76 @@
+package com.passwordGenerator.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса TimingStatistics.
+ * Проверяют вычисление перцентилей, стандартного отклонения и доверительного интервала.
+ *
+ * @author Test Suite
+ * @see TimingStatistics
+ */
+@DisplayName("TimingStatistics Unit Tests")
+public class TimingStatisticsTest {
+
+    @Test
+    @DisplayName("Вычисляет перцентили методом ближайшего ранга")
+    void testPercentiles() {
+        long[] samples = new long[100];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = 100 - i;
+        }
+
+        TimingStatistics statistics = TimingStatistics.of(samples);
+
+        assertEquals(1, statistics.getMin());
+        assertEquals(50, statistics.getMedian());
+        assertEquals(90, statistics.getP90());
+        assertEquals(99, statistics.getP99());
+        assertEquals(100, statistics.getMax());
+        assertEquals(50.5, statistics.getMean(), 1e-9);
+        assertEquals(100, statistics.getSampleCount());
+    }
+
+    @Test
+    @DisplayName("Вычисляет выборочное стандартное отклонение и интервал Стьюдента")
+    void testStandardDeviationAndConfidenceInterval() {
+        TimingStatistics statistics = TimingStatistics.of(new long[]{2, 4, 4, 4, 5, 5, 7, 9});
+
+        assertEquals(5.0, statistics.getMean(), 1e-9);
+        assertEquals(Math.sqrt(32.0 / 7), statistics.getStandardDeviation(), 1e-9);
+        double halfWidth = 2.365 * Math.sqrt(32.0 / 7) / Math.sqrt(8);
+        assertEquals(5.0 - halfWidth, statistics.getConfidenceLow(), 1e-9);
+        assertEquals(5.0 + halfWidth, statistics.getConfidenceHigh(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Одно измерение даёт нулевой разброс")
+    void testSingleSample() {
+        TimingStatistics statistics = TimingStatistics.of(new long[]{42});
+
+        assertEquals(42, statistics.getMin());
+        assertEquals(42, statistics.getMedian());
+        assertEquals(42, statistics.getP99());
+        assertEquals(0.0, statistics.getStandardDeviation());
+        assertEquals(0.0, statistics.getConfidenceHalfWidth());
+    }
+
+    @Test
+    @DisplayName("Пустая выборка запрещена")
+    void testEmptySamples() {
+        assertThrows(IllegalArgumentException.class, () -> TimingStatistics.of(new long[0]));
+    }
+
+    @Test
+    @DisplayName("Не изменяет исходный массив измерений")
+    void testSamplesAreNotModified() {
+        long[] samples = {3, 1, 2};
+
+        TimingStatistics.of(samples);
+
+        assertArrayEquals(new long[]{3, 1, 2}, samples);
+    }
+}
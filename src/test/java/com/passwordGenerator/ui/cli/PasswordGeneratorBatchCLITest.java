@@ -0,0 +1,273 @@
+package com.passwordGenerator.ui.cli;
+
+import com.passwordGenerator.core.BaselineComparison;
+import com.passwordGenerator.core.BenchmarkReport;
+import com.passwordGenerator.core.PasswordBatchExporter.FsyncPolicy;
+import com.passwordGenerator.core.PasswordCreationTimeEstimator.PerformanceResult;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса PasswordGeneratorBatchCLI.
+ * Проверяют разбор аргументов, коды завершения, вывод паролей в stdout и файл
+ * и режим теста производительности со сравнением с базовым отчётом.
+ *
+ * @author Test Suite
+ * @see PasswordGeneratorBatchCLI
+ */
+@DisplayName("PasswordGeneratorBatchCLI Unit Tests")
+public class PasswordGeneratorBatchCLITest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+
+    private int run(String... args) {
+        PasswordGeneratorBatchCLI cli = new PasswordGeneratorBatchCLI(Channels.newChannel(stdout),
+                new PrintStream(stderr, true, StandardCharsets.UTF_8));
+        return cli.run(args);
+    }
+
+    private List<String> stdoutLines() {
+        return stdout.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    @Test
+    @DisplayName("Без аргументов используются значения по умолчанию")
+    void testParseDefaults() {
+        PasswordGeneratorBatchCLI.Options options = PasswordGeneratorBatchCLI.parse(new String[0]);
+
+        assertEquals(16, options.config.getLength());
+        assertEquals(1, options.count);
+        assertTrue(options.config.isUseLatin() && options.config.isUseDigits());
+        assertFalse(options.config.isUseCyrillic() || options.config.isUseSpecial());
+        assertEquals("", options.required);
+        assertEquals(1, options.threads);
+        assertNull(options.out);
+        assertEquals(FsyncPolicy.NONE, options.fsyncPolicy);
+        assertFalse(options.help);
+        assertNull(options.benchmark);
+        assertEquals(16, PasswordGeneratorBatchCLI.parse(null).config.getLength());
+    }
+
+    @Test
+    @DisplayName("Все поддерживаемые аргументы разбираются")
+    void testParseAllOptions() {
+        PasswordGeneratorBatchCLI.Options options = PasswordGeneratorBatchCLI.parse(new String[]{
+                "--ui=cli", "--length=24", "--count=5000000000", "--charsets=cyrillic, special",
+                "--require=@#", "--threads=4", "--out=passwords.txt", "--fsync=buffer"});
+
+        assertEquals(24, options.config.getLength());
+        assertEquals(5_000_000_000L, options.count);
+        assertFalse(options.config.isUseLatin() || options.config.isUseDigits());
+        assertTrue(options.config.isUseCyrillic() && options.config.isUseSpecial());
+        assertEquals("@#", options.required);
+        assertEquals(4, options.threads);
+        assertEquals(Path.of("passwords.txt"), options.out);
+        assertEquals(FsyncPolicy.EVERY_BUFFER, options.fsyncPolicy);
+
+        assertEquals(FsyncPolicy.ON_FINISH, PasswordGeneratorBatchCLI.parse(new String[]{"--fsync=FINISH"}).fsyncPolicy);
+        assertTrue(PasswordGeneratorBatchCLI.parse(new String[]{"-h"}).help);
+        assertTrue(PasswordGeneratorBatchCLI.parse(new String[]{"--help"}).help);
+    }
+
+    @Test
+    @DisplayName("Значения в верхнем регистре разбираются и при турецкой локали")
+    void testParseUpperCaseUnderTurkishLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            PasswordGeneratorBatchCLI.Options options = PasswordGeneratorBatchCLI.parse(new String[]{
+                    "--charsets=LATIN,DIGITS", "--fsync=FINISH"});
+
+            assertTrue(options.config.isUseLatin() && options.config.isUseDigits());
+            assertEquals(FsyncPolicy.ON_FINISH, options.fsyncPolicy);
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    @DisplayName("Некорректные аргументы отклоняются")
+    void testParseRejectsInvalidOptions() {
+        String[][] invalid = {
+                {"--length"},
+                {"length=5"},
+                {"--unknown=1"},
+                {"--length=0"},
+                {"--length=abc"},
+                {"--length=3000000000"},
+                {"--count=-1"},
+                {"--threads=0"},
+                {"--charsets=greek"},
+                {"--charsets=,"},
+                {"--out= "},
+                {"--fsync=always"},
+                {"--benchmark=fast"},
+                {"--benchmark=100:200"},
+                {"--benchmark=300:100:10"},
+                {"--benchmark-out="},
+                {"--threshold=-1", "--baseline=base.json"},
+                {"--threshold=abc", "--baseline=base.json"},
+                {"--threshold=NaN", "--baseline=base.json"},
+                {"--threshold=5"},
+        };
+        for (String[] args : invalid) {
+            assertThrows(IllegalArgumentException.class, () -> PasswordGeneratorBatchCLI.parse(args),
+                    "Аргумент должен быть отклонён: " + args[0]);
+        }
+    }
+
+    @Test
+    @DisplayName("Аргументы теста производительности разбираются")
+    void testParseBenchmarkOptions() {
+        PasswordGeneratorBatchCLI.Options range = PasswordGeneratorBatchCLI.parse(new String[]{
+                "--benchmark=1000:3000:1000", "--benchmark-out=report.csv", "--baseline=base.json",
+                "--threshold=2.5"});
+        assertEquals(PasswordGeneratorBatchCLI.Benchmark.RANGE, range.benchmark);
+        assertEquals(List.of(1000, 2000, 3000), range.benchmarkSweep.getLengths());
+        assertEquals(Path.of("report.csv"), range.benchmarkOut);
+        assertEquals(Path.of("base.json"), range.baseline);
+        assertEquals(2.5, range.threshold, 1e-9);
+
+        PasswordGeneratorBatchCLI.Options implicit = PasswordGeneratorBatchCLI.parse(new String[]{
+                "--baseline=base.json"});
+        assertEquals(PasswordGeneratorBatchCLI.Benchmark.QUICK, implicit.benchmark);
+        assertEquals(BaselineComparison.DEFAULT_THRESHOLD_PERCENT, implicit.threshold, 1e-9);
+        assertEquals(PasswordGeneratorBatchCLI.Benchmark.DETAILED,
+                PasswordGeneratorBatchCLI.parse(new String[]{"--benchmark=DETAILED"}).benchmark);
+    }
+
+    @Test
+    @DisplayName("Пароли пишутся в stdout по одному на строку, код завершения 0")
+    void testRunWritesToStdout() {
+        int exitCode = run("--ui=cli", "--length=12", "--count=50", "--require=@");
+
+        assertEquals(PasswordGeneratorBatchCLI.EXIT_OK, exitCode);
+        List<String> lines = stdoutLines();
+        assertEquals(50, lines.size());
+        for (String line : lines) {
+            assertEquals(12, line.length());
+            assertTrue(line.indexOf('@') >= 0, "В пароле нет обязательного символа: " + line);
+        }
+        assertEquals("", stderr.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("С --out и несколькими потоками пароли пишутся в файл, stdout пуст")
+    void testRunWritesToFile() throws Exception {
+        Path file = tempDir.resolve("passwords.txt");
+
+        int exitCode = run("--length=20", "--count=1000", "--threads=3", "--charsets=cyrillic",
+                "--out=" + file, "--fsync=finish");
+
+        assertEquals(PasswordGeneratorBatchCLI.EXIT_OK, exitCode);
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(1000, lines.size());
+        lines.forEach(line -> assertEquals(20, line.length()));
+        assertEquals(0, stdout.size());
+    }
+
+    @Test
+    @DisplayName("Справка выводится в stderr с кодом 0")
+    void testHelpExitCode() {
+        assertEquals(PasswordGeneratorBatchCLI.EXIT_OK, run("--help"));
+        assertTrue(stderr.toString(StandardCharsets.UTF_8).contains("Использование"));
+        assertEquals(0, stdout.size());
+    }
+
+    @Test
+    @DisplayName("Некорректные аргументы и конфигурация завершаются с кодом 2")
+    void testUsageErrorExitCode() {
+        assertEquals(PasswordGeneratorBatchCLI.EXIT_USAGE_ERROR, run("--length=abc"));
+        String message = stderr.toString(StandardCharsets.UTF_8);
+        assertTrue(message.contains("--length"));
+        assertTrue(message.contains("Использование"));
+
+        assertEquals(PasswordGeneratorBatchCLI.EXIT_USAGE_ERROR, run("--length=2", "--require=abc"));
+        assertEquals(PasswordGeneratorBatchCLI.EXIT_USAGE_ERROR, run("--length=2000000"));
+        assertEquals(0, stdout.size());
+    }
+
+    @Test
+    @DisplayName("Ошибка записи в файл завершается с кодом 1")
+    void testIoErrorExitCode() {
+        Path missingDirectory = tempDir.resolve("missing").resolve("passwords.txt");
+
+        assertEquals(PasswordGeneratorBatchCLI.EXIT_IO_ERROR, run("--out=" + missingDirectory));
+        assertTrue(stderr.toString(StandardCharsets.UTF_8).contains("Ошибка записи"));
+        assertEquals(PasswordGeneratorBatchCLI.EXIT_IO_ERROR, run("--out=" + tempDir));
+    }
+
+    private static BenchmarkReport baseline(double nanos, int... lengths) {
+        PerformanceResult[] results = new PerformanceResult[lengths.length];
+        for (int i = 0; i < lengths.length; i++) {
+            results[i] = new PerformanceResult(lengths[i], nanos, 1);
+        }
+        return new BenchmarkReport(Map.of(BenchmarkReport.TEST_NAME, "базовый"), List.of(results));
+    }
+
+    @Test
+    @DisplayName("Тест производительности сохраняет отчёт и пишет таблицу в stdout")
+    void testBenchmarkSavesReport() throws Exception {
+        Path report = tempDir.resolve("report.json");
+
+        int exitCode = run("--ui=cli", "--benchmark=100:300:100", "--benchmark-out=" + report);
+
+        assertEquals(PasswordGeneratorBatchCLI.EXIT_OK, exitCode, stderr.toString(StandardCharsets.UTF_8));
+        assertTrue(stdout.size() > 0);
+        List<PerformanceResult> results = BenchmarkReport.load(report).getResults();
+        assertEquals(List.of(100, 200, 300), results.stream().map(PerformanceResult::getPasswordLength).toList());
+    }
+
+    @Test
+    @DisplayName("Сравнение с базовым отчётом: 0 без регрессии, 3 при регрессии")
+    void testBenchmarkBaselineExitCodes() throws Exception {
+        Path slowBaseline = tempDir.resolve("slow.csv");
+        baseline(1e15, 100, 200).save(slowBaseline);
+        Path fastBaseline = tempDir.resolve("fast.json");
+        baseline(1e-3, 100, 200).save(fastBaseline);
+
+        assertEquals(PasswordGeneratorBatchCLI.EXIT_OK,
+                run("--benchmark=100:200:100", "--baseline=" + slowBaseline, "--threshold=0"));
+        assertTrue(stdout.toString(StandardCharsets.UTF_8).contains("Регрессий не обнаружено"));
+
+        assertEquals(PasswordGeneratorBatchCLI.EXIT_REGRESSION,
+                run("--benchmark=100:200:100", "--baseline=" + fastBaseline));
+        assertTrue(stdout.toString(StandardCharsets.UTF_8).contains("РЕГРЕССИЯ"));
+    }
+
+    @Test
+    @DisplayName("Отсутствующий, некорректный или несопоставимый базовый отчёт не проходит проверку")
+    void testBenchmarkBaselineErrors() throws Exception {
+        assertEquals(PasswordGeneratorBatchCLI.EXIT_IO_ERROR,
+                run("--benchmark=100:200:100", "--baseline=" + tempDir.resolve("missing.json")));
+
+        Path malformed = tempDir.resolve("malformed.json");
+        Files.writeString(malformed, "{", StandardCharsets.UTF_8);
+        assertEquals(PasswordGeneratorBatchCLI.EXIT_USAGE_ERROR,
+                run("--benchmark=100:200:100", "--baseline=" + malformed));
+
+        Path otherLengths = tempDir.resolve("other.json");
+        baseline(1e15, 5000).save(otherLengths);
+        assertEquals(PasswordGeneratorBatchCLI.EXIT_USAGE_ERROR,
+                run("--benchmark=100:200:100", "--baseline=" + otherLengths));
+        assertTrue(stderr.toString(StandardCharsets.UTF_8).contains("нет ни одной длины"));
+    }
+}
@@ -0,0 +1,174 @@
+package com.passwordGenerator.ui.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса PasswordGeneratorServer.
+ * Запускают сервер на свободном порту и проверяют коды ответов и разбор параметров запроса.
+ *
+ * @author Test Suite
+ * @see PasswordGeneratorServer
+ */
+@DisplayName("PasswordGeneratorServer Tests")
+public class PasswordGeneratorServerTest {
+
+    private PasswordGeneratorServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new PasswordGeneratorServer(new InetSocketAddress("127.0.0.1", 0), 2);
+        server.start();
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    private HttpResponse<String> send(String method, String pathAndQuery) throws Exception {
+        URI uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + pathAndQuery);
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    @DisplayName("GET /generate возвращает пароли по одному на строку")
+    void testGenerateReturnsPasswords() throws Exception {
+        HttpResponse<String> response = send("GET", "/generate?length=20&count=5&charsets=latin&require=%40");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/plain"));
+        List<String> passwords = response.body().lines().toList();
+        assertEquals(5, passwords.size());
+        for (String password : passwords) {
+            assertEquals(20, password.length());
+            assertTrue(password.indexOf('@') >= 0, "В пароле нет обязательного символа: " + password);
+        }
+    }
+
+    @Test
+    @DisplayName("Без параметров возвращается один пароль длины по умолчанию")
+    void testGenerateDefaults() throws Exception {
+        HttpResponse<String> response = send("GET", "/generate");
+
+        assertEquals(200, response.statusCode());
+        assertEquals(List.of(16), response.body().lines().map(String::length).toList());
+    }
+
+    @Test
+    @DisplayName("Наборы символов в верхнем регистре принимаются и при турецкой локали")
+    void testUpperCaseCharsetsUnderTurkishLocale() throws Exception {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            HttpResponse<String> response = send("GET", "/generate?length=12&charsets=LATIN,DIGITS,SPECIAL");
+
+            assertEquals(200, response.statusCode(), response.body());
+            assertEquals(12, response.body().strip().length());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    @DisplayName("GET /health отвечает OK")
+    void testHealth() throws Exception {
+        HttpResponse<String> response = send("GET", "/health");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("OK\n", response.body());
+    }
+
+    @Test
+    @DisplayName("Некорректные параметры возвращают 400 с описанием")
+    void testInvalidParametersReturnBadRequest() throws Exception {
+        assertEquals(400, send("GET", "/generate?length=abc").statusCode());
+        assertEquals(400, send("GET", "/generate?length=0").statusCode());
+        assertEquals(400, send("GET", "/generate?count=-1").statusCode());
+        assertEquals(400, send("GET", "/generate?charsets=greek").statusCode());
+        assertEquals(400, send("GET", "/generate?charsets=").statusCode());
+
+        HttpResponse<String> response = send("GET", "/generate?charsets=greek");
+        assertTrue(response.body().contains("greek"));
+    }
+
+    @Test
+    @DisplayName("Методы кроме GET возвращают 405 с заголовком Allow")
+    void testNonGetReturnsMethodNotAllowed() throws Exception {
+        HttpResponse<String> response = send("POST", "/generate");
+
+        assertEquals(405, response.statusCode());
+        assertEquals("GET", response.headers().firstValue("Allow").orElse(null));
+    }
+
+    @Test
+    @DisplayName("Превышение лимитов количества и суммарной длины возвращает 400")
+    void testLimitsExceededReturnBadRequest() throws Exception {
+        int overCount = PasswordGeneratorServer.MAX_COUNT_PER_REQUEST + 1;
+        HttpResponse<String> tooMany = send("GET", "/generate?length=8&count=" + overCount);
+        assertEquals(400, tooMany.statusCode());
+        assertTrue(tooMany.body().contains(String.valueOf(PasswordGeneratorServer.MAX_COUNT_PER_REQUEST)));
+
+        HttpResponse<String> tooLong = send("GET", "/generate?length=1000000&count=2");
+        assertEquals(400, tooLong.statusCode());
+        assertTrue(tooLong.body().contains(String.valueOf(PasswordGeneratorServer.MAX_CHARACTERS_PER_REQUEST)));
+
+        assertEquals(200, send("GET", "/generate?length=100&count=10000").statusCode());
+    }
+
+    @Test
+    @DisplayName("parseQuery декодирует ключи и значения, пустые и повторные параметры")
+    void testParseQuery() {
+        assertTrue(PasswordGeneratorServer.parseQuery(null).isEmpty());
+        assertTrue(PasswordGeneratorServer.parseQuery("").isEmpty());
+
+        Map<String, String> parameters = PasswordGeneratorServer.parseQuery(
+                "length=12&require=%40%23+&flag&count=1&count=3&charsets=latin%2Cdigits");
+
+        assertEquals("12", parameters.get("length"));
+        assertEquals("@# ", parameters.get("require"));
+        assertEquals("", parameters.get("flag"));
+        assertEquals("3", parameters.get("count"), "Повторный параметр перекрывает предыдущий");
+        assertEquals("latin,digits", parameters.get("charsets"));
+        assertEquals("a=b", PasswordGeneratorServer.parseQuery("key=a%3Db").get("key"));
+    }
+
+    @Test
+    @DisplayName("parseCount и validateRequestSize проверяют границы")
+    void testCountLimits() {
+        assertEquals(1, PasswordGeneratorServer.parseCount(null));
+        assertEquals(7, PasswordGeneratorServer.parseCount(" 7 "));
+        assertEquals(PasswordGeneratorServer.MAX_COUNT_PER_REQUEST,
+                PasswordGeneratorServer.parseCount(String.valueOf(PasswordGeneratorServer.MAX_COUNT_PER_REQUEST)));
+        assertThrows(IllegalArgumentException.class, () -> PasswordGeneratorServer.parseCount("0"));
+        assertThrows(IllegalArgumentException.class, () -> PasswordGeneratorServer.parseCount(""));
+        assertThrows(IllegalArgumentException.class, () -> PasswordGeneratorServer.parseCount("99999999999"));
+        assertThrows(IllegalArgumentException.class, () -> PasswordGeneratorServer.parseCount(
+                String.valueOf(PasswordGeneratorServer.MAX_COUNT_PER_REQUEST + 1)));
+
+        assertDoesNotThrow(() -> PasswordGeneratorServer.validateRequestSize(1_000_000, 1));
+        assertDoesNotThrow(() -> PasswordGeneratorServer.validateRequestSize(100, 10_000));
+        assertThrows(IllegalArgumentException.class,
+                () -> PasswordGeneratorServer.validateRequestSize(1_000_000, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> PasswordGeneratorServer.validateRequestSize(Integer.MAX_VALUE, Integer.MAX_VALUE));
+    }
+}